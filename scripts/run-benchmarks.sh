@@ -0,0 +1,65 @@
+#!/bin/bash
+
+# Runs the JMH suite (profile "benchmarks") on the working tree and on a baseline ref, then writes
+# target/jmh-report.md comparing throughput and allocation per operation.
+#
+# Usage: ./scripts/run-benchmarks.sh [baseline-ref] [extra JMH args]
+#   baseline-ref         defaults to the merge-base with the upstream default branch, or HEAD~1 when on it
+#   BENCHMARK_TOLERANCE  percentage tolerated before a benchmark is flagged (default: 10)
+#
+# Each side runs its own src/jmh, so the baseline must already contain the benchmarks profile. Benchmarks
+# only present in the working tree are reported as "new".
+#
+# Exits with status 1 when any benchmark regresses beyond the tolerance.
+
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+
+default_baseline_ref() {
+    local head ref base
+    head="$(git -C "$ROOT_DIR" rev-parse HEAD)"
+    for ref in origin/HEAD origin/main origin/master main master; do
+        if base="$(git -C "$ROOT_DIR" merge-base HEAD "$ref" 2>/dev/null)" && [ "$base" != "$head" ]; then
+            echo "$base"
+            return
+        fi
+    done
+    git -C "$ROOT_DIR" rev-parse HEAD~1
+}
+
+BASELINE_REF="${1:-$(default_baseline_ref)}"
+shift || true
+JMH_ARGS="$*"
+TOLERANCE="${BENCHMARK_TOLERANCE:-10}"
+
+OUTPUT_DIR="$ROOT_DIR/target/jmh"
+BASELINE_DIR="$OUTPUT_DIR/baseline-src"
+MVN="$ROOT_DIR/mvnw"
+
+mkdir -p "$OUTPUT_DIR"
+
+echo "=== Running benchmarks on baseline ($BASELINE_REF) ==="
+git -C "$ROOT_DIR" worktree remove --force "$BASELINE_DIR" 2>/dev/null || true
+git -C "$ROOT_DIR" worktree add --detach "$BASELINE_DIR" "$BASELINE_REF"
+trap 'git -C "$ROOT_DIR" worktree remove --force "$BASELINE_DIR"' EXIT
+
+if ! grep -q "<id>benchmarks</id>" "$BASELINE_DIR/pom.xml"; then
+    echo "Baseline $BASELINE_REF has no benchmarks profile; pick a more recent ref" >&2
+    exit 2
+fi
+
+# The working tree benchmarks may use classes the baseline does not have, so each side builds its own
+(cd "$BASELINE_DIR" && "$MVN" -B -Pbenchmarks test-compile exec:exec@run-benchmarks \
+    -Djmh.result="$OUTPUT_DIR/baseline.json" -Djmh.args="$JMH_ARGS")
+
+echo "=== Running benchmarks on working tree ==="
+(cd "$ROOT_DIR" && "$MVN" -B -Pbenchmarks test-compile exec:exec@run-benchmarks \
+    -Djmh.result="$OUTPUT_DIR/current.json" -Djmh.args="$JMH_ARGS")
+
+echo "=== Comparing results ==="
+(cd "$ROOT_DIR" && "$MVN" -B -q -Pbenchmarks exec:java@compare-benchmarks \
+    -Djmh.baseline="$OUTPUT_DIR/baseline.json" \
+    -Djmh.result="$OUTPUT_DIR/current.json" \
+    -Djmh.report="$ROOT_DIR/target/jmh-report.md" \
+    -Djmh.tolerance="$TOLERANCE")
@@ -0,0 +1,124 @@
+package com.btg.challenge.orders.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Compares two JMH JSON result files and writes a Markdown report. Exits with status 1 when any benchmark
+ * loses more throughput, or allocates more per operation, than the tolerated percentage.
+ */
+public final class BenchmarkComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final double DEFAULT_TOLERANCE_PERCENT = 10.0;
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> <report.md> [tolerance-percent]");
+            System.exit(2);
+        }
+
+        double tolerance = args.length > 3 ? Double.parseDouble(args[3]) : DEFAULT_TOLERANCE_PERCENT;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        StringBuilder report = new StringBuilder()
+                .append("| Benchmark | Baseline ops/s | Current ops/s | Delta ops/s | Baseline B/op | Current B/op | Delta B/op | Status |\n")
+                .append("|---|---:|---:|---:|---:|---:|---:|---|\n");
+        int regressions = 0;
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result now = entry.getValue();
+            Result before = baseline.get(entry.getKey());
+            if (before == null) {
+                report.append(row(entry.getKey(), null, now, "new"));
+                continue;
+            }
+
+            double throughputDelta = percentChange(before.throughput(), now.throughput());
+            double allocationDelta = percentChange(before.allocation(), now.allocation());
+            boolean regressed = throughputDelta < -tolerance || allocationDelta > tolerance;
+            if (regressed) {
+                regressions++;
+            }
+            report.append(row(entry.getKey(), before, now, regressed ? "REGRESSION" : "ok"));
+        }
+        report.append('\n')
+                .append(String.format(Locale.ROOT, "%d regression(s) beyond %.1f%% tolerance.%n", regressions, tolerance));
+
+        Files.writeString(Path.of(args[2]), report);
+        System.out.print(report);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Result> read(Path path) throws IOException {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(path.toFile())) {
+            results.put(key(run), new Result(
+                    run.path("primaryMetric").path("score").asDouble(),
+                    allocation(run.path("secondaryMetrics"))));
+        }
+        return results;
+    }
+
+    private static String key(JsonNode run) {
+        String benchmark = run.path("benchmark").asText();
+        String name = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+        Map<String, String> params = new TreeMap<>();
+        run.path("params").properties().forEach(param -> params.put(param.getKey(), param.getValue().asText()));
+        return params.isEmpty() ? name : name + params.entrySet().stream()
+                .map(param -> param.getKey() + "=" + param.getValue())
+                .collect(Collectors.joining(", ", " [", "]"));
+    }
+
+    // Older JMH releases prefix secondary metric names with a middle dot
+    private static double allocation(JsonNode secondaryMetrics) {
+        JsonNode metric = secondaryMetrics.has(ALLOCATION_METRIC)
+                ? secondaryMetrics.get(ALLOCATION_METRIC)
+                : secondaryMetrics.path("\u00b7" + ALLOCATION_METRIC);
+        return metric.path("score").asDouble(Double.NaN);
+    }
+
+    private static double percentChange(double before, double now) {
+        if (Double.isNaN(before) || Double.isNaN(now) || before == 0) {
+            return 0;
+        }
+        return (now - before) / before * 100;
+    }
+
+    private static String row(String name, Result before, Result now, String status) {
+        return String.format(Locale.ROOT, "| %s | %s | %.0f | %s | %s | %s | %s | %s |%n",
+                name,
+                before != null ? String.format(Locale.ROOT, "%.0f", before.throughput()) : "-",
+                now.throughput(),
+                before != null ? signed(percentChange(before.throughput(), now.throughput())) : "-",
+                before != null ? bytes(before.allocation()) : "-",
+                bytes(now.allocation()),
+                before != null ? signed(percentChange(before.allocation(), now.allocation())) : "-",
+                status);
+    }
+
+    private static String signed(double percent) {
+        return String.format(Locale.ROOT, "%+.1f%%", percent);
+    }
+
+    private static String bytes(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.0f", value);
+    }
+
+    private record Result(double throughput, double allocation) {
+    }
+}
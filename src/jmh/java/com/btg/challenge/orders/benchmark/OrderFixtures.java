@@ -0,0 +1,85 @@
+package com.btg.challenge.orders.benchmark;
+
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import com.btg.challenge.orders.infra.repository.model.OrderItemData;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+final class OrderFixtures {
+
+    static final long ORDER_ID = 1001L;
+    static final long CUSTOMER_ID = 1L;
+
+    private OrderFixtures() {
+    }
+
+    static OrderMessage orderMessage(int itemCount) {
+        List<OrderItemMessage> items = IntStream.range(0, itemCount)
+                .mapToObj(index -> new OrderItemMessage("product-" + index, 1 + index % 10, price(index).toBigDecimal()))
+                .toList();
+        return new OrderMessage(ORDER_ID, CUSTOMER_ID, items);
+    }
+
+    static String orderMessageJson(int itemCount) {
+        StringBuilder json = new StringBuilder()
+                .append("{\"codigoPedido\":").append(ORDER_ID)
+                .append(",\"codigoCliente\":").append(CUSTOMER_ID)
+                .append(",\"itens\":[");
+        for (int index = 0; index < itemCount; index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append("{\"produto\":\"product-").append(index)
+                    .append("\",\"quantidade\":").append(1 + index % 10)
+                    .append(",\"preco\":").append(price(index))
+                    .append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    static Order order(int itemCount) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int index = 0; index < itemCount; index++) {
+            items.add(new OrderItem("product-" + index, 1 + index % 10, price(index)));
+        }
+        return new Order(ORDER_ID, CUSTOMER_ID, items);
+    }
+
+    static OrderData orderData(int itemCount) {
+        Order order = order(itemCount);
+        OrderData orderData = OrderData.builder()
+                .orderId(ORDER_ID)
+                .customer(CustomerData.builder().customerId(CUSTOMER_ID).build())
+                .totalAmount(order.getTotalAmount().toBigDecimal())
+                .itemsCount(order.getItemsCount())
+                .createdAt(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .build();
+        List<OrderItemData> items = new ArrayList<>(itemCount);
+        for (int index = 0; index < itemCount; index++) {
+            OrderItem item = order.getItems().get(index);
+            items.add(OrderItemData.builder()
+                    .itemId((long) index + 1)
+                    .order(orderData)
+                    .product(item.getProduct())
+                    .quantity(item.getQuantity())
+                    .price(item.getPrice().toBigDecimal())
+                    .totalPrice(item.getTotalPrice().toBigDecimal())
+                    .build());
+        }
+        orderData.setItems(items);
+        return orderData;
+    }
+
+    private static Money price(int index) {
+        return Money.ofCents(100 + index % 900);
+    }
+}
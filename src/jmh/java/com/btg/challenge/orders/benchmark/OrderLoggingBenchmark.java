@@ -0,0 +1,129 @@
+package com.btg.challenge.orders.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.logging.LogSampler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message logging cost of the ingest path: the previous five unconditional INFO lines
+ * against level-guarded DEBUG lines plus one sampled INFO line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderLoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} %5p --- [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    @Param({"100"})
+    private int sampleRate;
+
+    private LoggerContext context;
+    private Logger consumerLog;
+    private Logger serviceLog;
+    private Logger useCaseLog;
+    private LogSampler logSampler;
+    private Order order;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(context);
+        output.setEncoder(encoder);
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> root = output;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setIncludeCallerData(false);
+            async.addAppender(output);
+            async.start();
+            root = async;
+        }
+
+        Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.detachAndStopAllAppenders();
+        rootLogger.addAppender(root);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        consumerLog = context.getLogger("com.btg.challenge.orders.infra.mqprovider.consumer.OrderConsumer");
+        serviceLog = context.getLogger("com.btg.challenge.orders.app.service.impl.OrderMessagingServiceImpl");
+        useCaseLog = context.getLogger("com.btg.challenge.orders.domain.usecase.ProcessOrderUseCase");
+        logSampler = new LogSampler(sampleRate);
+        order = OrderFixtures.order(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void eagerInfo() {
+        consumerLog.info("Received order message: orderId={}, customerId={}", order.getOrderId(), order.getCustomerId());
+        serviceLog.info("Processing order message: orderId={}, customerId={}", order.getOrderId(), order.getCustomerId());
+        useCaseLog.info("Processing order: orderId={}, customerId={}", order.getOrderId(), order.getCustomerId());
+        useCaseLog.info("Order processed successfully: orderId={}, totalAmount={}, itemsCount={}",
+                order.getOrderId(), order.getTotalAmount(), order.getItemsCount());
+        serviceLog.info("Order message processed successfully: orderId={}", order.getOrderId());
+    }
+
+    @Benchmark
+    public void guardedAndSampled() {
+        if (consumerLog.isDebugEnabled()) {
+            consumerLog.debug("Received order message: orderId={}, customerId={}", order.getOrderId(), order.getCustomerId());
+        }
+        if (serviceLog.isDebugEnabled()) {
+            serviceLog.debug("Processing order message: orderId={}, customerId={}", order.getOrderId(), order.getCustomerId());
+        }
+        if (useCaseLog.isDebugEnabled()) {
+            useCaseLog.debug("Processing order: orderId={}, customerId={}", order.getOrderId(), order.getCustomerId());
+        }
+        if (useCaseLog.isDebugEnabled()) {
+            useCaseLog.debug("Order processed successfully: orderId={}, totalAmount={}, itemsCount={}",
+                    order.getOrderId(), order.getTotalAmount(), order.getItemsCount());
+        }
+        if (logSampler.sample() && serviceLog.isInfoEnabled()) {
+            serviceLog.info("Order message processed: orderId={}, customerId={}, outcome={}",
+                    order.getOrderId(), order.getCustomerId(), "ok");
+        }
+    }
+}
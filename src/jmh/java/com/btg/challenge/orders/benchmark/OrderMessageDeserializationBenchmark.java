@@ -0,0 +1,81 @@
+package com.btg.challenge.orders.benchmark;
+
+import com.btg.challenge.orders.app.mapper.OrderMessageMapper;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.mqprovider.consumer.OrderStreamingMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMessageDeserializationBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private ObjectReader reader;
+    private Jackson2JsonMessageConverter converter;
+    private OrderMessageMapper mapper;
+    private OrderStreamingMessageConverter streamingConverter;
+    private byte[] body;
+    private Message message;
+
+    @Setup
+    public void setUp() {
+        reader = new ObjectMapper().readerFor(OrderMessage.class);
+        converter = new Jackson2JsonMessageConverter();
+        mapper = new OrderMessageMapper();
+        streamingConverter = new OrderStreamingMessageConverter();
+        body = OrderFixtures.orderMessageJson(itemCount).getBytes(StandardCharsets.UTF_8);
+
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setInferredArgumentType(OrderMessage.class);
+        message = new Message(body, properties);
+    }
+
+    @Benchmark
+    public OrderMessage objectReader() throws IOException {
+        return reader.readValue(body);
+    }
+
+    // Same converter the listener containers are configured with in RabbitMQConfig
+    @Benchmark
+    public Object messageConverter() {
+        return converter.fromMessage(message);
+    }
+
+    // Previous unitary listener path: bind OrderMessage, then map it to the domain order
+    @Benchmark
+    public Order messageConverterAndMapper() {
+        return mapper.toDomain((OrderMessage) converter.fromMessage(message));
+    }
+
+    @Benchmark
+    public Order streamingConverter() {
+        return streamingConverter.fromMessage(message);
+    }
+}
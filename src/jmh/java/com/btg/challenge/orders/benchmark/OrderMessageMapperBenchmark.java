@@ -0,0 +1,44 @@
+package com.btg.challenge.orders.benchmark;
+
+import com.btg.challenge.orders.app.mapper.OrderMessageMapper;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMessageMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private OrderMessageMapper mapper;
+    private OrderMessage message;
+
+    @Setup
+    public void setUp() {
+        mapper = new OrderMessageMapper();
+        message = OrderFixtures.orderMessage(itemCount);
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return mapper.toDomain(message);
+    }
+}
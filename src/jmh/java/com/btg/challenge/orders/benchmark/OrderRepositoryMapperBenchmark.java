@@ -0,0 +1,58 @@
+package com.btg.challenge.orders.benchmark;
+
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderItemRepositoryMapper;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderRepositoryMapper;
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderRepositoryMapperBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    @Param({"false", "true"})
+    private boolean verifyTotalsOnLoad;
+
+    private OrderRepositoryMapper mapper;
+    private Order order;
+    private CustomerData customer;
+    private OrderData orderData;
+
+    @Setup
+    public void setUp() {
+        mapper = new OrderRepositoryMapper(new OrderItemRepositoryMapper(), verifyTotalsOnLoad);
+        order = OrderFixtures.order(itemCount);
+        customer = CustomerData.builder().customerId(OrderFixtures.CUSTOMER_ID).build();
+        orderData = OrderFixtures.orderData(itemCount);
+    }
+
+    @Benchmark
+    public OrderData toData() {
+        return mapper.toData(order, customer);
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return mapper.toDomain(orderData);
+    }
+}
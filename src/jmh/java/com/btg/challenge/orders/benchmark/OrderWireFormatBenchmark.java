@@ -0,0 +1,77 @@
+package com.btg.challenge.orders.benchmark;
+
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.mqprovider.Jackson2CborMessageConverter;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.mqprovider.consumer.OrderStreamingMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode cost of the unitary listener path for each wire format. The {@code bodyBytes} secondary
+ * result reports the payload size on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderWireFormatBenchmark {
+
+    @Param({"10", "1000"})
+    private int itemCount;
+
+    private OrderStreamingMessageConverter jsonConverter;
+    private OrderStreamingMessageConverter cborConverter;
+    private Message jsonMessage;
+    private Message cborMessage;
+
+    @Setup
+    public void setUp() throws IOException {
+        OrderMessage orderMessage = new ObjectMapper()
+                .readValue(OrderFixtures.orderMessageJson(itemCount), OrderMessage.class);
+
+        jsonConverter = new OrderStreamingMessageConverter();
+        cborConverter = new OrderStreamingMessageConverter(new CBORFactory(), new Jackson2CborMessageConverter());
+        jsonMessage = new Jackson2JsonMessageConverter().toMessage(orderMessage, new MessageProperties());
+        cborMessage = new Jackson2CborMessageConverter().toMessage(orderMessage, new MessageProperties());
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class WireSize {
+
+        public long bodyBytes;
+    }
+
+    @Benchmark
+    public Order json(WireSize wireSize) {
+        wireSize.bodyBytes = jsonMessage.getBody().length;
+        return jsonConverter.fromMessage(jsonMessage);
+    }
+
+    @Benchmark
+    public Order cbor(WireSize wireSize) {
+        wireSize.bodyBytes = cborMessage.getBody().length;
+        return cborConverter.fromMessage(cborMessage);
+    }
+}
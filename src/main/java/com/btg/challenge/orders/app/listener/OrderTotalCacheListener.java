@@ -0,0 +1,23 @@
+package com.btg.challenge.orders.app.listener;
+
+import com.btg.challenge.orders.app.mapper.OrderMapper;
+import com.btg.challenge.orders.domain.event.OrdersPersistedEvent;
+import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class OrderTotalCacheListener {
+
+    private final Cache<Long, OrderTotalResponse> orderTotalsCache;
+    private final OrderMapper orderMapper;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrdersPersisted(OrdersPersistedEvent event) {
+        event.orders().forEach(order ->
+                orderTotalsCache.put(order.getOrderId(), orderMapper.toOrderTotalResponse(order)));
+    }
+}
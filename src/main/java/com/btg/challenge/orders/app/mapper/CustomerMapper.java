@@ -2,11 +2,13 @@ package com.btg.challenge.orders.app.mapper;
 
 import com.btg.challenge.orders.domain.entity.Customer;
 import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
 import com.btg.challenge.orders.model.CustomerOrderCountResponse;
 import com.btg.challenge.orders.model.CustomerOrdersResponse;
 import com.btg.challenge.orders.model.OrderSummary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -16,6 +18,7 @@ import java.util.List;
 public class CustomerMapper {
 
     private final OrderMapper orderMapper;
+    private final OrderCursorMapper orderCursorMapper;
 
     public CustomerOrderCountResponse toOrderCountResponse(Long customerId, long orderCount) {
         CustomerOrderCountResponse response = new CustomerOrderCountResponse();
@@ -44,6 +47,21 @@ public class CustomerMapper {
         return response;
     }
 
+    public CustomerOrdersResponse toCustomerOrdersResponse(Long customerId, Slice<Order> orderSlice) {
+        CustomerOrdersResponse response = new CustomerOrdersResponse();
+        response.setCustomerId(customerId);
+        response.setOrders(orderSlice.getContent().stream()
+                .map(orderMapper::toOrderSummary)
+                .toList());
+        response.setPageSize(orderSlice.getSize());
+
+        if (orderSlice.hasNext()) {
+            response.setNextCursor(orderCursorMapper.toToken(OrderCursor.of(orderSlice.getContent().getLast())));
+        }
+
+        return response;
+    }
+
     public CustomerOrdersResponse toCustomerOrdersResponse(Customer customer, Page<Order> orderPage) {
         CustomerOrdersResponse response = toCustomerOrdersResponse(orderPage);
         response.setCustomerId(customer != null ? customer.getCustomerId() : null);
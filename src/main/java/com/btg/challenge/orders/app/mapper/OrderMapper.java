@@ -2,6 +2,7 @@ package com.btg.challenge.orders.app.mapper;
 
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
 import com.btg.challenge.orders.model.OrderItemSummary;
 import com.btg.challenge.orders.model.OrderSummary;
 import com.btg.challenge.orders.model.OrderTotalResponse;
@@ -15,9 +16,13 @@ import java.util.List;
 public class OrderMapper {
 
     public OrderTotalResponse toOrderTotalResponse(Order order) {
+        return toOrderTotalResponse(OrderTotal.of(order));
+    }
+
+    public OrderTotalResponse toOrderTotalResponse(OrderTotal orderTotal) {
         OrderTotalResponse response = new OrderTotalResponse();
-        response.setOrderId(order.getOrderId());
-        response.setTotal(order.getTotalAmount().doubleValue());
+        response.setOrderId(orderTotal.orderId());
+        response.setTotal(orderTotal.totalAmount().toDouble());
         response.setCurrency("BRL");
         return response;
     }
@@ -26,7 +31,7 @@ public class OrderMapper {
         OrderSummary summary = new OrderSummary();
         summary.setOrderId(order.getOrderId());
         summary.setCustomerId(order.getCustomerId());
-        summary.setTotalAmount(order.getTotalAmount());
+        summary.setTotalAmount(order.getTotalAmount().toBigDecimal());
         summary.setItemsCount(order.getItemsCount());
         summary.setCreatedAt(order.getCreatedAt());
 
@@ -44,7 +49,7 @@ public class OrderMapper {
         OrderItemSummary itemSummary = new OrderItemSummary();
         itemSummary.setProduct(domainItem.getProduct());
         itemSummary.setQuantity(domainItem.getQuantity());
-        itemSummary.setPrice(domainItem.getPrice().doubleValue());
+        itemSummary.setPrice(domainItem.getPrice().toDouble());
         return itemSummary;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.btg.challenge.orders.app.mapper;
 
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
@@ -27,7 +28,7 @@ public class OrderMessageMapper {
         return new OrderItem(
                 itemMessage.getProduto(),
                 itemMessage.getQuantidade(),
-                itemMessage.getPreco()
+                Money.ofNullable(itemMessage.getPreco())
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.btg.challenge.orders.app.mapper;
+
+import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.mqprovider.producer.OrderPublishResult;
+import com.btg.challenge.orders.model.OrderReplayRequest;
+import com.btg.challenge.orders.model.OrderReplayResponse;
+import com.btg.challenge.orders.model.ReplayOrder;
+import com.btg.challenge.orders.model.ReplayOrderItem;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class OrderReplayMapper {
+
+    public List<OrderMessage> toOrderMessages(OrderReplayRequest request) {
+        return request.getOrders().stream()
+                .map(this::toOrderMessage)
+                .toList();
+    }
+
+    public OrderReplayResponse toOrderReplayResponse(OrderPublishResult result) {
+        OrderReplayResponse response = new OrderReplayResponse();
+        response.setRequested(result.requested());
+        response.setConfirmed(result.confirmed());
+        response.setFailedOrderIds(result.failedOrderIds());
+        return response;
+    }
+
+    private OrderMessage toOrderMessage(ReplayOrder order) {
+        List<OrderItemMessage> items = order.getItens().stream()
+                .map(this::toOrderItemMessage)
+                .toList();
+
+        return new OrderMessage(order.getCodigoPedido(), order.getCodigoCliente(), items);
+    }
+
+    private OrderItemMessage toOrderItemMessage(ReplayOrderItem item) {
+        return new OrderItemMessage(item.getProduto(), item.getQuantidade(), item.getPreco());
+    }
+}
@@ -0,0 +1,43 @@
+package com.btg.challenge.orders.app.resource;
+
+import com.btg.challenge.orders.api.AdminApiDelegate;
+import com.btg.challenge.orders.app.service.OrderReplayService;
+import com.btg.challenge.orders.infra.config.AsyncConfig;
+import com.btg.challenge.orders.infra.exception.ServiceOverloadedException;
+import com.btg.challenge.orders.model.OrderReplayRequest;
+import com.btg.challenge.orders.model.OrderReplayResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Component
+public class AdminResource implements AdminApiDelegate {
+
+    private final OrderReplayService orderReplayService;
+    private final ExecutorService replayExecutor;
+
+    public AdminResource(OrderReplayService orderReplayService,
+                         @Qualifier(AsyncConfig.REPLAY_EXECUTOR) ExecutorService replayExecutor) {
+        this.orderReplayService = orderReplayService;
+        this.replayExecutor = replayExecutor;
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<OrderReplayResponse>> replayOrders(OrderReplayRequest orderReplayRequest) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                log.info("Replaying orders: size={}", orderReplayRequest.getOrders().size());
+                return ResponseEntity.ok(orderReplayService.replayOrders(orderReplayRequest));
+            }, replayExecutor);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Replay rejected by executor: {}", ex.getMessage());
+            return CompletableFuture.failedFuture(new ServiceOverloadedException("Replay executor is shut down", ex));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.btg.challenge.orders.app.resource;
 
 import com.btg.challenge.orders.api.CustomersApiDelegate;
 import com.btg.challenge.orders.app.service.CustomerService;
+import com.btg.challenge.orders.infra.async.BlockingTaskExecutor;
 import com.btg.challenge.orders.model.CustomerOrderCountResponse;
 import com.btg.challenge.orders.model.CustomerOrdersResponse;
 import lombok.RequiredArgsConstructor;
@@ -17,20 +18,34 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class CustomersResource implements CustomersApiDelegate {
 
+    private static final String CURSOR_PAGINATION = "cursor";
+
     private final CustomerService customerService;
+    private final BlockingTaskExecutor blockingTaskExecutor;
 
     @Override
     public CompletableFuture<ResponseEntity<CustomerOrderCountResponse>> getCustomerOrderCount(Long customerId) {
-        return CompletableFuture.supplyAsync(() -> {
-            log.info("Getting order count for customerId: {}", customerId);
+        return blockingTaskExecutor.supply(() -> {
+            log.debug("Getting order count for customerId: {}", customerId);
             return ResponseEntity.ok(customerService.getOrderCount(customerId));
         });
     }
 
     @Override
-    public CompletableFuture<ResponseEntity<CustomerOrdersResponse>> getCustomerOrders(Long customerId, Integer page, Integer size, Pageable pageable) {
-        return CompletableFuture.supplyAsync(() -> {
-            log.info("Getting orders for customerId: {}, pageable: {}", customerId, pageable);
+    public CompletableFuture<ResponseEntity<CustomerOrdersResponse>> getCustomerOrders(Long customerId, Integer page, Integer size,
+                                                                                      String pagination, String after, Pageable pageable) {
+        if (after != null || CURSOR_PAGINATION.equals(pagination)) {
+            return blockingTaskExecutor.supply(() -> {
+                if (log.isDebugEnabled()) {
+                    log.debug("Getting orders for customerId: {}, after: {}, size: {}", customerId, after, pageable.getPageSize());
+                }
+                CustomerOrdersResponse response = customerService.getCustomerOrdersAfter(customerId, after, pageable.getPageSize());
+                return ResponseEntity.ok(response);
+            });
+        }
+
+        return blockingTaskExecutor.supply(() -> {
+            log.debug("Getting orders for customerId: {}, pageable: {}", customerId, pageable);
             CustomerOrdersResponse response = customerService.getCustomerOrders(customerId, pageable);
             return ResponseEntity.ok(response);
         });
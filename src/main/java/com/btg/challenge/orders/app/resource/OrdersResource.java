@@ -2,7 +2,10 @@ package com.btg.challenge.orders.app.resource;
 
 import com.btg.challenge.orders.api.OrdersApiDelegate;
 import com.btg.challenge.orders.app.service.OrderService;
+import com.btg.challenge.orders.infra.async.BlockingTaskExecutor;
 import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.btg.challenge.orders.model.OrderTotalsRequest;
+import com.btg.challenge.orders.model.OrderTotalsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -16,9 +19,16 @@ import java.util.concurrent.CompletableFuture;
 public class OrdersResource implements OrdersApiDelegate {
 
     private final OrderService orderService;
+    private final BlockingTaskExecutor blockingTaskExecutor;
 
     @Override
     public CompletableFuture<ResponseEntity<OrderTotalResponse>> getOrderTotal(Long orderId) {
-        return CompletableFuture.supplyAsync(() -> ResponseEntity.ok(orderService.getOrderTotal(orderId)));
+        return blockingTaskExecutor.supply(() -> ResponseEntity.ok(orderService.getOrderTotal(orderId)));
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<OrderTotalsResponse>> getOrderTotals(OrderTotalsRequest orderTotalsRequest) {
+        return blockingTaskExecutor.supply(() ->
+                ResponseEntity.ok(orderService.getOrderTotals(orderTotalsRequest.getOrderIds())));
     }
 }
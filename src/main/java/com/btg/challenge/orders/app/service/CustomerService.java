@@ -9,4 +9,6 @@ public interface CustomerService {
     CustomerOrderCountResponse getOrderCount(Long customerId);
 
     CustomerOrdersResponse getCustomerOrders(Long customerId, Pageable pageable);
+
+    CustomerOrdersResponse getCustomerOrdersAfter(Long customerId, String after, int size);
 }
@@ -1,7 +1,14 @@
 package com.btg.challenge.orders.app.service;
 
+import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
 
+import java.util.List;
+
 public interface OrderMessagingService {
     void processOrderMessage(OrderMessage orderMessage);
+
+    void processOrder(Order order);
+
+    List<OrderMessage> processOrderBatch(List<OrderMessage> orderMessages);
 }
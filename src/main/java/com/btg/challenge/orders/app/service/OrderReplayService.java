@@ -0,0 +1,8 @@
+package com.btg.challenge.orders.app.service;
+
+import com.btg.challenge.orders.model.OrderReplayRequest;
+import com.btg.challenge.orders.model.OrderReplayResponse;
+
+public interface OrderReplayService {
+    OrderReplayResponse replayOrders(OrderReplayRequest request);
+}
@@ -1,7 +1,12 @@
 package com.btg.challenge.orders.app.service;
 
 import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.btg.challenge.orders.model.OrderTotalsResponse;
+
+import java.util.List;
 
 public interface OrderService {
     OrderTotalResponse getOrderTotal(Long orderId);
+
+    OrderTotalsResponse getOrderTotals(List<Long> orderIds);
 }
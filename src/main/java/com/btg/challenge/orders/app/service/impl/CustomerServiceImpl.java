@@ -1,6 +1,7 @@
 package com.btg.challenge.orders.app.service.impl;
 
 import com.btg.challenge.orders.app.mapper.CustomerMapper;
+import com.btg.challenge.orders.app.mapper.OrderCursorMapper;
 import com.btg.challenge.orders.app.service.CustomerService;
 import com.btg.challenge.orders.domain.usecase.GetCustomerOrderCountUseCase;
 import com.btg.challenge.orders.domain.usecase.GetCustomerOrdersUseCase;
@@ -17,6 +18,7 @@ public class CustomerServiceImpl implements CustomerService {
     private final GetCustomerOrderCountUseCase getOrderCountUseCase;
     private final GetCustomerOrdersUseCase getCustomerOrdersUseCase;
     private final CustomerMapper customerMapper;
+    private final OrderCursorMapper orderCursorMapper;
 
     @Override
     public CustomerOrderCountResponse getOrderCount(Long customerId) {
@@ -29,4 +31,11 @@ public class CustomerServiceImpl implements CustomerService {
         var customerOrdersPage = getCustomerOrdersUseCase.execute(customerId, pageable);
         return customerMapper.toCustomerOrdersResponse(customerOrdersPage);
     }
+
+    @Override
+    public CustomerOrdersResponse getCustomerOrdersAfter(Long customerId, String after, int size) {
+        var cursor = after != null ? orderCursorMapper.fromToken(after) : null;
+        var customerOrdersSlice = getCustomerOrdersUseCase.executeAfter(customerId, cursor, size);
+        return customerMapper.toCustomerOrdersResponse(customerId, customerOrdersSlice);
+    }
 }
\ No newline at end of file
@@ -4,13 +4,24 @@ import com.btg.challenge.orders.app.service.OrderMessagingService;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.usecase.ProcessOrderUseCase;
 import com.btg.challenge.orders.infra.exception.OrderMessageNullException;
+import com.btg.challenge.orders.infra.logging.LogSampler;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Outcome;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Stage;
 import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
 import com.btg.challenge.orders.app.mapper.OrderMessageMapper;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,6 +29,8 @@ public class OrderMessagingServiceImpl implements OrderMessagingService {
 
     private final ProcessOrderUseCase processOrderUseCase;
     private final OrderMessageMapper orderMessageMapper;
+    private final OrderPipelineMetrics pipelineMetrics;
+    private final LogSampler logSampler;
 
     @Override
     @Transactional
@@ -25,25 +38,93 @@ public class OrderMessagingServiceImpl implements OrderMessagingService {
         if (orderMessage == null) {
             throw new OrderMessageNullException();
         }
-        log.info("Processing order message: orderId={}, customerId={}",
-                orderMessage.getCodigoPedido(), orderMessage.getCodigoCliente());
+        if (log.isDebugEnabled()) {
+            log.debug("Processing order message: orderId={}, customerId={}",
+                    orderMessage.getCodigoPedido(), orderMessage.getCodigoCliente());
+        }
+
+        process(orderMessage.getCodigoPedido(), pipelineMetrics.start(),
+                () -> pipelineMetrics.stage(Stage.MAP, () -> orderMessageMapper.toDomain(orderMessage)));
+    }
+
+    @Override
+    @Transactional
+    public void processOrder(Order order) {
+        if (order == null) {
+            throw new OrderMessageNullException();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Processing order message: orderId={}, customerId={}",
+                    order.getOrderId(), order.getCustomerId());
+        }
 
+        process(order.getOrderId(), pipelineMetrics.start(), () -> order);
+    }
+
+    // Decoded orders skip the MAP stage; the message timer covers both entry points
+    private void process(Long orderId, Timer.Sample sample, Supplier<Order> decode) {
+        Outcome outcome = Outcome.ERROR;
         try {
-            Order order = orderMessageMapper.toDomain(orderMessage);
-            processOrderUseCase.execute(order);
+            Order order = decode.get();
+            outcome = processOrderUseCase.execute(order) ? Outcome.OK : Outcome.DUPLICATE;
 
-            log.info("Order message processed successfully: orderId={}",
-                    orderMessage.getCodigoPedido());
+            if (logSampler.sample() && log.isInfoEnabled()) {
+                log.info("Order message processed: orderId={}, customerId={}, outcome={}",
+                        order.getOrderId(), order.getCustomerId(), outcome);
+            }
 
         } catch (IllegalArgumentException e) {
+            outcome = Outcome.INVALID;
             log.error("Invalid order message: orderId={}, error={}",
-                    orderMessage.getCodigoPedido(), e.getMessage());
+                    orderId, e.getMessage());
             throw e;
 
         } catch (Exception e) {
             log.error("Error processing order message: orderId={}, error={}",
-                    orderMessage.getCodigoPedido(), e.getMessage(), e);
+                    orderId, e.getMessage(), e);
             throw e;
+
+        } finally {
+            pipelineMetrics.message(sample, outcome);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public List<OrderMessage> processOrderBatch(List<OrderMessage> orderMessages) {
+        if (log.isDebugEnabled()) {
+            log.debug("Processing order batch: size={}", orderMessages.size());
+        }
+
+        List<OrderMessage> rejected = new ArrayList<>();
+        List<Order> orders = new ArrayList<>(orderMessages.size());
+        Map<Order, OrderMessage> sources = new IdentityHashMap<>(orderMessages.size());
+
+        for (OrderMessage orderMessage : orderMessages) {
+            try {
+                Order order = pipelineMetrics.stage(Stage.MAP, () -> orderMessageMapper.toDomain(orderMessage));
+                if (order == null) {
+                    throw new OrderMessageNullException();
+                }
+                orders.add(order);
+                sources.put(order, orderMessage);
+
+            } catch (RuntimeException e) {
+                log.error("Invalid order message: orderId={}, error={}",
+                        orderMessage != null ? orderMessage.getCodigoPedido() : null, e.getMessage());
+                rejected.add(orderMessage);
+            }
+        }
+
+        pipelineMetrics.messages(Outcome.INVALID, rejected.size());
+
+        processOrderUseCase.executeBatch(orders)
+                .forEach(invalidOrder -> rejected.add(sources.get(invalidOrder)));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Order batch processed: size={}, rejected={}", orderMessages.size(), rejected.size());
+        }
+
+        return rejected;
+    }
+}
@@ -0,0 +1,23 @@
+package com.btg.challenge.orders.app.service.impl;
+
+import com.btg.challenge.orders.app.mapper.OrderReplayMapper;
+import com.btg.challenge.orders.app.service.OrderReplayService;
+import com.btg.challenge.orders.infra.mqprovider.producer.OrderPublisher;
+import com.btg.challenge.orders.model.OrderReplayRequest;
+import com.btg.challenge.orders.model.OrderReplayResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class OrderReplayServiceImpl implements OrderReplayService {
+
+    private final OrderPublisher orderPublisher;
+    private final OrderReplayMapper orderReplayMapper;
+
+    @Override
+    public OrderReplayResponse replayOrders(OrderReplayRequest request) {
+        var result = orderPublisher.publishAll(orderReplayMapper.toOrderMessages(request));
+        return orderReplayMapper.toOrderReplayResponse(result);
+    }
+}
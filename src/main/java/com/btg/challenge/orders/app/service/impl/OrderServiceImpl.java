@@ -2,24 +2,69 @@ package com.btg.challenge.orders.app.service.impl;
 
 import com.btg.challenge.orders.app.mapper.OrderMapper;
 import com.btg.challenge.orders.app.service.OrderService;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
 import com.btg.challenge.orders.domain.usecase.GetOrderTotalUseCase;
+import com.btg.challenge.orders.domain.usecase.GetOrderTotalsUseCase;
 import com.btg.challenge.orders.infra.exception.OrderNotFoundException;
 import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.btg.challenge.orders.model.OrderTotalsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 
     private final GetOrderTotalUseCase getOrderTotalUseCase;
+    private final GetOrderTotalsUseCase getOrderTotalsUseCase;
     private final OrderMapper orderResponseMapper;
+    private final Cache<Long, OrderTotalResponse> orderTotalsCache;
 
     @Override
     public OrderTotalResponse getOrderTotal(Long orderId) {
+        if (orderId == null) {
+            return loadOrderTotal(null);
+        }
+        return orderTotalsCache.get(orderId, this::loadOrderTotal);
+    }
+
+    @Override
+    public OrderTotalsResponse getOrderTotals(List<Long> orderIds) {
+        Set<Long> requestedIds = orderIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        // Only the ids missing from the cache reach the database, in a single query
+        Map<Long, OrderTotalResponse> totalsById = orderTotalsCache.getAll(requestedIds, this::loadOrderTotals);
+
+        OrderTotalsResponse response = new OrderTotalsResponse();
+        response.setTotals(requestedIds.stream()
+                .map(totalsById::get)
+                .filter(Objects::nonNull)
+                .toList());
+        response.setMissingOrderIds(requestedIds.stream()
+                .filter(orderId -> !totalsById.containsKey(orderId))
+                .toList());
+        return response;
+    }
+
+    private OrderTotalResponse loadOrderTotal(Long orderId) {
         var orderTotal = getOrderTotalUseCase.execute(orderId)
                 .orElseThrow(() -> new OrderNotFoundException(orderId));
 
         return orderResponseMapper.toOrderTotalResponse(orderTotal);
     }
+
+    private Map<Long, OrderTotalResponse> loadOrderTotals(Set<? extends Long> orderIds) {
+        return getOrderTotalsUseCase.execute(List.copyOf(orderIds)).stream()
+                .collect(Collectors.toMap(OrderTotal::orderId, orderResponseMapper::toOrderTotalResponse));
+    }
 }
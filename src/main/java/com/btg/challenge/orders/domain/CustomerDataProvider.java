@@ -2,6 +2,7 @@ package com.btg.challenge.orders.domain;
 
 import com.btg.challenge.orders.domain.entity.Customer;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CustomerDataProvider {
@@ -13,4 +14,8 @@ public interface CustomerDataProvider {
     Optional<Customer> findByIdWithOrders(Long customerId);
 
     long countOrdersByCustomerId(Long customerId);
+
+    int ensureExists(Long customerId);
+
+    int ensureExists(Collection<Long> customerIds);
 }
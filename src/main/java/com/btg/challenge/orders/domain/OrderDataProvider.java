@@ -2,22 +2,40 @@ package com.btg.challenge.orders.domain;
 
 import com.btg.challenge.orders.domain.entity.Customer;
 import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface OrderDataProvider {
 
     Order save(Order order, Customer customer);
 
+    void saveAll(List<Order> orders);
+
     Optional<Order> findById(Long orderId);
 
-    Optional<Order> findByIdWithItems(Long orderId);
+    Optional<OrderTotal> findTotalById(Long orderId);
+
+    Optional<OrderTotal> findItemsTotalById(Long orderId);
+
+    List<OrderTotal> findItemsTotalsByIds(Collection<Long> orderIds);
+
+    List<OrderTotal> findTotalsByIds(Collection<Long> orderIds);
 
     Page<Order> findByCustomerId(Long customerId, Pageable pageable);
 
+    Slice<Order> findByCustomerIdAfter(Long customerId, OrderCursor after, int size);
+
     long countByCustomerId(Long customerId);
 
     boolean existsById(Long orderId);
+
+    Set<Long> findExistingIds(Collection<Long> orderIds);
 }
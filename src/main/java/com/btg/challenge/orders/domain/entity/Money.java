@@ -0,0 +1,69 @@
+package com.btg.challenge.orders.domain.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Monetary amount held as a whole number of cents, matching the {@code numeric(19,2)} columns.
+ * Arithmetic is exact and throws {@link ArithmeticException} on overflow. Amounts with more than two decimal
+ * places are rounded {@link RoundingMode#HALF_UP}, the rule PostgreSQL applies when storing them, so the
+ * domain total always equals the persisted one.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final RoundingMode ROUNDING = RoundingMode.HALF_UP;
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, ROUNDING);
+    }
+
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        Objects.requireNonNull(amount, "amount must not be null");
+        return ofCents(amount.setScale(SCALE, rounding).unscaledValue().longValueExact());
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    public static Money ofNullable(BigDecimal amount) {
+        return amount != null ? of(amount) : null;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money times(long quantity) {
+        return ofCents(Math.multiplyExact(cents, quantity));
+    }
+
+    public boolean isNegative() {
+        return cents < 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    public double toDouble() {
+        return cents / 100.0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
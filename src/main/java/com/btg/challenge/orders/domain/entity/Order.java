@@ -1,6 +1,5 @@
 package com.btg.challenge.orders.domain.entity;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -8,10 +7,11 @@ public class Order {
 
     private Long orderId;
     private Long customerId;
-    private BigDecimal totalAmount;
+    private Money totalAmount;
     private Integer itemsCount;
     private LocalDateTime createdAt;
     private List<OrderItem> items;
+    private boolean totalsStale;
 
     // Constructors
     public Order() {
@@ -21,28 +21,46 @@ public class Order {
         this.orderId = orderId;
         this.customerId = customerId;
         this.items = items;
-        updateTotals();
+        this.totalsStale = true;
+    }
+
+    public Order(Long orderId, Long customerId, List<OrderItem> items, Money totalAmount) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.items = items;
+        this.itemsCount = items != null ? items.size() : 0;
+        this.totalAmount = totalAmount;
     }
 
 
-    public BigDecimal calculateTotalAmount() {
+    public Money calculateTotalAmount() {
         if (items == null || items.isEmpty()) {
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
 
-        return items.stream()
-                .map(OrderItem::getTotalPrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalCents = 0;
+        for (OrderItem item : items) {
+            totalCents = Math.addExact(totalCents, item.getTotalPrice().cents());
+        }
+        return Money.ofCents(totalCents);
     }
 
+    /**
+     * Recomputes every item total from price and quantity, then the order totals, discarding cached or
+     * persisted values. Reads go through {@link #getTotalAmount()}, which only sums item totals when the
+     * items changed since the last computation.
+     */
     public void updateTotals() {
-        this.itemsCount = items != null ? items.size() : 0;
-        this.totalAmount = calculateTotalAmount();
-
-        // Atualiza o total de cada item também
         if (items != null) {
             items.forEach(OrderItem::updateTotalPrice);
         }
+        refreshTotals();
+    }
+
+    private void refreshTotals() {
+        this.itemsCount = items != null ? items.size() : 0;
+        this.totalAmount = calculateTotalAmount();
+        this.totalsStale = false;
     }
 
     public boolean isValid() {
@@ -56,7 +74,7 @@ public class Order {
     public void addItem(OrderItem item) {
         if (items != null) {
             items.add(item);
-            updateTotals();
+            totalsStale = true;
         }
     }
 
@@ -77,20 +95,28 @@ public class Order {
         this.customerId = customerId;
     }
 
-    public BigDecimal getTotalAmount() {
+    public Money getTotalAmount() {
+        if (totalsStale) {
+            refreshTotals();
+        }
         return totalAmount;
     }
 
-    public void setTotalAmount(BigDecimal totalAmount) {
+    public void setTotalAmount(Money totalAmount) {
         this.totalAmount = totalAmount;
+        this.totalsStale = false;
     }
 
     public Integer getItemsCount() {
+        if (totalsStale) {
+            refreshTotals();
+        }
         return itemsCount;
     }
 
     public void setItemsCount(Integer itemsCount) {
         this.itemsCount = itemsCount;
+        this.totalsStale = false;
     }
 
     public LocalDateTime getCreatedAt() {
@@ -107,6 +133,6 @@ public class Order {
 
     public void setItems(List<OrderItem> items) {
         this.items = items;
-        updateTotals();
+        this.totalsStale = true;
     }
 }
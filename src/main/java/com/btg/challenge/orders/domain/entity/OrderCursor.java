@@ -0,0 +1,16 @@
+package com.btg.challenge.orders.domain.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public record OrderCursor(LocalDateTime createdAt, Long orderId) {
+
+    public OrderCursor {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        Objects.requireNonNull(orderId, "orderId must not be null");
+    }
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(order.getCreatedAt(), order.getOrderId());
+    }
+}
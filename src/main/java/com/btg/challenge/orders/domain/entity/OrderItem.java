@@ -1,37 +1,42 @@
 package com.btg.challenge.orders.domain.entity;
 
-import java.math.BigDecimal;
-
 public class OrderItem {
 
     private Long itemId;
     private String product;
     private Integer quantity;
-    private BigDecimal price;
-    private BigDecimal totalPrice;
+    private Money price;
+    private Money totalPrice;
 
     public OrderItem() {
     }
 
-    public OrderItem(String product, Integer quantity, BigDecimal price) {
+    public OrderItem(String product, Integer quantity, Money price) {
         this.product = product;
         this.quantity = quantity;
         this.price = price;
         updateTotalPrice();
     }
 
+    public OrderItem(String product, Integer quantity, Money price, Money totalPrice) {
+        this.product = product;
+        this.quantity = quantity;
+        this.price = price;
+        this.totalPrice = totalPrice;
+    }
+
     public void updateTotalPrice() {
         if (price != null && quantity != null) {
-            this.totalPrice = price.multiply(BigDecimal.valueOf(quantity));
+            this.totalPrice = price.times(quantity);
         } else {
-            this.totalPrice = BigDecimal.ZERO;
+            this.totalPrice = Money.ZERO;
         }
     }
 
     public boolean isValid() {
         return product != null && !product.trim().isEmpty()
                 && quantity != null && quantity > 0
-                && price != null && price.compareTo(BigDecimal.ZERO) >= 0;
+                && price != null && !price.isNegative();
     }
 
     public Long getItemId() {
@@ -59,23 +64,23 @@ public class OrderItem {
         updateTotalPrice();
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(BigDecimal price) {
+    public void setPrice(Money price) {
         this.price = price;
         updateTotalPrice();
     }
 
-    public BigDecimal getTotalPrice() {
+    public Money getTotalPrice() {
         if (totalPrice == null) {
             updateTotalPrice();
         }
         return totalPrice;
     }
 
-    public void setTotalPrice(BigDecimal totalPrice) {
+    public void setTotalPrice(Money totalPrice) {
         this.totalPrice = totalPrice;
     }
 }
@@ -0,0 +1,15 @@
+package com.btg.challenge.orders.domain.entity;
+
+import java.util.Objects;
+
+public record OrderTotal(Long orderId, Money totalAmount) {
+
+    public OrderTotal {
+        Objects.requireNonNull(orderId, "orderId must not be null");
+        Objects.requireNonNull(totalAmount, "totalAmount must not be null");
+    }
+
+    public static OrderTotal of(Order order) {
+        return new OrderTotal(order.getOrderId(), order.getTotalAmount());
+    }
+}
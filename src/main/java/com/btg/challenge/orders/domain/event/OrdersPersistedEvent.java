@@ -0,0 +1,8 @@
+package com.btg.challenge.orders.domain.event;
+
+import com.btg.challenge.orders.domain.entity.Order;
+
+import java.util.List;
+
+public record OrdersPersistedEvent(List<Order> orders) {
+}
@@ -13,7 +13,7 @@ public class GetCustomerOrderCountUseCase {
     private final CustomerDataProvider customerDataProvider;
 
     public long execute(Long customerId) {
-        log.info("Getting order count for customerId: {}", customerId);
+        log.debug("Getting order count for customerId: {}", customerId);
 
         if (customerId == null || customerId <= 0) {
             log.warn("Invalid customerId provided: {}", customerId);
@@ -22,7 +22,9 @@ public class GetCustomerOrderCountUseCase {
 
         long orderCount = customerDataProvider.countOrdersByCustomerId(customerId);
 
-        log.info("Order count for customerId {}: {}", customerId, orderCount);
+        if (log.isDebugEnabled()) {
+            log.debug("Order count for customerId {}: {}", customerId, orderCount);
+        }
 
         return orderCount;
     }
@@ -3,12 +3,14 @@ package com.btg.challenge.orders.domain.usecase;
 import com.btg.challenge.orders.domain.CustomerDataProvider;
 import com.btg.challenge.orders.domain.OrderDataProvider;
 import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
 import com.btg.challenge.orders.infra.exception.CustomerNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,8 +25,39 @@ public class GetCustomerOrdersUseCase {
 
     @Transactional(readOnly = true)
     public Page<Order> execute(Long customerId, Pageable pageable) {
-        log.info("Getting orders for customerId: {}, pageable: {}", customerId, pageable);
+        log.debug("Getting orders for customerId: {}, pageable: {}", customerId, pageable);
 
+        validateCustomer(customerId);
+
+        Pageable pageableWithSort = addDefaultSorting(pageable);
+
+        Page<Order> ordersPage = orderDataProvider.findByCustomerId(customerId, pageableWithSort);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} orders for customerId: {} (page {}/{})", ordersPage.getNumberOfElements(), customerId, ordersPage.getNumber() + 1, ordersPage.getTotalPages());
+        }
+
+        return ordersPage;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<Order> executeAfter(Long customerId, OrderCursor after, int size) {
+        if (log.isDebugEnabled()) {
+            log.debug("Getting orders for customerId: {}, after: {}, size: {}", customerId, after, size);
+        }
+
+        validateCustomer(customerId);
+
+        Slice<Order> ordersSlice = orderDataProvider.findByCustomerIdAfter(customerId, after, size);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Found {} orders for customerId: {} (hasNext: {})", ordersSlice.getNumberOfElements(), customerId, ordersSlice.hasNext());
+        }
+
+        return ordersSlice;
+    }
+
+    private void validateCustomer(Long customerId) {
         if (customerId == null || customerId <= 0) {
             log.warn("Invalid customerId provided: {}", customerId);
             throw new CustomerNotFoundException("Invalid customer ID: " + customerId);
@@ -34,14 +67,6 @@ public class GetCustomerOrdersUseCase {
             log.warn("Customer not found with id: {}", customerId);
             throw new CustomerNotFoundException(customerId);
         }
-
-        Pageable pageableWithSort = addDefaultSorting(pageable);
-
-        Page<Order> ordersPage = orderDataProvider.findByCustomerId(customerId, pageableWithSort);
-
-        log.info("Found {} orders for customerId: {} (page {}/{})", ordersPage.getNumberOfElements(), customerId, ordersPage.getNumber() + 1, ordersPage.getTotalPages());
-
-        return ordersPage;
     }
 
     private Pageable addDefaultSorting(Pageable pageable) {
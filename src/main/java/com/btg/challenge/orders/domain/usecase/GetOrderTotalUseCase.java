@@ -1,42 +1,56 @@
 package com.btg.challenge.orders.domain.usecase;
 
 import com.btg.challenge.orders.domain.OrderDataProvider;
-import com.btg.challenge.orders.domain.entity.Order;
-import lombok.RequiredArgsConstructor;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class GetOrderTotalUseCase {
 
     private final OrderDataProvider orderDataProvider;
+    private final boolean verifyTotals;
 
-    public Optional<Order> execute(Long orderId) {
-        log.info("Getting order total for orderId: {}", orderId);
+    public GetOrderTotalUseCase(OrderDataProvider orderDataProvider,
+                                @Value("${orders.totals.verify-on-load}") boolean verifyTotals) {
+        this.orderDataProvider = orderDataProvider;
+        this.verifyTotals = verifyTotals;
+    }
+
+    public Optional<OrderTotal> execute(Long orderId) {
+        log.debug("Getting order total for orderId: {}", orderId);
 
         if (orderId == null || orderId <= 0) {
             log.warn("Invalid orderId provided: {}", orderId);
             return Optional.empty();
         }
 
-        Optional<Order> orderOptional = orderDataProvider.findByIdWithItems(orderId);
+        Optional<OrderTotal> orderTotalOptional = orderDataProvider.findTotalById(orderId);
 
-        if (orderOptional.isEmpty()) {
+        if (orderTotalOptional.isEmpty()) {
             log.warn("Order not found with id: {}", orderId);
             return Optional.empty();
         }
 
-        Order order = orderOptional.get();
+        OrderTotal orderTotal = verifyTotals ? verify(orderTotalOptional.get()) : orderTotalOptional.get();
 
-        order.updateTotals();
+        log.debug("Order found - orderId: {}, total: {}", orderId, orderTotal.totalAmount());
 
-        log.info("Order found - orderId: {}, total: {}, itemsCount: {}",
-                orderId, order.getTotalAmount(), order.getItemsCount());
+        return Optional.of(orderTotal);
+    }
 
-        return Optional.of(order);
+    private OrderTotal verify(OrderTotal persistedTotal) {
+        return orderDataProvider.findItemsTotalById(persistedTotal.orderId())
+                .filter(itemsTotal -> !itemsTotal.equals(persistedTotal))
+                .map(itemsTotal -> {
+                    log.warn("Persisted total diverges from items - orderId: {}, persisted: {}, computed: {}",
+                            persistedTotal.orderId(), persistedTotal.totalAmount(), itemsTotal.totalAmount());
+                    return itemsTotal;
+                })
+                .orElse(persistedTotal);
     }
 }
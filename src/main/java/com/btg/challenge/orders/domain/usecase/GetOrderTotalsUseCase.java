@@ -0,0 +1,66 @@
+package com.btg.challenge.orders.domain.usecase;
+
+import com.btg.challenge.orders.domain.OrderDataProvider;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class GetOrderTotalsUseCase {
+
+    private final OrderDataProvider orderDataProvider;
+    private final boolean verifyTotals;
+
+    public GetOrderTotalsUseCase(OrderDataProvider orderDataProvider,
+                                 @Value("${orders.totals.verify-on-load}") boolean verifyTotals) {
+        this.orderDataProvider = orderDataProvider;
+        this.verifyTotals = verifyTotals;
+    }
+
+    public List<OrderTotal> execute(Collection<Long> orderIds) {
+        List<Long> validOrderIds = orderIds.stream()
+                .filter(orderId -> orderId != null && orderId > 0)
+                .distinct()
+                .toList();
+
+        if (validOrderIds.isEmpty()) {
+            log.warn("No valid orderIds provided: {}", orderIds);
+            return List.of();
+        }
+
+        List<OrderTotal> orderTotals = orderDataProvider.findTotalsByIds(validOrderIds);
+        if (verifyTotals && !orderTotals.isEmpty()) {
+            orderTotals = verify(orderTotals);
+        }
+
+        log.debug("Order totals found - requested: {}, found: {}", validOrderIds.size(), orderTotals.size());
+
+        return orderTotals;
+    }
+
+    private List<OrderTotal> verify(List<OrderTotal> persistedTotals) {
+        Map<Long, OrderTotal> itemsTotals = orderDataProvider.findItemsTotalsByIds(
+                        persistedTotals.stream().map(OrderTotal::orderId).toList()).stream()
+                .collect(Collectors.toMap(OrderTotal::orderId, Function.identity()));
+
+        return persistedTotals.stream()
+                .map(persistedTotal -> {
+                    OrderTotal itemsTotal = itemsTotals.get(persistedTotal.orderId());
+                    if (itemsTotal == null || itemsTotal.equals(persistedTotal)) {
+                        return persistedTotal;
+                    }
+                    log.warn("Persisted total diverges from items - orderId: {}, persisted: {}, computed: {}",
+                            persistedTotal.orderId(), persistedTotal.totalAmount(), itemsTotal.totalAmount());
+                    return itemsTotal;
+                })
+                .toList();
+    }
+}
@@ -4,10 +4,22 @@ import com.btg.challenge.orders.domain.CustomerDataProvider;
 import com.btg.challenge.orders.domain.OrderDataProvider;
 import com.btg.challenge.orders.domain.entity.Customer;
 import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.event.OrdersPersistedEvent;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Outcome;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Stage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -15,35 +27,95 @@ public class ProcessOrderUseCase {
     
     private final OrderDataProvider orderDataProvider;
     private final CustomerDataProvider customerDataProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderPipelineMetrics pipelineMetrics;
 
-    public void execute(Order order) {
-        log.info("Processing order: orderId={}, customerId={}",
-                order.getOrderId(), order.getCustomerId());
+    public boolean execute(Order order) {
+        if (log.isDebugEnabled()) {
+            log.debug("Processing order: orderId={}, customerId={}", order.getOrderId(), order.getCustomerId());
+        }
 
-        if (!order.isValid()) {
+        if (!pipelineMetrics.stage(Stage.VALIDATE, order::isValid, valid -> valid ? Outcome.OK : Outcome.INVALID)) {
             log.error("Invalid order received: {}", order.getOrderId());
             throw new IllegalArgumentException("Invalid order data");
         }
 
-        if (orderDataProvider.existsById(order.getOrderId())) {
+        if (pipelineMetrics.stage(Stage.DUPLICATE_CHECK, () -> orderDataProvider.existsById(order.getOrderId()),
+                exists -> exists ? Outcome.DUPLICATE : Outcome.OK)) {
             log.warn("Order already exists: {}", order.getOrderId());
-            return;
+            return false;
         }
 
-        Customer customer = findOrCreateCustomer(order.getCustomerId());
+        Customer customer = pipelineMetrics.stage(Stage.CUSTOMER_RESOLVE, () -> findOrCreateCustomer(order.getCustomerId()));
 
-        Order savedOrder = orderDataProvider.save(order, customer);
+        Order savedOrder = pipelineMetrics.stage(Stage.PERSIST, () -> orderDataProvider.save(order, customer));
+        eventPublisher.publishEvent(new OrdersPersistedEvent(List.of(savedOrder)));
 
-        log.info("Order processed successfully: orderId={}, totalAmount={}, itemsCount={}",
-                savedOrder.getOrderId(), savedOrder.getTotalAmount(), savedOrder.getItemsCount());
+        if (log.isDebugEnabled()) {
+            log.debug("Order processed successfully: orderId={}, totalAmount={}, itemsCount={}",
+                    savedOrder.getOrderId(), savedOrder.getTotalAmount(), savedOrder.getItemsCount());
+        }
+        return true;
+    }
+
+    public List<Order> executeBatch(List<Order> orders) {
+        if (log.isDebugEnabled()) {
+            log.debug("Processing order batch: size={}", orders.size());
+        }
+
+        List<Order> invalidOrders = new ArrayList<>();
+        Map<Long, Order> newOrders = new LinkedHashMap<>();
+
+        for (Order order : orders) {
+            if (!pipelineMetrics.stage(Stage.VALIDATE, order::isValid, valid -> valid ? Outcome.OK : Outcome.INVALID)) {
+                log.error("Invalid order received: {}", order.getOrderId());
+                invalidOrders.add(order);
+            } else if (newOrders.putIfAbsent(order.getOrderId(), order) != null) {
+                log.warn("Order repeated in batch: {}", order.getOrderId());
+            }
+        }
+        int duplicates = orders.size() - invalidOrders.size() - newOrders.size();
+
+        if (!newOrders.isEmpty()) {
+            Set<Long> existingOrderIds = pipelineMetrics.stage(Stage.DUPLICATE_CHECK,
+                    () -> orderDataProvider.findExistingIds(newOrders.keySet()));
+            for (Long existingOrderId : existingOrderIds) {
+                log.warn("Order already exists: {}", existingOrderId);
+                newOrders.remove(existingOrderId);
+            }
+            duplicates += existingOrderIds.size();
+        }
+
+        if (!newOrders.isEmpty()) {
+            int createdCustomers = pipelineMetrics.stage(Stage.CUSTOMER_RESOLVE,
+                    () -> customerDataProvider.ensureExists(newOrders.values().stream()
+                            .map(Order::getCustomerId)
+                            .collect(Collectors.toSet())));
+            if (createdCustomers > 0) {
+                log.info("Created new customers: {}", createdCustomers);
+            }
+
+            List<Order> persistedOrders = List.copyOf(newOrders.values());
+            pipelineMetrics.stage(Stage.PERSIST, () -> orderDataProvider.saveAll(persistedOrders));
+            eventPublisher.publishEvent(new OrdersPersistedEvent(persistedOrders));
+        }
+
+        pipelineMetrics.messages(Outcome.INVALID, invalidOrders.size());
+        pipelineMetrics.messages(Outcome.DUPLICATE, duplicates);
+        pipelineMetrics.messages(Outcome.OK, newOrders.size());
+
+        if (log.isInfoEnabled()) {
+            log.info("Order batch processed: received={}, persisted={}, duplicates={}, invalid={}",
+                    orders.size(), newOrders.size(), duplicates, invalidOrders.size());
+        }
+
+        return invalidOrders;
     }
 
     private Customer findOrCreateCustomer(Long customerId) {
-        return customerDataProvider.findById(customerId)
-                .orElseGet(() -> {
-                    log.info("Creating new customer: {}", customerId);
-                    Customer newCustomer = new Customer(customerId);
-                    return customerDataProvider.save(newCustomer);
-                });
+        if (customerDataProvider.ensureExists(customerId) > 0) {
+            log.info("Created new customer: {}", customerId);
+        }
+        return new Customer(customerId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,64 @@
+package com.btg.challenge.orders.infra.async;
+
+import com.btg.challenge.orders.infra.exception.ServiceOverloadedException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+public class BlockingTaskExecutor implements AutoCloseable {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    public BlockingTaskExecutor(ExecutorService executor, int maxConcurrentTasks, long acquireTimeoutMillis) {
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrentTasks, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> runWithPermit(task), executor);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Blocking task rejected by executor: {}", ex.getMessage());
+            return CompletableFuture.failedFuture(new ServiceOverloadedException("Request queue is full", ex));
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private <T> T runWithPermit(Supplier<T> task) {
+        acquirePermit();
+        try {
+            return task.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                log.warn("No database slot available after {} ms", acquireTimeoutMillis);
+                throw new ServiceOverloadedException("Too many concurrent requests, please retry later");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("Interrupted while waiting for a database slot", ex);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.btg.challenge.orders.infra.config;
+
+import com.btg.challenge.orders.infra.async.BlockingTaskExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class AsyncConfig {
+
+    public static final String VIRTUAL_EXECUTOR = "virtual";
+    public static final String PLATFORM_EXECUTOR = "platform";
+    public static final String REPLAY_EXECUTOR = "replayExecutor";
+
+    @Value("${orders.api.executor.type}")
+    private String executorType;
+
+    @Value("${orders.api.executor.pool-size}")
+    private int poolSize;
+
+    @Value("${orders.api.executor.queue-capacity}")
+    private int queueCapacity;
+
+    @Value("${orders.api.concurrency.max-concurrent-queries}")
+    private int maxConcurrentQueries;
+
+    @Value("${orders.api.concurrency.acquire-timeout}")
+    private long acquireTimeout;
+
+    @Bean
+    public BlockingTaskExecutor blockingTaskExecutor() {
+        return new BlockingTaskExecutor(apiExecutorService(), maxConcurrentQueries, acquireTimeout);
+    }
+
+    // Replays wait on publisher confirms, not on the database, so they must not hold DB permits
+    @Bean(REPLAY_EXECUTOR)
+    public ExecutorService replayExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("replay-", 0).factory());
+    }
+
+    private ExecutorService apiExecutorService() {
+        return switch (executorType) {
+            case VIRTUAL_EXECUTOR -> Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("api-", 0).factory());
+            case PLATFORM_EXECUTOR -> new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), Thread.ofPlatform().name("api-", 0).factory(),
+                    new ThreadPoolExecutor.AbortPolicy());
+            default -> throw new IllegalArgumentException("Unknown API executor type: " + executorType);
+        };
+    }
+}
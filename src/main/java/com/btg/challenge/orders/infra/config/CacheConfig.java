@@ -0,0 +1,45 @@
+package com.btg.challenge.orders.infra.config;
+
+import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    public static final String ORDER_TOTALS_CACHE_NAME = "order-totals";
+
+    @Value("${orders.customers.known-cache.maximum-size}")
+    private long knownCustomersMaximumSize;
+
+    @Value("${orders.totals.cache.maximum-size}")
+    private long orderTotalsMaximumSize;
+
+    @Value("${orders.totals.cache.expire-after-write}")
+    private Duration orderTotalsExpireAfterWrite;
+
+    // Customer IDs already confirmed in the database; hot customers skip the upsert round-trip
+    @Bean
+    public Cache<Long, Boolean> knownCustomersCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(knownCustomersMaximumSize)
+                .build();
+    }
+
+    @Bean
+    public Cache<Long, OrderTotalResponse> orderTotalsCache(MeterRegistry meterRegistry) {
+        Cache<Long, OrderTotalResponse> cache = Caffeine.newBuilder()
+                .maximumSize(orderTotalsMaximumSize)
+                .expireAfterWrite(orderTotalsExpireAfterWrite)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, ORDER_TOTALS_CACHE_NAME);
+    }
+}
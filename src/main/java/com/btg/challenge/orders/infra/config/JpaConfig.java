@@ -0,0 +1,19 @@
+package com.btg.challenge.orders.infra.config;
+
+import com.btg.challenge.orders.infra.repository.id.PooledSequenceGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    @Value("${orders.persistence.id-allocation-size}")
+    private int idAllocationSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer idAllocationSizeCustomizer() {
+        return properties -> properties.put(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING, idAllocationSize);
+    }
+}
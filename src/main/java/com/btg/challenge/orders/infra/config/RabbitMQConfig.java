@@ -1,8 +1,15 @@
 package com.btg.challenge.orders.infra.config;
 
+import com.btg.challenge.orders.infra.mqprovider.Jackson2CborMessageConverter;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.mqprovider.consumer.OrderStreamingMessageConverter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
@@ -10,16 +17,28 @@ import org.springframework.amqp.rabbit.annotation.EnableRabbit;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableRabbit
 public class RabbitMQConfig {
 
+    public static final String DEAD_LETTER_ROUTING_KEY = "failed";
+    public static final String CONSISTENT_HASH_EXCHANGE_TYPE = "x-consistent-hash";
+
     @Value("${orders.queue.name}")
     private String ordersQueueName;
 
@@ -35,12 +54,39 @@ public class RabbitMQConfig {
     @Value("${orders.queue.dead-letter-exchange}")
     private String deadLetterExchange;
 
+    @Value("${orders.queue.listener.auto-startup}")
+    private boolean listenerAutoStartup;
+
+    @Value("${orders.queue.partitions.count}")
+    private int partitionCount;
+
+    @Value("${orders.queue.partitions.exchange}")
+    private String partitionExchange;
+
+    @Value("${orders.queue.listener.min-consumers}")
+    private int minConsumers;
+
+    @Value("${orders.queue.listener.max-consumers}")
+    private int maxConsumers;
+
+    @Value("${orders.queue.prefetch}")
+    private int prefetch;
+
+    @Value("${orders.queue.ack.batch-size}")
+    private int ackBatchSize;
+
+    @Value("${orders.processing.batch-size}")
+    private int batchSize;
+
+    @Value("${orders.processing.timeout}")
+    private long batchTimeout;
+
     // Main Queue
     @Bean
     public Queue ordersQueue() {
         return QueueBuilder.durable(ordersQueueName)
                 .withArgument("x-dead-letter-exchange", deadLetterExchange)
-                .withArgument("x-dead-letter-routing-key", "failed")
+                .withArgument("x-dead-letter-routing-key", DEAD_LETTER_ROUTING_KEY)
                 .build();
     }
 
@@ -64,6 +110,7 @@ public class RabbitMQConfig {
 
     // Bindings
     @Bean
+    @ConditionalOnProperty(name = "orders.queue.partitions.enabled", havingValue = "false", matchIfMissing = true)
     public Binding ordersBinding() {
         return BindingBuilder
                 .bind(ordersQueue())
@@ -76,31 +123,111 @@ public class RabbitMQConfig {
         return BindingBuilder
                 .bind(deadLetterQueue())
                 .to(deadLetterExchange())
-                .with("failed");
+                .with(DEAD_LETTER_ROUTING_KEY);
+    }
+
+    // Customer-affinity partitions: orders.exchange -> consistent-hash exchange -> orders.queue.p{N}
+    @Bean
+    @ConditionalOnProperty(name = "orders.queue.partitions.enabled", havingValue = "true")
+    public Declarables orderPartitions() {
+        if (partitionCount < 1) {
+            throw new IllegalStateException("orders.queue.partitions.count must be positive, got " + partitionCount);
+        }
+        CustomExchange hashExchange = new CustomExchange(partitionExchange, CONSISTENT_HASH_EXCHANGE_TYPE, true, false,
+                Map.of("hash-header", OrderMessage.CUSTOMER_HEADER));
+
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(hashExchange);
+        declarables.add(BindingBuilder.bind(hashExchange).to(ordersExchange()).with(ordersRoutingKey));
+        for (int partition = 0; partition < partitionCount; partition++) {
+            // Single active consumer keeps one consumer per partition even with several nodes attached
+            Queue queue = QueueBuilder.durable(partitionQueueName(ordersQueueName, partition))
+                    .deadLetterExchange(deadLetterExchange)
+                    .deadLetterRoutingKey(DEAD_LETTER_ROUTING_KEY)
+                    .singleActiveConsumer()
+                    .build();
+            declarables.add(queue);
+            declarables.add(BindingBuilder.bind(queue).to(hashExchange).with("1").noargs());
+        }
+        return new Declarables(declarables);
+    }
+
+    public static String partitionQueueName(String queueName, int partition) {
+        return queueName + ".p" + partition;
     }
 
     // Message Converter
     @Bean
+    @Primary
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
     }
 
+    // Single-pass decoder used by the unitary listener to build domain orders without an OrderMessage copy,
+    // picking JSON or CBOR from the content_type header (JSON when absent or unknown)
+    @Bean
+    public ContentTypeDelegatingMessageConverter orderMessageConverter() {
+        ContentTypeDelegatingMessageConverter converter =
+                new ContentTypeDelegatingMessageConverter(new OrderStreamingMessageConverter());
+        converter.addDelegate(Jackson2CborMessageConverter.CONTENT_TYPE_CBOR,
+                new OrderStreamingMessageConverter(new CBORFactory(), new Jackson2CborMessageConverter()));
+        return converter;
+    }
+
 
     @Bean
     public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
         template.setMessageConverter(jsonMessageConverter());
+        template.setMandatory(true); // Unroutable publishes come back as returns instead of being dropped
         return template;
     }
 
+    // Acks are sent by OrderAckBatcher after the DB commit, coalesced per channel
     @Bean
     public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
             ConnectionFactory connectionFactory) {
+        if (ackBatchSize > prefetch) {
+            throw new IllegalStateException("orders.queue.ack.batch-size (" + ackBatchSize
+                    + ") must not exceed orders.queue.prefetch (" + prefetch + ")");
+        }
+        if (minConsumers > maxConsumers) {
+            throw new IllegalStateException("orders.queue.listener.min-consumers (" + minConsumers
+                    + ") must not exceed orders.queue.listener.max-consumers (" + maxConsumers + ")");
+        }
         SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
         factory.setConnectionFactory(connectionFactory);
         factory.setMessageConverter(jsonMessageConverter());
         factory.setDefaultRequeueRejected(false); // Send to DLQ on error
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        factory.setPrefetchCount(prefetch);
+        factory.setConcurrentConsumers(minConsumers);
+        factory.setMaxConcurrentConsumers(maxConsumers);
+        factory.setAutoStartup(listenerAutoStartup);
+        return factory;
+    }
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory batchRabbitListenerContainerFactory(
+            ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setBatchReceiveTimeout(batchTimeout);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setConcurrentConsumers(minConsumers);
+        factory.setMaxConcurrentConsumers(maxConsumers);
+        factory.setDefaultRequeueRejected(false); // Send to DLQ on error
         factory.setAcknowledgeMode(AcknowledgeMode.AUTO);
+        factory.setAutoStartup(listenerAutoStartup);
         return factory;
     }
+
+    // Routes individual messages of a batch to the DLQ without failing the whole batch
+    @Bean
+    public MessageRecoverer deadLetterRecoverer(RabbitTemplate rabbitTemplate) {
+        return new RepublishMessageRecoverer(rabbitTemplate, deadLetterExchange, DEAD_LETTER_ROUTING_KEY);
+    }
 }
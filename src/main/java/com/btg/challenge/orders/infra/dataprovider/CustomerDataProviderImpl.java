@@ -4,9 +4,15 @@ import com.btg.challenge.orders.domain.CustomerDataProvider;
 import com.btg.challenge.orders.domain.entity.Customer;
 import com.btg.challenge.orders.infra.dataprovider.mapper.CustomerRepositoryMapper;
 import com.btg.challenge.orders.infra.repository.CustomerDataRepository;
+import com.btg.challenge.orders.infra.repository.CustomerOrderStatsDataRepository;
+import com.github.benmanes.caffeine.cache.Cache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -14,7 +20,9 @@ import java.util.Optional;
 public class CustomerDataProviderImpl implements CustomerDataProvider {
 
     private final CustomerDataRepository customerRepository;
+    private final CustomerOrderStatsDataRepository customerOrderStatsRepository;
     private final CustomerRepositoryMapper customerMapper;
+    private final Cache<Long, Boolean> knownCustomersCache;
 
     @Override
     public Customer save(Customer customer) {
@@ -37,6 +45,44 @@ public class CustomerDataProviderImpl implements CustomerDataProvider {
 
     @Override
     public long countOrdersByCustomerId(Long customerId) {
-        return customerRepository.countOrdersByCustomerId(customerId);
+        return customerOrderStatsRepository.findOrderCountByCustomerId(customerId).orElse(0L);
+    }
+
+    @Override
+    public int ensureExists(Long customerId) {
+        return ensureExists(List.of(customerId));
+    }
+
+    @Override
+    public int ensureExists(Collection<Long> customerIds) {
+        var unknownIds = customerIds.stream()
+                .distinct()
+                .filter(customerId -> knownCustomersCache.getIfPresent(customerId) == null)
+                .toArray(Long[]::new);
+        if (unknownIds.length == 0) {
+            return 0;
+        }
+        int inserted = customerRepository.insertMissing(unknownIds);
+        rememberAfterCommit(unknownIds);
+        return inserted;
+    }
+
+    private void rememberAfterCommit(Long[] customerIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(customerIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(customerIds);
+            }
+        });
+    }
+
+    private void remember(Long[] customerIds) {
+        for (Long customerId : customerIds) {
+            knownCustomersCache.put(customerId, Boolean.TRUE);
+        }
     }
 }
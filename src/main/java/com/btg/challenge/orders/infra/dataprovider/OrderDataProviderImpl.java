@@ -3,32 +3,79 @@ package com.btg.challenge.orders.infra.dataprovider;
 import com.btg.challenge.orders.domain.OrderDataProvider;
 import com.btg.challenge.orders.domain.entity.Customer;
 import com.btg.challenge.orders.domain.entity.Order;
-import com.btg.challenge.orders.infra.dataprovider.mapper.CustomerRepositoryMapper;
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
 import com.btg.challenge.orders.infra.dataprovider.mapper.OrderRepositoryMapper;
+import com.btg.challenge.orders.infra.repository.CustomerDataRepository;
+import com.btg.challenge.orders.infra.repository.CustomerOrderStatsDataRepository;
 import com.btg.challenge.orders.infra.repository.OrderDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderOutboxDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderTotalDataRepository;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import com.btg.challenge.orders.infra.repository.model.OrderTotalRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class OrderDataProviderImpl implements OrderDataProvider {
 
     private final OrderDataRepository orderRepository;
+    private final CustomerDataRepository customerRepository;
+    private final OrderOutboxDataRepository outboxRepository;
+    private final OrderTotalDataRepository orderTotalRepository;
+    private final CustomerOrderStatsDataRepository customerOrderStatsRepository;
     private final OrderRepositoryMapper orderMapper;
-    private final CustomerRepositoryMapper customerMapper;
 
     @Override
+    @Transactional
     public Order save(Order order, Customer customer) {
-        var customerData = customerMapper.toData(customer);
+        var customerData = customerRepository.getReferenceById(customer.getCustomerId());
         var orderData = orderMapper.toData(order, customerData);
         var savedOrderData = orderRepository.save(orderData);
+        outboxRepository.appendFromOrders(new Long[]{savedOrderData.getOrderId()});
+        recordOrders(customer.getCustomerId(), List.of(savedOrderData));
         return orderMapper.toDomain(savedOrderData);
     }
 
+    @Override
+    @Transactional
+    public void saveAll(List<Order> orders) {
+        var ordersData = orders.stream()
+                .map(order -> orderMapper.toData(order, customerRepository.getReferenceById(order.getCustomerId())))
+                .toList();
+        orderRepository.saveAll(ordersData);
+        outboxRepository.appendFromOrders(orders.stream().map(Order::getOrderId).toArray(Long[]::new));
+
+        // Sorted by customer so concurrent batches lock the stats rows in the same order
+        ordersData.stream()
+                .collect(Collectors.groupingBy(orderData -> orderData.getCustomer().getCustomerId(),
+                        TreeMap::new, Collectors.toList()))
+                .forEach(this::recordOrders);
+    }
+
     @Override
     public Optional<Order> findById(Long orderId) {
         return orderRepository.findById(orderId)
@@ -36,15 +83,68 @@ public class OrderDataProviderImpl implements OrderDataProvider {
     }
 
     @Override
-    public Optional<Order> findByIdWithItems(Long orderId) {
-        return orderRepository.findByIdWithItems(orderId)
-                .map(orderMapper::toDomain);
+    public Optional<OrderTotal> findTotalById(Long orderId) {
+        return orderTotalRepository.findTotalById(orderId)
+                .map(this::toOrderTotal);
+    }
+
+    @Override
+    public Optional<OrderTotal> findItemsTotalById(Long orderId) {
+        return orderRepository.findItemsTotalById(orderId)
+                .map(this::toOrderTotal);
+    }
+
+    @Override
+    public List<OrderTotal> findItemsTotalsByIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderRepository.findItemsTotalsByIdIn(orderIds.toArray(Long[]::new)).stream()
+                .map(this::toOrderTotal)
+                .toList();
+    }
+
+    @Override
+    public List<OrderTotal> findTotalsByIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderTotalRepository.findTotalsByIdIn(orderIds.toArray(Long[]::new)).stream()
+                .map(this::toOrderTotal)
+                .toList();
     }
 
     @Override
     public Page<Order> findByCustomerId(Long customerId, Pageable pageable) {
-        return orderRepository.findByCustomerId(customerId, pageable)
-                .map(orderMapper::toDomain);
+        Page<Long> orderIds = orderRepository.findIdsByCustomerId(customerId, pageable);
+        if (orderIds.isEmpty()) {
+            return orderIds.map(orderId -> null);
+        }
+
+        Map<Long, OrderData> ordersById = findAllWithItemsById(orderIds.getContent());
+
+        return orderIds.map(orderId -> orderMapper.toDomain(ordersById.get(orderId)));
+    }
+
+    @Override
+    public Slice<Order> findByCustomerIdAfter(Long customerId, OrderCursor after, int size) {
+        // One extra row tells whether another page exists without counting the customer's orders
+        Limit limit = Limit.of(size + 1);
+        List<Long> orderIds = after == null
+                ? orderRepository.findFirstIdsByCustomerId(customerId, limit)
+                : orderRepository.findIdsByCustomerIdAfter(customerId, after.createdAt(), after.orderId(), limit);
+
+        boolean hasNext = orderIds.size() > size;
+        List<Long> pageIds = hasNext ? orderIds.subList(0, size) : orderIds;
+        if (pageIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.ofSize(size), false);
+        }
+
+        Map<Long, OrderData> ordersById = findAllWithItemsById(pageIds);
+        List<Order> orders = pageIds.stream()
+                .map(orderId -> orderMapper.toDomain(ordersById.get(orderId)))
+                .toList();
+        return new SliceImpl<>(orders, PageRequest.ofSize(size), hasNext);
     }
 
     @Override
@@ -56,4 +156,39 @@ public class OrderDataProviderImpl implements OrderDataProvider {
     public boolean existsById(Long orderId) {
         return orderRepository.existsById(orderId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(orderRepository.findExistingIds(orderIds.toArray(Long[]::new)));
+    }
+
+    private Map<Long, OrderData> findAllWithItemsById(List<Long> orderIds) {
+        return orderRepository.findAllWithItemsByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderData::getOrderId, Function.identity()));
+    }
+
+    private void recordOrders(Long customerId, List<OrderData> ordersData) {
+        long orderCount = ordersData.size();
+        BigDecimal totalAmount = ordersData.stream()
+                .map(OrderData::getTotalAmount)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        LocalDateTime lastOrderAt = ordersData.stream()
+                .map(OrderData::getCreatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (customerOrderStatsRepository.addOrders(customerId, orderCount, totalAmount, lastOrderAt) == 0
+                && customerOrderStatsRepository.insertIfAbsent(customerId, orderCount, totalAmount, lastOrderAt) == 0) {
+            customerOrderStatsRepository.addOrders(customerId, orderCount, totalAmount, lastOrderAt);
+        }
+    }
+
+    private OrderTotal toOrderTotal(OrderTotalRow row) {
+        Money totalAmount = Money.ofNullable(row.getTotalAmount());
+        return new OrderTotal(row.getOrderId(), totalAmount != null ? totalAmount : Money.ZERO);
+    }
+}
@@ -0,0 +1,15 @@
+package com.btg.challenge.orders.infra.dataprovider.mapper;
+
+import com.btg.challenge.orders.domain.entity.Money;
+
+import java.math.BigDecimal;
+
+final class MoneyColumns {
+
+    private MoneyColumns() {
+    }
+
+    static BigDecimal toColumn(Money amount) {
+        return amount != null ? amount.toBigDecimal() : null;
+    }
+}
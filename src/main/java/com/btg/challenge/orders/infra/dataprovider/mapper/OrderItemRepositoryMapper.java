@@ -1,5 +1,6 @@
 package com.btg.challenge.orders.infra.dataprovider.mapper;
 
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.infra.repository.model.OrderData;
 import com.btg.challenge.orders.infra.repository.model.OrderItemData;
@@ -13,18 +14,16 @@ public class OrderItemRepositoryMapper {
                 .order(order)
                 .product(item.getProduct())
                 .quantity(item.getQuantity())
-                .price(item.getPrice())
-                .totalPrice(item.getTotalPrice())
+                .price(MoneyColumns.toColumn(item.getPrice()))
+                .totalPrice(MoneyColumns.toColumn(item.getTotalPrice()))
                 .build();
     }
 
     public OrderItem toOrderItemDomain(OrderItemData itemData) {
-        OrderItem item = new OrderItem();
+        // The persisted total_price is trusted, so no setter recomputes price times quantity
+        OrderItem item = new OrderItem(itemData.getProduct(), itemData.getQuantity(),
+                Money.ofNullable(itemData.getPrice()), Money.ofNullable(itemData.getTotalPrice()));
         item.setItemId(itemData.getItemId());
-        item.setProduct(itemData.getProduct());
-        item.setQuantity(itemData.getQuantity());
-        item.setPrice(itemData.getPrice());
-        item.setTotalPrice(itemData.getTotalPrice());
         return item;
     }
 }
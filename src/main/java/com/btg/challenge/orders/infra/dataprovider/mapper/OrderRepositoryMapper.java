@@ -1,20 +1,29 @@
 package com.btg.challenge.orders.infra.dataprovider.mapper;
 
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.infra.repository.model.CustomerData;
 import com.btg.challenge.orders.infra.repository.model.OrderData;
 import com.btg.challenge.orders.infra.repository.model.OrderItemData;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class OrderRepositoryMapper {
 
     private final OrderItemRepositoryMapper orderItemMapper;
+    private final boolean verifyTotalsOnLoad;
+
+    public OrderRepositoryMapper(OrderItemRepositoryMapper orderItemMapper,
+                                 @Value("${orders.totals.verify-on-load}") boolean verifyTotalsOnLoad) {
+        this.orderItemMapper = orderItemMapper;
+        this.verifyTotalsOnLoad = verifyTotalsOnLoad;
+    }
 
     public OrderData toData(Order order, CustomerData customer) {
         if (order == null) {
@@ -24,7 +33,7 @@ public class OrderRepositoryMapper {
         OrderData orderData = OrderData.builder()
                 .orderId(order.getOrderId())
                 .customer(customer)
-                .totalAmount(order.getTotalAmount())
+                .totalAmount(MoneyColumns.toColumn(order.getTotalAmount()))
                 .itemsCount(order.getItemsCount())
                 .build();
 
@@ -48,11 +57,27 @@ public class OrderRepositoryMapper {
         Order order = new Order();
         order.setOrderId(orderData.getOrderId());
         order.setCustomerId(orderData.getCustomer().getCustomerId());
-        order.setTotalAmount(orderData.getTotalAmount());
-        order.setItemsCount(orderData.getItemsCount());
         order.setCreatedAt(orderData.getCreatedAt());
         order.setItems(items);
 
+        Money persistedTotal = Money.ofNullable(orderData.getTotalAmount());
+        if (verifyTotalsOnLoad) {
+            order.updateTotals();
+            warnOnTotalsMismatch(order, persistedTotal, orderData.getItemsCount());
+        } else if (persistedTotal != null && orderData.getItemsCount() != null) {
+            // Totals are written together with the items, so the persisted values are trusted as is
+            order.setTotalAmount(persistedTotal);
+            order.setItemsCount(orderData.getItemsCount());
+        }
+
         return order;
     }
+
+    private void warnOnTotalsMismatch(Order order, Money persistedTotal, Integer persistedItemsCount) {
+        if (!order.getTotalAmount().equals(persistedTotal) || !order.getItemsCount().equals(persistedItemsCount)) {
+            log.warn("Persisted totals diverge from items - orderId: {}, persisted: {}/{}, computed: {}/{}",
+                    order.getOrderId(), persistedTotal, persistedItemsCount,
+                    order.getTotalAmount(), order.getItemsCount());
+        }
+    }
 }
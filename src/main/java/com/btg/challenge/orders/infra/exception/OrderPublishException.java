@@ -0,0 +1,11 @@
+package com.btg.challenge.orders.infra.exception;
+
+public class OrderPublishException extends RuntimeException {
+    public OrderPublishException(Long orderId, String reason) {
+        super("Order not confirmed by broker: orderId=" + orderId + ", reason=" + reason);
+    }
+
+    public OrderPublishException(Long orderId, Throwable cause) {
+        super("Order could not be published: orderId=" + orderId + ", reason=" + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,102 @@
+package com.btg.challenge.orders.infra.job;
+
+import com.btg.challenge.orders.infra.repository.OrderOutboxDataRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tails the order outbox in batches of {@code batch-size} until it is drained, then publishes how far the read
+ * models lag behind: an estimate of the pending events and the age of the oldest one.
+ */
+@Slf4j
+@Component
+public class OrderProjectionJob {
+
+    public static final String EVENTS_COUNTER = "orders.projection.events";
+    public static final String BACKLOG_GAUGE = "orders.projection.backlog";
+    public static final String LAG_GAUGE = "orders.projection.lag";
+
+    private final OrderProjector projector;
+    private final OrderOutboxDataRepository outboxRepository;
+    private final int batchSize;
+    private final boolean rebuildOnStartup;
+
+    private final Counter projectedEvents;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    public OrderProjectionJob(OrderProjector projector,
+                              OrderOutboxDataRepository outboxRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${orders.projection.batch-size}") int batchSize,
+                              @Value("${orders.projection.rebuild-on-startup}") boolean rebuildOnStartup) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("orders.projection.batch-size must be at least 1");
+        }
+        this.projector = projector;
+        this.outboxRepository = outboxRepository;
+        this.batchSize = batchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+
+        this.projectedEvents = Counter.builder(EVENTS_COUNTER)
+                .description("Outbox events applied to the order read models")
+                .register(meterRegistry);
+        Gauge.builder(BACKLOG_GAUGE, backlog, AtomicLong::get)
+                .description("Estimated outbox events waiting to be projected at the last projector run")
+                .register(meterRegistry);
+        Gauge.builder(LAG_GAUGE, lagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest outbox event waiting to be projected")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.projection.interval}")
+    public int project() {
+        int projected = 0;
+        int batch;
+        do {
+            batch = projector.projectBatch(batchSize);
+            projected += batch;
+        } while (batch == batchSize);
+
+        projectedEvents.increment(projected);
+        refreshLag();
+
+        if (projected > 0) {
+            log.debug("Projected {} order outbox events", projected);
+        }
+        return projected;
+    }
+
+    @Scheduled(cron = "${orders.projection.rebuild-cron}")
+    public int rebuild() {
+        int rebuiltOrders = projector.rebuild();
+        refreshLag();
+        return rebuiltOrders;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    private void refreshLag() {
+        backlog.set(outboxRepository.estimateBacklog().orElse(0L));
+        lagMillis.set(outboxRepository.findOldestCreatedAt()
+                .map(oldest -> Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()))
+                .orElse(0L));
+    }
+}
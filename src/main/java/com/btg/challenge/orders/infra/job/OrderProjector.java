@@ -0,0 +1,56 @@
+package com.btg.challenge.orders.infra.job;
+
+import com.btg.challenge.orders.infra.repository.CustomerOrderStatsDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderOutboxDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderTotalDataRepository;
+import com.btg.challenge.orders.infra.repository.model.OrderOutboxData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Applies order outbox events to {@code order_totals}. Each batch is projected and removed from the outbox in one
+ * transaction, so an event is applied exactly once. {@code customer_order_stats} is updated in the order's own
+ * transaction and only recomputed here by {@link #rebuild()}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderProjector {
+
+    private final OrderOutboxDataRepository outboxRepository;
+    private final OrderTotalDataRepository orderTotalRepository;
+    private final CustomerOrderStatsDataRepository customerOrderStatsRepository;
+
+    @Transactional
+    public int projectBatch(int batchSize) {
+        List<OrderOutboxData> events = outboxRepository.findNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Long[] eventIds = events.stream().map(OrderOutboxData::getEventId).toArray(Long[]::new);
+        orderTotalRepository.insertFromOutbox(eventIds);
+        outboxRepository.deleteAllByIdInBatch(List.of(eventIds));
+        return events.size();
+    }
+
+    @Transactional
+    public int rebuild() {
+        log.info("Rebuilding order projections from orders");
+
+        // Pending events are covered by the rebuild; ON CONFLICT absorbs any event racing it
+        outboxRepository.deleteAllInBatch();
+        orderTotalRepository.deleteAllInBatch();
+        int rebuiltOrders = orderTotalRepository.insertFromOrders();
+        customerOrderStatsRepository.deleteAllInBatch();
+        int rebuiltCustomers = customerOrderStatsRepository.insertFromOrders();
+
+        log.info("Order projections rebuilt: orders={}, customers={}", rebuiltOrders, rebuiltCustomers);
+
+        return rebuiltOrders;
+    }
+}
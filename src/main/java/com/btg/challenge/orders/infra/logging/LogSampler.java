@@ -0,0 +1,30 @@
+package com.btg.challenge.orders.infra.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lets one in every {@code sampleRate} calls through: {@code 1} logs everything, {@code 0} disables sampling output.
+ */
+@Component
+public class LogSampler {
+
+    private final int sampleRate;
+    private final AtomicLong calls = new AtomicLong();
+
+    public LogSampler(@Value("${orders.logging.success-sample-rate}") int sampleRate) {
+        if (sampleRate < 0) {
+            throw new IllegalArgumentException("Sample rate must not be negative: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean sample() {
+        if (sampleRate <= 1) {
+            return sampleRate == 1;
+        }
+        return calls.getAndIncrement() % sampleRate == 0;
+    }
+}
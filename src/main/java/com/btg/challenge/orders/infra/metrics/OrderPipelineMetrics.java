@@ -0,0 +1,154 @@
+package com.btg.challenge.orders.infra.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class OrderPipelineMetrics {
+
+    public static final String STAGE_TIMER = "orders.pipeline.stage";
+    public static final String MESSAGE_TIMER = "orders.pipeline.message";
+    public static final String MESSAGES_COUNTER = "orders.pipeline.messages";
+    public static final String IN_FLIGHT_GAUGE = "orders.pipeline.in.flight";
+
+    public enum Stage {
+        DESERIALIZE, MAP, VALIDATE, DUPLICATE_CHECK, CUSTOMER_RESOLVE, PERSIST;
+
+        private String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum Outcome {
+        OK, DUPLICATE, INVALID, ERROR;
+
+        private String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Stage, Map<Outcome, Timer>> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<Outcome, Timer> messageTimers = new EnumMap<>(Outcome.class);
+    private final Map<Outcome, Counter> messageCounters = new EnumMap<>(Outcome.class);
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public OrderPipelineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (Stage stage : Stage.values()) {
+            Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                timers.put(outcome, Timer.builder(STAGE_TIMER)
+                        .description("Time spent in each order processing stage")
+                        .tags("stage", stage.tag(), "outcome", outcome.tag())
+                        .register(meterRegistry));
+            }
+            stageTimers.put(stage, timers);
+        }
+        for (Outcome outcome : Outcome.values()) {
+            messageTimers.put(outcome, Timer.builder(MESSAGE_TIMER)
+                    .description("End-to-end processing time of a single order message")
+                    .tag("outcome", outcome.tag())
+                    .register(meterRegistry));
+            messageCounters.put(outcome, Counter.builder(MESSAGES_COUNTER)
+                    .description("Order messages processed, by outcome")
+                    .tag("outcome", outcome.tag())
+                    .register(meterRegistry));
+        }
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stage(Timer.Sample sample, Stage stage, Outcome outcome) {
+        sample.stop(stageTimers.get(stage).get(outcome));
+    }
+
+    public <T> T stage(Stage stage, Supplier<T> step) {
+        return stage(stage, step, result -> Outcome.OK);
+    }
+
+    public <T> T stage(Stage stage, Supplier<T> step, Function<? super T, Outcome> outcomeOf) {
+        Timer.Sample sample = start();
+        try {
+            T result = step.get();
+            stage(sample, stage, outcomeOf.apply(result));
+            return result;
+        } catch (IllegalArgumentException e) {
+            stage(sample, stage, Outcome.INVALID);
+            throw e;
+        } catch (RuntimeException e) {
+            stage(sample, stage, Outcome.ERROR);
+            throw e;
+        }
+    }
+
+    public void stage(Stage stage, Runnable step) {
+        stage(stage, () -> {
+            step.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records a message once its transaction completes. A message whose commit fails is rejected afterwards,
+     * so it is recorded as an error instead of with the outcome reached before the commit.
+     */
+    public void message(Timer.Sample sample, Outcome outcome) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordMessage(sample, outcome);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                boolean lost = status != STATUS_COMMITTED && (outcome == Outcome.OK || outcome == Outcome.DUPLICATE);
+                recordMessage(sample, lost ? Outcome.ERROR : outcome);
+            }
+        });
+    }
+
+    /**
+     * Counts batch outcomes once the surrounding transaction commits. A rolled back batch is retried message by
+     * message, which counts each message again, so counting before the commit would record it twice.
+     */
+    public void messages(Outcome outcome, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            messageCounters.get(outcome).increment(count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                messageCounters.get(outcome).increment(count);
+            }
+        });
+    }
+
+    private void recordMessage(Timer.Sample sample, Outcome outcome) {
+        sample.stop(messageTimers.get(outcome));
+        messageCounters.get(outcome).increment();
+    }
+
+    public AtomicInteger inFlight(String listener) {
+        return inFlight.computeIfAbsent(listener, name ->
+                meterRegistry.gauge(IN_FLIGHT_GAUGE, Tags.of("listener", name), new AtomicInteger()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.btg.challenge.orders.infra.mqprovider;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Jackson converter for the binary {@code application/cbor} wire format, the CBOR counterpart
+ * of {@code Jackson2JsonMessageConverter}. Bodies are bound to the inferred argument type of the message.
+ */
+public class Jackson2CborMessageConverter extends AbstractMessageConverter {
+
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+    private final CBORMapper cborMapper;
+
+    public Jackson2CborMessageConverter() {
+        this(new CBORMapper());
+    }
+
+    public Jackson2CborMessageConverter(CBORMapper cborMapper) {
+        this.cborMapper = cborMapper;
+    }
+
+    @Override
+    protected Message createMessage(Object object, MessageProperties messageProperties) {
+        byte[] body;
+        try {
+            body = cborMapper.writeValueAsBytes(object);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to convert Message content", e);
+        }
+        messageProperties.setContentType(CONTENT_TYPE_CBOR);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) {
+        Type type = message.getMessageProperties().getInferredArgumentType();
+        try {
+            return cborMapper.readValue(message.getBody(), cborMapper.constructType(type != null ? type : Object.class));
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to convert Message content", e);
+        }
+    }
+}
@@ -14,6 +14,8 @@ import java.util.List;
 @NoArgsConstructor
 public class OrderMessage {
 
+    public static final String CUSTOMER_HEADER = "codigoCliente";
+
     @JsonProperty("codigoPedido")
     private Long codigoPedido;
 
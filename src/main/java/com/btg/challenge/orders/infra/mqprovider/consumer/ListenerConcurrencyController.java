@@ -0,0 +1,201 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resizes the order listener containers between {@code min-consumers} and {@code max-consumers}.
+ * Consumers are added while the queue backlog exceeds {@code depth-per-consumer} per consumer, and removed
+ * when the backlog drains or when threads are already waiting for a Hikari connection, since extra consumers
+ * would only queue on {@code getConnection}. While the mean processing time per message is above
+ * {@code max-latency} the size is held, as a slow database does not get faster with more consumers.
+ * Adaptive scaling is off with customer partitions, whose listeners stay at one consumer each.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.queue.listener.adaptive.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "orders.queue.partitions.enabled", havingValue = "false", matchIfMissing = true)
+public class ListenerConcurrencyController {
+
+    public static final String DECISIONS_COUNTER = "orders.listener.scaling.decisions";
+    public static final String CONSUMERS_GAUGE = "orders.listener.consumers";
+    public static final String QUEUE_DEPTH_GAUGE = "orders.listener.queue.depth";
+
+    public enum Action {
+        SCALE_UP, SCALE_DOWN, HOLD
+    }
+
+    public enum Reason {
+        BACKLOG, DB_SATURATED, LATENCY, IDLE, STEADY
+    }
+
+    public record Decision(int consumers, Action action, Reason reason) {
+    }
+
+    private final RabbitListenerEndpointRegistry listenerRegistry;
+    private final AmqpAdmin amqpAdmin;
+    private final HikariPoolMXBean hikariPool;
+    private final MeterRegistry meterRegistry;
+    private final String queueName;
+    private final int minConsumers;
+    private final int maxConsumers;
+    private final long depthPerConsumer;
+    private final double maxLatencyMillis;
+
+    private final AtomicInteger consumers = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+    private double lastStageNanos;
+    private double lastMessages;
+
+    public ListenerConcurrencyController(RabbitListenerEndpointRegistry listenerRegistry,
+                                         AmqpAdmin amqpAdmin,
+                                         DataSource dataSource,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${orders.queue.name}") String queueName,
+                                         @Value("${orders.queue.listener.min-consumers}") int minConsumers,
+                                         @Value("${orders.queue.listener.max-consumers}") int maxConsumers,
+                                         @Value("${orders.queue.listener.adaptive.depth-per-consumer}") long depthPerConsumer,
+                                         @Value("${orders.queue.listener.adaptive.max-latency}") double maxLatencyMillis) {
+        this.listenerRegistry = listenerRegistry;
+        this.amqpAdmin = amqpAdmin;
+        this.hikariPool = hikariPool(dataSource);
+        this.meterRegistry = meterRegistry;
+        this.queueName = queueName;
+        this.minConsumers = minConsumers;
+        this.maxConsumers = maxConsumers;
+        this.depthPerConsumer = depthPerConsumer;
+        this.maxLatencyMillis = maxLatencyMillis;
+
+        this.consumers.set(minConsumers);
+        Gauge.builder(CONSUMERS_GAUGE, consumers, AtomicInteger::get)
+                .description("Consumers per listener container chosen by the adaptive controller")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_DEPTH_GAUGE, queueDepth, AtomicLong::get)
+                .description("Ready messages in the orders queue at the last controller run")
+                .tag("queue", queueName)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.queue.listener.adaptive.interval}")
+    public void adjust() {
+        List<SimpleMessageListenerContainer> containers = listenerRegistry.getListenerContainers().stream()
+                .filter(SimpleMessageListenerContainer.class::isInstance)
+                .map(SimpleMessageListenerContainer.class::cast)
+                .filter(SimpleMessageListenerContainer::isRunning)
+                .toList();
+        if (containers.isEmpty()) {
+            return;
+        }
+
+        QueueInformation queueInfo = amqpAdmin.getQueueInfo(queueName);
+        if (queueInfo == null) {
+            return;
+        }
+        queueDepth.set(queueInfo.getMessageCount());
+
+        int awaitingConnection = hikariPool != null ? hikariPool.getThreadsAwaitingConnection() : 0;
+        Decision decision = decide(consumers.get(), queueInfo.getMessageCount(), meanLatencyMillis(), awaitingConnection);
+        record(decision);
+
+        int previous = consumers.getAndSet(decision.consumers());
+        if (decision.action() != Action.HOLD) {
+            log.info("Resizing order listeners: consumers={}, action={}, reason={}, queueDepth={}, awaitingConnection={}",
+                    decision.consumers(), decision.action(), decision.reason(), queueInfo.getMessageCount(), awaitingConnection);
+        }
+        containers.forEach(container -> resize(container, previous, decision.consumers()));
+    }
+
+    public Decision decide(int current, long depth, double latencyMillis, int awaitingConnection) {
+        if (awaitingConnection > 0) {
+            return step(current, current - 1, Reason.DB_SATURATED);
+        }
+        if (latencyMillis > maxLatencyMillis) {
+            return new Decision(clamp(current), Action.HOLD, Reason.LATENCY);
+        }
+        if (depth > current * depthPerConsumer) {
+            return step(current, current + 1, Reason.BACKLOG);
+        }
+        if (depth < (current - 1) * depthPerConsumer / 2) {
+            return step(current, current - 1, Reason.IDLE);
+        }
+        return new Decision(clamp(current), Action.HOLD, Reason.STEADY);
+    }
+
+    private Decision step(int current, int wanted, Reason reason) {
+        int target = clamp(wanted);
+        if (target == current) {
+            return new Decision(target, Action.HOLD, reason);
+        }
+        return new Decision(target, target > current ? Action.SCALE_UP : Action.SCALE_DOWN, reason);
+    }
+
+    private int clamp(int wanted) {
+        return Math.max(minConsumers, Math.min(maxConsumers, wanted));
+    }
+
+    private void resize(SimpleMessageListenerContainer container, int previous, int target) {
+        // Pinning both bounds disables the container's own activity-based scaling;
+        // the order keeps concurrentConsumers <= maxConcurrentConsumers, which the container asserts
+        if (target > previous) {
+            container.setMaxConcurrentConsumers(target);
+            container.setConcurrentConsumers(target);
+        } else {
+            container.setConcurrentConsumers(target);
+            container.setMaxConcurrentConsumers(target);
+        }
+    }
+
+    private double meanLatencyMillis() {
+        double stageNanos = meterRegistry.find(OrderPipelineMetrics.STAGE_TIMER).timers().stream()
+                .mapToDouble(timer -> timer.totalTime(TimeUnit.NANOSECONDS))
+                .sum();
+        double messages = meterRegistry.find(OrderPipelineMetrics.MESSAGES_COUNTER).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        double processed = messages - lastMessages;
+        double latencyMillis = processed > 0 ? (stageNanos - lastStageNanos) / processed / 1_000_000 : 0;
+        lastStageNanos = stageNanos;
+        lastMessages = messages;
+        return latencyMillis;
+    }
+
+    private void record(Decision decision) {
+        Counter.builder(DECISIONS_COUNTER)
+                .description("Adaptive listener controller decisions")
+                .tag("action", decision.action().name().toLowerCase(Locale.ROOT))
+                .tag("reason", decision.reason().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static HikariPoolMXBean hikariPool(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean()
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
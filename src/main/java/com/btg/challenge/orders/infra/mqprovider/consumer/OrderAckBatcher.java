@@ -0,0 +1,110 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces manual acknowledgements per consumer channel: successful deliveries are acked with
+ * {@code multiple=true} once {@code orders.queue.ack.batch-size} are pending or every
+ * {@code orders.queue.ack.max-delay} ms, whichever comes first. A rejected delivery flushes the
+ * pending acks first so only the failed message is dead-lettered.
+ */
+@Slf4j
+@Component
+public class OrderAckBatcher {
+
+    public static final String UNACKED_GAUGE = "orders.queue.unacked";
+
+    private final int batchSize;
+    private final MeterRegistry meterRegistry;
+    private final Map<Channel, PendingAcks> pendingByChannel = new ConcurrentHashMap<>();
+
+    public OrderAckBatcher(@Value("${orders.queue.ack.batch-size}") int batchSize, MeterRegistry meterRegistry) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Ack batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void ack(Channel channel, long deliveryTag) {
+        PendingAcks pending = pendingByChannel.computeIfAbsent(channel, this::register);
+        synchronized (pending) {
+            pending.lastDeliveryTag = deliveryTag;
+            pending.count++;
+            if (pending.count >= batchSize) {
+                flush(channel, pending);
+            }
+        }
+    }
+
+    public void reject(Channel channel, long deliveryTag) {
+        PendingAcks pending = pendingByChannel.get(channel);
+        if (pending != null) {
+            synchronized (pending) {
+                flush(channel, pending);
+            }
+        }
+        try {
+            channel.basicReject(deliveryTag, false);
+        } catch (IOException e) {
+            throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.queue.ack.max-delay}")
+    public void flushAll() {
+        pendingByChannel.forEach((channel, pending) -> {
+            if (!channel.isOpen()) {
+                // Unacked deliveries of a closed channel are redelivered by the broker
+                pendingByChannel.remove(channel);
+                meterRegistry.remove(pending.gauge);
+                return;
+            }
+            try {
+                synchronized (pending) {
+                    flush(channel, pending);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush pending acks: channel={}, error={}", channel.getChannelNumber(), e.getMessage());
+            }
+        });
+    }
+
+    private void flush(Channel channel, PendingAcks pending) {
+        if (pending.count == 0) {
+            return;
+        }
+        try {
+            channel.basicAck(pending.lastDeliveryTag, true);
+            pending.count = 0;
+        } catch (IOException e) {
+            throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+        }
+    }
+
+    private PendingAcks register(Channel channel) {
+        PendingAcks pending = new PendingAcks();
+        pending.gauge = Gauge.builder(UNACKED_GAUGE, pending, acks -> acks.count)
+                .description("Processed deliveries waiting for a coalesced ack")
+                .tag("consumer", "channel-" + channel.getChannelNumber())
+                .register(meterRegistry);
+        return pending;
+    }
+
+    private static final class PendingAcks {
+        private volatile int count;
+        private long lastDeliveryTag;
+        private Gauge gauge;
+    }
+}
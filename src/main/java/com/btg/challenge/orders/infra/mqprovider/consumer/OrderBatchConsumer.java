@@ -0,0 +1,91 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.app.service.OrderMessagingService;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.processing.batch-enabled", havingValue = "true")
+public class OrderBatchConsumer {
+
+    private static final String LISTENER = "batch";
+
+    private final OrderMessagingService orderMessagingService;
+    private final OrderMessageReader orderMessageReader;
+    private final MessageRecoverer deadLetterRecoverer;
+    private final OrderPipelineMetrics pipelineMetrics;
+
+    @RabbitListener(queues = "${orders.queue.name}", containerFactory = "batchRabbitListenerContainerFactory")
+    public void processOrderBatch(List<Message> messages) {
+        if (log.isDebugEnabled()) {
+            log.debug("Received order batch: size={}", messages.size());
+        }
+
+        AtomicInteger inFlight = pipelineMetrics.inFlight(LISTENER);
+        inFlight.addAndGet(messages.size());
+        try {
+            processMessages(messages);
+        } finally {
+            inFlight.addAndGet(-messages.size());
+        }
+    }
+
+    private void processMessages(List<Message> messages) {
+        List<OrderMessage> orderMessages = new ArrayList<>(messages.size());
+        Map<OrderMessage, Message> sources = new IdentityHashMap<>(messages.size());
+
+        for (Message message : messages) {
+            try {
+                OrderMessage orderMessage = orderMessageReader.read(message);
+                orderMessages.add(orderMessage);
+                sources.put(orderMessage, message);
+            } catch (RuntimeException e) {
+                deadLetter(message, e);
+            }
+        }
+
+        if (orderMessages.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<OrderMessage> rejected = orderMessagingService.processOrderBatch(orderMessages);
+            rejected.forEach(orderMessage -> deadLetter(sources.get(orderMessage),
+                    new IllegalArgumentException("Invalid order data")));
+
+        } catch (RuntimeException e) {
+            log.warn("Order batch failed, falling back to per-message processing: size={}, error={}",
+                    orderMessages.size(), e.getMessage());
+            orderMessages.forEach(orderMessage -> processIsolated(orderMessage, sources.get(orderMessage)));
+        }
+    }
+
+    private void processIsolated(OrderMessage orderMessage, Message source) {
+        try {
+            orderMessagingService.processOrderMessage(orderMessage);
+        } catch (RuntimeException e) {
+            deadLetter(source, e);
+        }
+    }
+
+    private void deadLetter(Message message, Throwable cause) {
+        log.error("Routing order message to DLQ: messageId={}, error={}",
+                message.getMessageProperties().getMessageId(), cause.getMessage());
+        deadLetterRecoverer.recover(message, cause);
+    }
+}
@@ -1,22 +1,65 @@
 package com.btg.challenge.orders.infra.mqprovider.consumer;
 
 import com.btg.challenge.orders.app.service.OrderMessagingService;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
 import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "orders.processing.batch-enabled", havingValue = "false", matchIfMissing = true)
 public class OrderConsumer {
+
+    private static final String LISTENER = "single";
+
     private final OrderMessagingService orderMessagingService;
+    private final OrderMessageReader orderMessageReader;
+    private final OrderPipelineMetrics pipelineMetrics;
+    private final OrderAckBatcher ackBatcher;
+
+    // With customer partitions orders.queue is no longer bound, so its container stays stopped
+    @RabbitListener(queues = "${orders.queue.name}", autoStartup = "#{${orders.queue.listener.auto-startup} and !${orders.queue.partitions.enabled}}")
+    public void onMessage(Message message, Channel channel) {
+        long deliveryTag = message.getMessageProperties().getDeliveryTag();
+        AtomicInteger inFlight = pipelineMetrics.inFlight(LISTENER);
+        inFlight.incrementAndGet();
+        try {
+            processOrder(orderMessageReader.readOrder(message));
+        } catch (RuntimeException e) {
+            log.error("Rejecting order message to DLQ: messageId={}, error={}",
+                    message.getMessageProperties().getMessageId(), e.getMessage());
+            ackBatcher.reject(channel, deliveryTag);
+            return;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        ackBatcher.ack(channel, deliveryTag);
+    }
+
+    public void processOrder(Order order) {
+        if (log.isDebugEnabled()) {
+            log.debug("Received order message: orderId={}, customerId={}",
+                    order.getOrderId(), order.getCustomerId());
+        }
+
+        orderMessagingService.processOrder(order);
+    }
 
-    @RabbitListener(queues = "${orders.queue.name}")
     public void processOrder(OrderMessage orderMessage) {
-        log.info("Received order message: orderId={}, customerId={}",
-                orderMessage.getCodigoPedido(), orderMessage.getCodigoCliente());
+        if (log.isDebugEnabled()) {
+            log.debug("Received order message: orderId={}, customerId={}",
+                    orderMessage.getCodigoPedido(), orderMessage.getCodigoCliente());
+        }
 
         orderMessagingService.processOrderMessage(orderMessage);
     }
@@ -0,0 +1,49 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.exception.OrderMessageNullException;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Outcome;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Stage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class OrderMessageReader {
+
+    private final MessageConverter messageConverter;
+    private final ContentTypeDelegatingMessageConverter orderMessageConverter;
+    private final OrderPipelineMetrics pipelineMetrics;
+
+    public OrderMessage read(Message message) {
+        return decode(message, messageConverter, OrderMessage.class);
+    }
+
+    // Decodes straight into the domain order, skipping the OrderMessage binding and mapping
+    public Order readOrder(Message message) {
+        return decode(message, orderMessageConverter, Order.class);
+    }
+
+    private <T> T decode(Message message, MessageConverter converter, Class<T> type) {
+        Timer.Sample sample = pipelineMetrics.start();
+        try {
+            message.getMessageProperties().setInferredArgumentType(type);
+            Object decoded = converter.fromMessage(message);
+            if (type.isInstance(decoded)) {
+                pipelineMetrics.stage(sample, Stage.DESERIALIZE, Outcome.OK);
+                return type.cast(decoded);
+            }
+            throw new OrderMessageNullException();
+        } catch (RuntimeException e) {
+            pipelineMetrics.stage(sample, Stage.DESERIALIZE, Outcome.INVALID);
+            pipelineMetrics.messages(Outcome.INVALID, 1);
+            throw e;
+        }
+    }
+}
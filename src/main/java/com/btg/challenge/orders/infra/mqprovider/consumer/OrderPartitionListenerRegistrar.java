@@ -0,0 +1,49 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.infra.config.RabbitMQConfig;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers one single-consumer listener per customer partition queue, so all orders of a customer are
+ * processed in sequence by the same consumer. Adaptive scaling is off in this mode.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.queue.partitions.enabled", havingValue = "true")
+public class OrderPartitionListenerRegistrar implements RabbitListenerConfigurer {
+
+    public static final String LISTENER_ID_PREFIX = "orders-partition-";
+
+    private final OrderConsumer orderConsumer;
+    private final SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory;
+    private final String queueName;
+    private final int partitionCount;
+
+    public OrderPartitionListenerRegistrar(OrderConsumer orderConsumer,
+                                           SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory,
+                                           @Value("${orders.queue.name}") String queueName,
+                                           @Value("${orders.queue.partitions.count}") int partitionCount) {
+        this.orderConsumer = orderConsumer;
+        this.rabbitListenerContainerFactory = rabbitListenerContainerFactory;
+        this.queueName = queueName;
+        this.partitionCount = partitionCount;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        for (int partition = 0; partition < partitionCount; partition++) {
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId(LISTENER_ID_PREFIX + partition);
+            endpoint.setQueueNames(RabbitMQConfig.partitionQueueName(queueName, partition));
+            endpoint.setConcurrency("1-1");
+            endpoint.setMessageListener((ChannelAwareMessageListener) orderConsumer::onMessage);
+            registrar.registerEndpoint(endpoint, rabbitListenerContainerFactory);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes an order message body straight into a domain {@link Order} with Jackson's streaming parser,
+ * computing item and order totals in the same pass instead of binding an {@code OrderMessage} and mapping it.
+ * Outgoing messages are still written by {@link Jackson2JsonMessageConverter}.
+ */
+public class OrderStreamingMessageConverter implements MessageConverter {
+
+    private static final int INITIAL_ITEMS_CAPACITY = 16;
+
+    private final JsonFactory jsonFactory;
+    private final MessageConverter writer;
+    private final boolean textualNumbers;
+
+    public OrderStreamingMessageConverter() {
+        this(new JsonFactory(), new Jackson2JsonMessageConverter());
+    }
+
+    public OrderStreamingMessageConverter(JsonFactory jsonFactory, MessageConverter writer) {
+        this.jsonFactory = jsonFactory;
+        this.writer = writer;
+        this.textualNumbers = !jsonFactory.canHandleBinaryNatively();
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) {
+        return writer.toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Order fromMessage(Message message) {
+        byte[] body = message.getBody();
+        if (body == null || body.length == 0) {
+            return null;
+        }
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            expect(parser, token, JsonToken.START_OBJECT);
+            return readOrder(parser);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to convert Message content", e);
+        }
+    }
+
+    private Order readOrder(JsonParser parser) throws IOException {
+        Long orderId = null;
+        Long customerId = null;
+        List<OrderItem> items = null;
+        long totalCents = 0;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "codigoPedido" -> orderId = readLong(parser, value);
+                case "codigoCliente" -> customerId = readLong(parser, value);
+                case "itens" -> {
+                    items = null;
+                    totalCents = 0;
+                    if (value != JsonToken.VALUE_NULL) {
+                        expect(parser, value, JsonToken.START_ARRAY);
+                        items = new ArrayList<>(INITIAL_ITEMS_CAPACITY);
+                        while ((value = parser.nextToken()) != JsonToken.END_ARRAY) {
+                            expect(parser, value, JsonToken.START_OBJECT);
+                            OrderItem item = readItem(parser);
+                            items.add(item);
+                            totalCents = Math.addExact(totalCents, item.getTotalPrice().cents());
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser, token, JsonToken.END_OBJECT);
+        return new Order(orderId, customerId, items, Money.ofCents(totalCents));
+    }
+
+    private OrderItem readItem(JsonParser parser) throws IOException {
+        String product = null;
+        Integer quantity = null;
+        Money price = null;
+
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "produto" -> product = readText(parser, value);
+                case "quantidade" -> quantity = readInteger(parser, value);
+                case "preco" -> price = readMoney(parser, value);
+                default -> parser.skipChildren();
+            }
+        }
+        expect(parser, token, JsonToken.END_OBJECT);
+
+        Money totalPrice = price != null && quantity != null
+                ? price.times(quantity)
+                : Money.ZERO;
+        return new OrderItem(product, quantity, price, totalPrice);
+    }
+
+    private static String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw unexpected(parser, token);
+        }
+        return parser.getText();
+    }
+
+    private static Long readLong(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getLongValue();
+            case VALUE_STRING -> parseNumber(parser, () -> Long.valueOf(parser.getText()));
+            default -> throw unexpected(parser, token);
+        };
+    }
+
+    private static Integer readInteger(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parser.getIntValue();
+            case VALUE_STRING -> parseNumber(parser, () -> Integer.valueOf(parser.getText()));
+            default -> throw unexpected(parser, token);
+        };
+    }
+
+    private Money readMoney(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_NULL -> null;
+            case VALUE_NUMBER_INT -> parseNumber(parser,
+                    () -> Money.ofCents(Math.multiplyExact(parser.getLongValue(), 100L)));
+            case VALUE_NUMBER_FLOAT -> parseNumber(parser, () -> {
+                Money cents = textualNumbers
+                        ? parseCents(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                        : null;
+                return cents != null ? cents : Money.of(parser.getDecimalValue());
+            });
+            case VALUE_STRING -> parseNumber(parser, () -> Money.of(new BigDecimal(parser.getText())));
+            default -> throw unexpected(parser, token);
+        };
+    }
+
+    // Plain decimals with up to two fraction digits are read straight into cents; anything else needs rounding
+    private static Money parseCents(char[] text, int offset, int length) {
+        int end = offset + length;
+        int index = offset;
+        boolean negative = index < end && text[index] == '-';
+        if (negative) {
+            index++;
+        }
+
+        long cents = 0;
+        int fractionDigits = -1;
+        for (; index < end; index++) {
+            char c = text[index];
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9' && fractionDigits < Money.SCALE) {
+                cents = Math.addExact(Math.multiplyExact(cents, 10L), c - '0');
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else {
+                return null;
+            }
+        }
+        for (int scale = Math.max(fractionDigits, 0); scale < Money.SCALE; scale++) {
+            cents = Math.multiplyExact(cents, 10L);
+        }
+        return Money.ofCents(negative ? -cents : cents);
+    }
+
+    private static <T> T parseNumber(JsonParser parser, NumberText<T> number) throws IOException {
+        try {
+            return number.parse();
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new MessageConversionException("Invalid number '" + parser.getText() + "' for field "
+                    + parser.currentName(), e);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw unexpected(parser, actual);
+        }
+    }
+
+    private static MessageConversionException unexpected(JsonParser parser, JsonToken token) {
+        return new MessageConversionException("Unexpected token " + token + " at " + parser.currentLocation());
+    }
+
+    @FunctionalInterface
+    private interface NumberText<T> {
+        T parse() throws IOException;
+    }
+}
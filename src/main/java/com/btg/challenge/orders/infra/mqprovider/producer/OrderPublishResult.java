@@ -0,0 +1,6 @@
+package com.btg.challenge.orders.infra.mqprovider.producer;
+
+import java.util.List;
+
+public record OrderPublishResult(int requested, int confirmed, List<Long> failedOrderIds) {
+}
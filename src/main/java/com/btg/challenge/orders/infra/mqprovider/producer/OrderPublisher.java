@@ -0,0 +1,152 @@
+package com.btg.challenge.orders.infra.mqprovider.producer;
+
+import com.btg.challenge.orders.infra.exception.OrderPublishException;
+import com.btg.challenge.orders.infra.exception.ServiceOverloadedException;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes orders to the orders exchange with correlated publisher confirms.
+ * At most {@code max-outstanding-confirms} messages may await a confirm at any time; callers block
+ * for a free slot, and {@link #publishAll} sends each chunk of {@code batch-size} messages on one channel.
+ * When no slot frees up in time, {@link #publishAll} stops and reports the unsent orders as failed.
+ */
+@Slf4j
+@Component
+public class OrderPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final String exchange;
+    private final String routingKey;
+    private final int batchSize;
+    private final long confirmTimeoutMillis;
+    private final Semaphore outstandingConfirms;
+
+    public OrderPublisher(RabbitTemplate rabbitTemplate,
+                          @Value("${orders.queue.exchange}") String exchange,
+                          @Value("${orders.queue.routing-key}") String routingKey,
+                          @Value("${orders.publisher.batch-size}") int batchSize,
+                          @Value("${orders.publisher.max-outstanding-confirms}") int maxOutstandingConfirms,
+                          @Value("${orders.publisher.confirm-timeout}") long confirmTimeoutMillis) {
+        if (batchSize < 1 || maxOutstandingConfirms < 1) {
+            throw new IllegalArgumentException("Publisher batch size and confirm window must be positive");
+        }
+        this.rabbitTemplate = rabbitTemplate;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMillis = confirmTimeoutMillis;
+        this.outstandingConfirms = new Semaphore(maxOutstandingConfirms, true);
+    }
+
+    public CompletableFuture<Void> publish(OrderMessage orderMessage) {
+        if (!acquireConfirmSlot()) {
+            throw new ServiceOverloadedException("Too many unconfirmed publishes, please retry later");
+        }
+        return send(rabbitTemplate, orderMessage);
+    }
+
+    public OrderPublishResult publishAll(List<OrderMessage> orderMessages) {
+        List<CompletableFuture<Void>> confirms = new ArrayList<>(orderMessages.size());
+        for (int from = 0; from < orderMessages.size(); from += batchSize) {
+            List<OrderMessage> chunk = orderMessages.subList(from, Math.min(from + batchSize, orderMessages.size()));
+            rabbitTemplate.invoke(operations -> {
+                for (OrderMessage orderMessage : chunk) {
+                    if (!acquireConfirmSlot()) {
+                        return null;
+                    }
+                    confirms.add(send(operations, orderMessage));
+                }
+                return null;
+            });
+            if (confirms.size() < from + chunk.size()) {
+                log.warn("Publish stopped without a free confirm slot: sent={}, unsent={}",
+                        confirms.size(), orderMessages.size() - confirms.size());
+                break;
+            }
+        }
+
+        List<Long> failedOrderIds = new ArrayList<>();
+        for (int i = 0; i < confirms.size(); i++) {
+            try {
+                confirms.get(i).join();
+            } catch (CompletionException e) {
+                Long orderId = orderMessages.get(i).getCodigoPedido();
+                log.error("Order publish failed: orderId={}, error={}", orderId, e.getCause().getMessage());
+                failedOrderIds.add(orderId);
+            }
+        }
+        orderMessages.subList(confirms.size(), orderMessages.size())
+                .forEach(orderMessage -> failedOrderIds.add(orderMessage.getCodigoPedido()));
+
+        log.info("Orders published: requested={}, confirmed={}, failed={}",
+                orderMessages.size(), orderMessages.size() - failedOrderIds.size(), failedOrderIds.size());
+
+        return new OrderPublishResult(orderMessages.size(), orderMessages.size() - failedOrderIds.size(), failedOrderIds);
+    }
+
+    public int availableConfirmSlots() {
+        return outstandingConfirms.availablePermits();
+    }
+
+    private CompletableFuture<Void> send(RabbitOperations operations, OrderMessage orderMessage) {
+        Long orderId = orderMessage.getCodigoPedido();
+        CorrelationData correlation = new CorrelationData();
+        try {
+            operations.convertAndSend(exchange, routingKey, orderMessage, withCustomerHeader(orderMessage), correlation);
+        } catch (AmqpException e) {
+            outstandingConfirms.release();
+            return CompletableFuture.failedFuture(new OrderPublishException(orderId, e));
+        }
+
+        return correlation.getFuture()
+                .orTimeout(confirmTimeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> outstandingConfirms.release())
+                .thenAccept(confirm -> {
+                    if (correlation.getReturned() != null) {
+                        throw new OrderPublishException(orderId, correlation.getReturned().getReplyText());
+                    }
+                    if (!confirm.isAck()) {
+                        throw new OrderPublishException(orderId, confirm.getReason());
+                    }
+                });
+    }
+
+    // Hashed by the consistent-hash exchange when customer partitions are enabled
+    private static MessagePostProcessor withCustomerHeader(OrderMessage orderMessage) {
+        return message -> {
+            if (orderMessage.getCodigoCliente() != null) {
+                message.getMessageProperties().setHeader(OrderMessage.CUSTOMER_HEADER,
+                        orderMessage.getCodigoCliente().toString());
+            }
+            return message;
+        };
+    }
+
+    private boolean acquireConfirmSlot() {
+        try {
+            if (outstandingConfirms.tryAcquire(confirmTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.warn("No publisher confirm slot available after {} ms", confirmTimeoutMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for a publisher confirm slot");
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.infra.repository.model.CustomerOrderStatsData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface CustomerOrderStatsDataRepository extends JpaRepository<CustomerOrderStatsData, Long> {
+
+    @Query("SELECT s.orderCount FROM CustomerOrderStatsData s WHERE s.customerId = :customerId")
+    Optional<Long> findOrderCountByCustomerId(@Param("customerId") Long customerId);
+
+    @Modifying
+    @Query(value = "UPDATE customer_order_stats SET order_count = order_count + :orderCount, "
+            + "total_amount = total_amount + :totalAmount, last_order_at = GREATEST(last_order_at, :lastOrderAt), "
+            + "updated_at = CURRENT_TIMESTAMP "
+            + "WHERE customer_id = :customerId", nativeQuery = true)
+    int addOrders(@Param("customerId") Long customerId,
+                  @Param("orderCount") long orderCount,
+                  @Param("totalAmount") BigDecimal totalAmount,
+                  @Param("lastOrderAt") LocalDateTime lastOrderAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_stats (customer_id, order_count, total_amount, last_order_at, updated_at) "
+            + "VALUES (:customerId, :orderCount, :totalAmount, :lastOrderAt, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("customerId") Long customerId,
+                       @Param("orderCount") long orderCount,
+                       @Param("totalAmount") BigDecimal totalAmount,
+                       @Param("lastOrderAt") LocalDateTime lastOrderAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO customer_order_stats (customer_id, order_count, total_amount, last_order_at, updated_at) "
+            + "SELECT o.customer_id, COUNT(*), COALESCE(SUM(o.total_amount), 0), MAX(o.created_at), CURRENT_TIMESTAMP "
+            + "FROM orders o GROUP BY o.customer_id "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertFromOrders();
+}
@@ -1,6 +1,8 @@
 package com.btg.challenge.orders.infra.repository;
 
 import com.btg.challenge.orders.infra.repository.model.OrderData;
+import com.btg.challenge.orders.infra.repository.model.OrderTotalRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,17 +10,46 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderDataRepository extends JpaRepository<OrderData, Long> {
 
-    @Query("SELECT o FROM OrderData o WHERE o.customer.customerId = :customerId")
-    Page<OrderData> findByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
+    @Query(value = "SELECT o.orderId FROM OrderData o WHERE o.customer.customerId = :customerId",
+            countQuery = "SELECT COUNT(o) FROM OrderData o WHERE o.customer.customerId = :customerId")
+    Page<Long> findIdsByCustomerId(@Param("customerId") Long customerId, Pageable pageable);
 
-    @Query("SELECT o FROM OrderData o LEFT JOIN FETCH o.items WHERE o.orderId = :orderId")
-    Optional<OrderData> findByIdWithItems(@Param("orderId") Long orderId);
+    @Query("SELECT o.orderId FROM OrderData o WHERE o.customer.customerId = :customerId "
+            + "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<Long> findFirstIdsByCustomerId(@Param("customerId") Long customerId, Limit limit);
+
+    @Query("SELECT o.orderId FROM OrderData o WHERE o.customer.customerId = :customerId "
+            + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) "
+            + "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<Long> findIdsByCustomerIdAfter(@Param("customerId") Long customerId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("orderId") Long orderId,
+                                        Limit limit);
+
+    @Query("SELECT DISTINCT o FROM OrderData o LEFT JOIN FETCH o.items WHERE o.orderId IN :orderIds")
+    List<OrderData> findAllWithItemsByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query(value = "SELECT o.order_id AS orderId, COALESCE(SUM(i.quantity * i.unit_price), 0) AS totalAmount "
+            + "FROM orders o LEFT JOIN order_items i ON i.order_id = o.order_id "
+            + "WHERE o.order_id = :orderId GROUP BY o.order_id", nativeQuery = true)
+    Optional<OrderTotalRow> findItemsTotalById(@Param("orderId") Long orderId);
+
+    @Query(value = "SELECT o.order_id AS orderId, COALESCE(SUM(i.quantity * i.unit_price), 0) AS totalAmount "
+            + "FROM orders o LEFT JOIN order_items i ON i.order_id = o.order_id "
+            + "WHERE o.order_id = ANY(:orderIds) GROUP BY o.order_id", nativeQuery = true)
+    List<OrderTotalRow> findItemsTotalsByIdIn(@Param("orderIds") Long[] orderIds);
 
     @Query("SELECT COUNT(o) FROM OrderData o WHERE o.customer.customerId = :customerId")
     long countByCustomerId(@Param("customerId") Long customerId);
+
+    @Query(value = "SELECT o.order_id FROM orders o WHERE o.order_id = ANY(:orderIds)", nativeQuery = true)
+    List<Long> findExistingIds(@Param("orderIds") Long[] orderIds);
 }
@@ -0,0 +1,36 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.infra.repository.model.OrderOutboxData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderOutboxDataRepository extends JpaRepository<OrderOutboxData, Long> {
+
+    // created_at carries the order's own creation time, which the projector uses as the customer's last order date
+    @Modifying
+    @Query(value = "INSERT INTO order_outbox (order_id, customer_id, total_amount, items_count, created_at) "
+            + "SELECT o.order_id, o.customer_id, o.total_amount, o.items_count, o.created_at "
+            + "FROM orders o WHERE o.order_id = ANY(:orderIds) ORDER BY o.order_id", nativeQuery = true)
+    int appendFromOrders(@Param("orderIds") Long[] orderIds);
+
+    // SKIP LOCKED lets several instances drain the outbox without waiting on each other's batches
+    @Query(value = "SELECT * FROM order_outbox ORDER BY event_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OrderOutboxData> findNextBatch(@Param("limit") int limit);
+
+    // Both lookups walk the event_id primary key, so they stay cheap however large the backlog grows
+    @Query("SELECT e.createdAt FROM OrderOutboxData e ORDER BY e.eventId LIMIT 1")
+    Optional<LocalDateTime> findOldestCreatedAt();
+
+    // Sequence gaps and events taken out of order by concurrent batches make this an upper bound, not an exact count
+    @Query("SELECT MAX(e.eventId) - MIN(e.eventId) + 1 FROM OrderOutboxData e")
+    Optional<Long> estimateBacklog();
+}
@@ -0,0 +1,45 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.infra.repository.model.OrderTotalData;
+import com.btg.challenge.orders.infra.repository.model.OrderTotalRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderTotalDataRepository extends JpaRepository<OrderTotalData, Long> {
+
+    // Orders the projector has not reached yet are read from orders in the same statement
+    @Query(value = "SELECT t.order_id AS orderId, t.total_amount AS totalAmount "
+            + "FROM order_totals t WHERE t.order_id = :orderId "
+            + "UNION ALL "
+            + "SELECT o.order_id, o.total_amount FROM orders o WHERE o.order_id = :orderId "
+            + "AND NOT EXISTS (SELECT 1 FROM order_totals t WHERE t.order_id = o.order_id)", nativeQuery = true)
+    Optional<OrderTotalRow> findTotalById(@Param("orderId") Long orderId);
+
+    @Query(value = "SELECT t.order_id AS orderId, t.total_amount AS totalAmount "
+            + "FROM order_totals t WHERE t.order_id = ANY(:orderIds) "
+            + "UNION ALL "
+            + "SELECT o.order_id, o.total_amount FROM orders o WHERE o.order_id = ANY(:orderIds) "
+            + "AND NOT EXISTS (SELECT 1 FROM order_totals t WHERE t.order_id = o.order_id)", nativeQuery = true)
+    List<OrderTotalRow> findTotalsByIdIn(@Param("orderIds") Long[] orderIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_totals (order_id, customer_id, total_amount, items_count, projected_at) "
+            + "SELECT e.order_id, e.customer_id, COALESCE(e.total_amount, 0), COALESCE(e.items_count, 0), CURRENT_TIMESTAMP "
+            + "FROM order_outbox e WHERE e.event_id = ANY(:eventIds) "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertFromOutbox(@Param("eventIds") Long[] eventIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO order_totals (order_id, customer_id, total_amount, items_count, projected_at) "
+            + "SELECT o.order_id, o.customer_id, COALESCE(o.total_amount, 0), COALESCE(o.items_count, 0), CURRENT_TIMESTAMP "
+            + "FROM orders o "
+            + "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertFromOrders();
+}
@@ -14,6 +14,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,7 +26,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class CustomerData {
+public class CustomerData implements Persistable<Long> {
 
     @Id
     @EqualsAndHashCode.Include
@@ -42,4 +43,15 @@ public class CustomerData {
 
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderData> orders;
+
+    @Override
+    public Long getId() {
+        return customerId;
+    }
+
+    // Lets save() persist instead of merge (no SELECT before INSERT) for customers created from messages
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
 }
@@ -5,6 +5,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -16,19 +17,21 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = @Index(name = "idx_orders_customer_created_order",
+        columnList = "customer_id, created_at DESC, order_id DESC"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
-public class OrderData {
+public class OrderData implements Persistable<Long> {
 
     @Id
     @EqualsAndHashCode.Include
@@ -55,4 +58,15 @@ public class OrderData {
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItemData> items;
-}
\ No newline at end of file
+
+    @Override
+    public Long getId() {
+        return orderId;
+    }
+
+    // Identifiers are assigned by the producer, so a missing creation timestamp is what marks a row as not yet inserted
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+}
@@ -1,14 +1,12 @@
 package com.btg.challenge.orders.infra.repository.model;
 
+import com.btg.challenge.orders.infra.repository.id.PooledSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -30,8 +28,7 @@ import java.time.LocalDateTime;
 public class OrderItemData {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq")
-    @SequenceGenerator(name = "order_item_seq", sequenceName = "order_item_sequence", allocationSize = 1)
+    @PooledSequence(name = "order_item_sequence")
     @EqualsAndHashCode.Include
     @Column(name = "item_id")
     private Long itemId;
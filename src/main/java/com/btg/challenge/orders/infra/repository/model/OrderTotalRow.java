@@ -0,0 +1,10 @@
+package com.btg.challenge.orders.infra.repository.model;
+
+import java.math.BigDecimal;
+
+public interface OrderTotalRow {
+
+    Long getOrderId();
+
+    BigDecimal getTotalAmount();
+}
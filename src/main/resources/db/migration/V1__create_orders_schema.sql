@@ -0,0 +1,57 @@
+-- IF NOT EXISTS lets databases previously built by Hibernate ddl-auto be baselined at version 0 and pick up the missing indexes
+
+CREATE TABLE IF NOT EXISTS customers (
+    customer_id BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    CONSTRAINT pk_customers PRIMARY KEY (customer_id)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    order_id     BIGINT         NOT NULL,
+    customer_id  BIGINT         NOT NULL,
+    total_amount NUMERIC(19, 2),
+    items_count  INTEGER,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    updated_at   TIMESTAMP(6),
+    CONSTRAINT pk_orders PRIMARY KEY (order_id),
+    CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES customers (customer_id)
+);
+
+-- Serves customer lookups, counts and both offset and keyset listings, newest first
+CREATE INDEX IF NOT EXISTS idx_orders_customer_created_order ON orders (customer_id, created_at DESC, order_id DESC);
+
+-- Increment must match orders.persistence.id-allocation-size (pooled-lo allocation); the ALTER also fixes
+-- sequences created by ddl-auto with an increment of 1
+CREATE SEQUENCE IF NOT EXISTS order_item_sequence START WITH 1 INCREMENT BY ${idAllocationSize};
+ALTER SEQUENCE order_item_sequence INCREMENT BY ${idAllocationSize};
+
+CREATE TABLE IF NOT EXISTS order_items (
+    item_id      BIGINT         NOT NULL,
+    order_id     BIGINT         NOT NULL,
+    product_name VARCHAR(255)   NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(19, 2) NOT NULL,
+    total_price  NUMERIC(19, 2),
+    created_at   TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (item_id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id ON order_items (order_id);
+
+CREATE TABLE IF NOT EXISTS customer_order_stats (
+    customer_id   BIGINT         NOT NULL,
+    order_count   BIGINT         NOT NULL,
+    total_amount  NUMERIC(19, 2) NOT NULL,
+    last_order_at TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_customer_order_stats PRIMARY KEY (customer_id)
+);
+
+-- Baselined databases already have orders; the projector only counts orders written after this migration
+INSERT INTO customer_order_stats (customer_id, order_count, total_amount, last_order_at, updated_at)
+SELECT o.customer_id, COUNT(*), COALESCE(SUM(o.total_amount), 0), MAX(o.created_at), CURRENT_TIMESTAMP
+FROM orders o
+WHERE NOT EXISTS (SELECT 1 FROM customer_order_stats s WHERE s.customer_id = o.customer_id)
+GROUP BY o.customer_id;
@@ -0,0 +1,25 @@
+-- Written in the same transaction as the order; drained by the projector in event_id order
+CREATE TABLE IF NOT EXISTS order_outbox (
+    event_id     BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    order_id     BIGINT         NOT NULL,
+    customer_id  BIGINT         NOT NULL,
+    total_amount NUMERIC(19, 2),
+    items_count  INTEGER,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_order_outbox PRIMARY KEY (event_id)
+);
+
+CREATE TABLE IF NOT EXISTS order_totals (
+    order_id     BIGINT         NOT NULL,
+    customer_id  BIGINT         NOT NULL,
+    total_amount NUMERIC(19, 2) NOT NULL,
+    items_count  INTEGER        NOT NULL,
+    projected_at TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT pk_order_totals PRIMARY KEY (order_id)
+);
+
+-- Orders stored before the outbox existed never get an event; their stats were backfilled by V1
+INSERT INTO order_totals (order_id, customer_id, total_amount, items_count, projected_at)
+SELECT o.order_id, o.customer_id, COALESCE(o.total_amount, 0), COALESCE(o.items_count, 0), CURRENT_TIMESTAMP
+FROM orders o
+WHERE NOT EXISTS (SELECT 1 FROM order_totals t WHERE t.order_id = o.order_id);
@@ -0,0 +1,49 @@
+package com.btg.challenge.orders.app.listener;
+
+import com.btg.challenge.orders.app.mapper.OrderMapper;
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.btg.challenge.orders.domain.event.OrdersPersistedEvent;
+import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderTotalCacheListener Unit Tests")
+class OrderTotalCacheListenerTest {
+
+    private Cache<Long, OrderTotalResponse> orderTotalsCache;
+    private OrderTotalCacheListener listener;
+
+    @BeforeEach
+    void setUp() {
+        orderTotalsCache = Caffeine.newBuilder().maximumSize(10).build();
+        listener = new OrderTotalCacheListener(orderTotalsCache, new OrderMapper());
+    }
+
+    @Test
+    @DisplayName("Should write persisted order totals through to the cache")
+    void shouldWritePersistedOrderTotalsThroughToCache() {
+        // Given
+        Order order = new Order(1L, 100L, List.of(new OrderItem("Product", 2, Money.of("50.00"))));
+        Order otherOrder = new Order(2L, 200L, List.of(new OrderItem("Other", 1, Money.of("10.00"))));
+
+        // When
+        listener.onOrdersPersisted(new OrdersPersistedEvent(List.of(order, otherOrder)));
+
+        // Then
+        OrderTotalResponse cached = orderTotalsCache.getIfPresent(1L);
+        assertNotNull(cached);
+        assertEquals(1L, cached.getOrderId());
+        assertEquals(100.00, cached.getTotal());
+        assertEquals("BRL", cached.getCurrency());
+        assertEquals(10.00, orderTotalsCache.getIfPresent(2L).getTotal());
+    }
+}
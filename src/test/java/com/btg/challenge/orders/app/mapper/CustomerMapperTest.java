@@ -1,7 +1,9 @@
 package com.btg.challenge.orders.app.mapper;
 
 import com.btg.challenge.orders.domain.entity.Customer;
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.model.CustomerOrderCountResponse;
 import com.btg.challenge.orders.model.CustomerOrdersResponse;
@@ -12,11 +14,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -33,6 +37,9 @@ class CustomerMapperTest {
     @Mock
     private OrderMapper orderMapper;
 
+    @Spy
+    private OrderCursorMapper orderCursorMapper = new OrderCursorMapper();
+
     @InjectMocks
     private CustomerMapper customerMapper;
 
@@ -57,25 +64,25 @@ class CustomerMapperTest {
         OrderItem item1 = new OrderItem();
         item1.setProduct("lápis");
         item1.setQuantity(100);
-        item1.setPrice(new BigDecimal("1.10"));
+        item1.setPrice(Money.of("1.10"));
 
         OrderItem item2 = new OrderItem();
         item2.setProduct("caderno");
         item2.setQuantity(10);
-        item2.setPrice(new BigDecimal("1.00"));
+        item2.setPrice(Money.of("1.00"));
 
         order1 = new Order();
         order1.setOrderId(1001L);
         order1.setCustomerId(customerId);
         order1.setItems(List.of(item1));
-        order1.setTotalAmount(new BigDecimal("110.00"));
+        order1.setTotalAmount(Money.of("110.00"));
         order1.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
 
         order2 = new Order();
         order2.setOrderId(1002L);
         order2.setCustomerId(customerId);
         order2.setItems(List.of(item2));
-        order2.setTotalAmount(new BigDecimal("10.00"));
+        order2.setTotalAmount(Money.of("10.00"));
         order2.setCreatedAt(LocalDateTime.of(2024, 1, 16, 14, 45));
 
         // Setup OrderSummaries
@@ -281,7 +288,7 @@ class CustomerMapperTest {
         Order orderWithDifferentCustomerId = new Order();
         orderWithDifferentCustomerId.setOrderId(1003L);
         orderWithDifferentCustomerId.setCustomerId(999L); // Different customer ID
-        orderWithDifferentCustomerId.setTotalAmount(new BigDecimal("50.00"));
+        orderWithDifferentCustomerId.setTotalAmount(Money.of("50.00"));
 
         Page<Order> orderPage = new PageImpl<>(List.of(orderWithDifferentCustomerId), pageable, 1);
 
@@ -499,4 +506,39 @@ class CustomerMapperTest {
 
         verify(orderMapper, times(1)).toOrderSummary(order1);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should map slice with next cursor built from the last order and no totals")
+    void shouldMapSliceWithNextCursorBuiltFromLastOrderAndNoTotals() {
+        // Given
+        when(orderMapper.toOrderSummary(order1)).thenReturn(orderSummary1);
+        when(orderMapper.toOrderSummary(order2)).thenReturn(orderSummary2);
+
+        // When
+        CustomerOrdersResponse result = customerMapper.toCustomerOrdersResponse(customerId,
+                new SliceImpl<>(List.of(order1, order2), PageRequest.ofSize(2), true));
+
+        // Then
+        assertEquals(customerId, result.getCustomerId());
+        assertEquals(List.of(orderSummary1, orderSummary2), result.getOrders());
+        assertEquals(2, result.getPageSize());
+        assertEquals(OrderCursor.of(order2), orderCursorMapper.fromToken(result.getNextCursor()));
+        assertNull(result.getTotalElements());
+        assertNull(result.getTotalPages());
+        assertNull(result.getCurrentPage());
+    }
+
+    @Test
+    @DisplayName("Should omit next cursor on the last slice")
+    void shouldOmitNextCursorOnLastSlice() {
+        // When
+        CustomerOrdersResponse result = customerMapper.toCustomerOrdersResponse(customerId,
+                new SliceImpl<>(List.of(), PageRequest.ofSize(10), false));
+
+        // Then
+        assertEquals(customerId, result.getCustomerId());
+        assertTrue(result.getOrders().isEmpty());
+        assertNull(result.getNextCursor());
+        verifyNoInteractions(orderMapper);
+    }
+}
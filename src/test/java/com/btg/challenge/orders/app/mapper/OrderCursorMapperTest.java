@@ -0,0 +1,60 @@
+package com.btg.challenge.orders.app.mapper;
+
+import com.btg.challenge.orders.domain.entity.OrderCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderCursorMapper Unit Tests")
+class OrderCursorMapperTest {
+
+    private final OrderCursorMapper orderCursorMapper = new OrderCursorMapper();
+
+    @Test
+    @DisplayName("Should round trip cursor through an opaque token")
+    void shouldRoundTripCursorThroughOpaqueToken() {
+        // Given
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456000), 1001L);
+
+        // When
+        String token = orderCursorMapper.toToken(cursor);
+        OrderCursor result = orderCursorMapper.fromToken(token);
+
+        // Then
+        assertEquals(cursor, result);
+        assertFalse(token.contains("1001"));
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not base64!", "MTAwMQ", "bm90LWEtZGF0ZXwxMDAx", "MjAyNC0wMS0xNVQxMDozMDowMHxhYmM"})
+    @DisplayName("Should reject malformed tokens as invalid arguments")
+    void shouldRejectMalformedTokensAsInvalidArguments(String token) {
+        // When & Then
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderCursorMapper.fromToken(token));
+        assertTrue(exception.getMessage().startsWith("Invalid cursor"));
+    }
+
+    @Test
+    @DisplayName("Should decode tokens encoded as createdAt and orderId")
+    void shouldDecodeTokensEncodedAsCreatedAtAndOrderId() {
+        // Given
+        String token = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2024-01-15T10:30|1001".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        OrderCursor result = orderCursorMapper.fromToken(token);
+
+        // Then
+        assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30), result.createdAt());
+        assertEquals(1001L, result.orderId());
+    }
+}
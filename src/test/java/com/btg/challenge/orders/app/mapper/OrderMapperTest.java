@@ -1,5 +1,6 @@
 package com.btg.challenge.orders.app.mapper;
 
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.model.OrderItemSummary;
@@ -24,7 +25,7 @@ class OrderMapperTest {
     void shouldMapOrderToOrderTotalResponseCorrectly() {
         Order order = new Order();
         order.setOrderId(1001L);
-        order.setTotalAmount(new BigDecimal("120.50"));
+        order.setTotalAmount(Money.of("120.50"));
 
         OrderTotalResponse response = orderMapper.toOrderTotalResponse(order);
 
@@ -40,12 +41,12 @@ class OrderMapperTest {
         OrderItem item1 = new OrderItem();
         item1.setProduct("lápis");
         item1.setQuantity(100);
-        item1.setPrice(new BigDecimal("1.10"));
+        item1.setPrice(Money.of("1.10"));
 
         OrderItem item2 = new OrderItem();
         item2.setProduct("caderno");
         item2.setQuantity(10);
-        item2.setPrice(new BigDecimal("1.00"));
+        item2.setPrice(Money.of("1.00"));
 
         Order order = new Order();
         order.setOrderId(1001L);
@@ -54,8 +55,9 @@ class OrderMapperTest {
         order.setCreatedAt(LocalDateTime.of(2024, 1, 15, 10, 30));
         order.updateTotals();
 
-        BigDecimal expectedTotal = item1.getPrice().multiply(BigDecimal.valueOf(item1.getQuantity()))
-                .add(item2.getPrice().multiply(BigDecimal.valueOf(item2.getQuantity())));
+        BigDecimal expectedTotal = item1.getPrice().times(item1.getQuantity())
+                .plus(item2.getPrice().times(item2.getQuantity()))
+                .toBigDecimal();
 
         OrderSummary summary = orderMapper.toOrderSummary(order);
 
@@ -90,7 +92,7 @@ class OrderMapperTest {
         assertNotNull(summary);
         assertEquals(1002L, summary.getOrderId());
         assertEquals(2L, summary.getCustomerId());
-        assertEquals(BigDecimal.ZERO, summary.getTotalAmount());
+        assertEquals(new BigDecimal("0.00"), summary.getTotalAmount());
         assertEquals(0, summary.getItemsCount());
         assertEquals(LocalDateTime.of(2024, 2, 10, 8, 0), summary.getCreatedAt());
         assertTrue(summary.getItems() == null || summary.getItems().isEmpty());
@@ -102,7 +104,7 @@ class OrderMapperTest {
         OrderItem item = new OrderItem();
         item.setProduct("borracha");
         item.setQuantity(5);
-        item.setPrice(new BigDecimal("2.50"));
+        item.setPrice(Money.of("2.50"));
 
         Order order = new Order();
         order.setItems(List.of(item));
@@ -134,7 +136,7 @@ class OrderMapperTest {
         // Given
         Order order = new Order();
         order.setOrderId(2001L);
-        order.setTotalAmount(BigDecimal.ZERO);
+        order.setTotalAmount(Money.ZERO);
 
         // When
         OrderTotalResponse response = orderMapper.toOrderTotalResponse(order);
@@ -152,7 +154,7 @@ class OrderMapperTest {
         // Given
         Order order = new Order();
         order.setOrderId(3001L);
-        order.setTotalAmount(new BigDecimal("999999.99"));
+        order.setTotalAmount(Money.of("999999.99"));
 
         // When
         OrderTotalResponse response = orderMapper.toOrderTotalResponse(order);
@@ -182,7 +184,7 @@ class OrderMapperTest {
         assertNotNull(summary);
         assertEquals(4001L, summary.getOrderId());
         assertEquals(4L, summary.getCustomerId());
-        assertEquals(BigDecimal.ZERO, summary.getTotalAmount());
+        assertEquals(new BigDecimal("0.00"), summary.getTotalAmount());
         assertEquals(0, summary.getItemsCount());
         assertEquals(LocalDateTime.of(2024, 3, 1, 12, 0), summary.getCreatedAt());
         assertNotNull(summary.getItems());
@@ -213,7 +215,7 @@ class OrderMapperTest {
         OrderItem item = new OrderItem();
         item.setProduct("item-desconto");
         item.setQuantity(1);
-        item.setPrice(new BigDecimal("-10.00"));
+        item.setPrice(Money.of("-10.00"));
 
         Order order = new Order();
         order.setItems(List.of(item));
@@ -229,12 +231,12 @@ class OrderMapperTest {
     }
 
     @Test
-    @DisplayName("Should preserve decimal precision in toOrderTotalResponse")
-    void shouldPreserveDecimalPrecisionInToOrderTotalResponse() {
+    @DisplayName("Should map the rounded cent amount in toOrderTotalResponse")
+    void shouldMapRoundedCentAmountInToOrderTotalResponse() {
         // Given
         Order order = new Order();
         order.setOrderId(5001L);
-        order.setTotalAmount(new BigDecimal("123.456"));
+        order.setTotalAmount(Money.of("123.456"));
 
         // When
         OrderTotalResponse response = orderMapper.toOrderTotalResponse(order);
@@ -242,7 +244,7 @@ class OrderMapperTest {
         // Then
         assertNotNull(response);
         assertEquals(5001L, response.getOrderId());
-        assertEquals(123.456, response.getTotal(), 0.001);
+        assertEquals(123.46, response.getTotal());
         assertEquals("BRL", response.getCurrency());
     }
 }
\ No newline at end of file
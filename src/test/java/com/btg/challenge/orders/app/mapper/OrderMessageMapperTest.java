@@ -1,5 +1,6 @@
 package com.btg.challenge.orders.app.mapper;
 
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
 import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
@@ -43,10 +44,10 @@ class OrderMessageMapperTest {
         assertEquals(2, order.getItems().size());
         assertEquals("lápis", order.getItems().getFirst().getProduct());
         assertEquals(100, order.getItems().get(0).getQuantity());
-        assertEquals(new BigDecimal("1.10"), order.getItems().get(0).getPrice());
+        assertEquals(Money.of("1.10"), order.getItems().get(0).getPrice());
         assertEquals("caderno", order.getItems().get(1).getProduct());
         assertEquals(10, order.getItems().get(1).getQuantity());
-        assertEquals(new BigDecimal("1.00"), order.getItems().get(1).getPrice());
+        assertEquals(Money.of("1.00"), order.getItems().get(1).getPrice());
     }
 
     @Test
@@ -94,7 +95,7 @@ class OrderMessageMapperTest {
         assertEquals(1, order.getItems().size());
         assertEquals("notebook", order.getItems().getFirst().getProduct());
         assertEquals(1, order.getItems().getFirst().getQuantity());
-        assertEquals(new BigDecimal("2500.00"), order.getItems().getFirst().getPrice());
+        assertEquals(Money.of("2500.00"), order.getItems().getFirst().getPrice());
     }
 
     @Test
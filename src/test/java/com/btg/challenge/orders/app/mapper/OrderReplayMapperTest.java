@@ -0,0 +1,56 @@
+package com.btg.challenge.orders.app.mapper;
+
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.mqprovider.producer.OrderPublishResult;
+import com.btg.challenge.orders.model.OrderReplayRequest;
+import com.btg.challenge.orders.model.OrderReplayResponse;
+import com.btg.challenge.orders.model.ReplayOrder;
+import com.btg.challenge.orders.model.ReplayOrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderReplayMapper Unit Tests")
+class OrderReplayMapperTest {
+
+    private final OrderReplayMapper orderReplayMapper = new OrderReplayMapper();
+
+    @Test
+    @DisplayName("Should map replay request to order messages")
+    void shouldMapReplayRequestToOrderMessages() {
+        // Given
+        ReplayOrderItem item = new ReplayOrderItem("lápis", 100, new BigDecimal("1.10"));
+        OrderReplayRequest request = new OrderReplayRequest(List.of(
+                new ReplayOrder(1001L, 1L, List.of(item)),
+                new ReplayOrder(1002L, 2L, List.of())));
+
+        // When
+        List<OrderMessage> orderMessages = orderReplayMapper.toOrderMessages(request);
+
+        // Then
+        assertEquals(2, orderMessages.size());
+        OrderMessage first = orderMessages.getFirst();
+        assertEquals(1001L, first.getCodigoPedido());
+        assertEquals(1L, first.getCodigoCliente());
+        assertEquals("lápis", first.getItens().getFirst().getProduto());
+        assertEquals(100, first.getItens().getFirst().getQuantidade());
+        assertEquals(new BigDecimal("1.10"), first.getItens().getFirst().getPreco());
+        assertTrue(orderMessages.get(1).getItens().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should map publish result to replay response")
+    void shouldMapPublishResultToReplayResponse() {
+        // When
+        OrderReplayResponse response = orderReplayMapper.toOrderReplayResponse(new OrderPublishResult(3, 2, List.of(1002L)));
+
+        // Then
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getConfirmed());
+        assertEquals(List.of(1002L), response.getFailedOrderIds());
+    }
+}
@@ -0,0 +1,94 @@
+package com.btg.challenge.orders.app.resource;
+
+import com.btg.challenge.orders.app.service.OrderReplayService;
+import com.btg.challenge.orders.infra.exception.ServiceOverloadedException;
+import com.btg.challenge.orders.model.OrderReplayRequest;
+import com.btg.challenge.orders.model.OrderReplayResponse;
+import com.btg.challenge.orders.model.ReplayOrder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdminResource Unit Tests")
+class AdminResourceTest {
+
+    @Mock
+    private OrderReplayService orderReplayService;
+
+    private ExecutorService replayExecutor;
+    private AdminResource adminResource;
+
+    private OrderReplayRequest request;
+
+    @BeforeEach
+    void setUp() {
+        replayExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("replay-", 0).factory());
+        adminResource = new AdminResource(orderReplayService, replayExecutor);
+        request = new OrderReplayRequest(List.of(new ReplayOrder(1001L, 1L, List.of())));
+    }
+
+    @AfterEach
+    void tearDown() {
+        replayExecutor.close();
+    }
+
+    @Test
+    @DisplayName("Should replay orders and return publish summary")
+    void shouldReplayOrdersAndReturnPublishSummary() throws ExecutionException, InterruptedException {
+        // Given
+        OrderReplayResponse replayResponse = new OrderReplayResponse(1, 1, List.of());
+        when(orderReplayService.replayOrders(request)).thenReturn(replayResponse);
+
+        // When
+        ResponseEntity<OrderReplayResponse> response = adminResource.replayOrders(request).get();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(replayResponse, response.getBody());
+        verify(orderReplayService).replayOrders(request);
+    }
+
+    @Test
+    @DisplayName("Should run replays on the dedicated replay executor")
+    void shouldRunReplaysOnDedicatedReplayExecutor() throws ExecutionException, InterruptedException {
+        // Given
+        when(orderReplayService.replayOrders(request)).thenAnswer(invocation ->
+                new OrderReplayResponse(1, Thread.currentThread().getName().startsWith("replay-") ? 1 : 0, List.of()));
+
+        // When
+        ResponseEntity<OrderReplayResponse> response = adminResource.replayOrders(request).get();
+
+        // Then
+        assertEquals(1, response.getBody().getConfirmed());
+    }
+
+    @Test
+    @DisplayName("Should fail future when the replay executor is shut down")
+    void shouldFailFutureWhenReplayExecutorIsShutDown() {
+        // Given
+        replayExecutor.shutdown();
+
+        // When
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> adminResource.replayOrders(request).get());
+
+        // Then
+        assertInstanceOf(ServiceOverloadedException.class, exception.getCause());
+        verifyNoInteractions(orderReplayService);
+    }
+}
@@ -1,13 +1,15 @@
 package com.btg.challenge.orders.app.resource;
 
 import com.btg.challenge.orders.app.service.CustomerService;
+import com.btg.challenge.orders.infra.async.BlockingTaskExecutor;
+import com.btg.challenge.orders.infra.async.QueuedExecutorService;
 import com.btg.challenge.orders.model.CustomerOrderCountResponse;
 import com.btg.challenge.orders.model.CustomerOrdersResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
@@ -17,8 +19,10 @@ import org.springframework.http.ResponseEntity;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +32,8 @@ class CustomersResourceTest {
     @Mock
     private CustomerService customerService;
 
-    @InjectMocks
+    private QueuedExecutorService queuedExecutor;
+    private BlockingTaskExecutor blockingTaskExecutor;
     private CustomersResource customersResource;
 
     private CustomerOrderCountResponse orderCountResponse;
@@ -36,10 +41,18 @@ class CustomersResourceTest {
 
     @BeforeEach
     void setUp() {
+        queuedExecutor = new QueuedExecutorService();
+        blockingTaskExecutor = new BlockingTaskExecutor(Executors.newVirtualThreadPerTaskExecutor(), 10, 1000);
+        customersResource = new CustomersResource(customerService, blockingTaskExecutor);
         orderCountResponse = new CustomerOrderCountResponse();
         ordersResponse = new CustomerOrdersResponse();
     }
 
+    @AfterEach
+    void tearDown() {
+        blockingTaskExecutor.close();
+    }
+
     @Test
     @DisplayName("Should get customer order count successfully")
     void shouldGetCustomerOrderCountSuccessfully() throws ExecutionException, InterruptedException {
@@ -71,7 +84,7 @@ class CustomersResourceTest {
 
         // When
         CompletableFuture<ResponseEntity<CustomerOrdersResponse>> future =
-            customersResource.getCustomerOrders(customerId, page, size, pageable);
+            customersResource.getCustomerOrders(customerId, page, size, null, null, pageable);
         ResponseEntity<CustomerOrdersResponse> response = future.get();
 
         // Then
@@ -81,6 +94,42 @@ class CustomersResourceTest {
         verify(customerService, times(1)).getCustomerOrders(customerId, pageable);
     }
 
+    @Test
+    @DisplayName("Should use cursor pagination when requested without a cursor")
+    void shouldUseCursorPaginationWhenRequestedWithoutCursor() throws ExecutionException, InterruptedException {
+        // Given
+        Long customerId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        when(customerService.getCustomerOrdersAfter(customerId, null, 10)).thenReturn(ordersResponse);
+
+        // When
+        ResponseEntity<CustomerOrdersResponse> response =
+            customersResource.getCustomerOrders(customerId, 0, 10, "cursor", null, pageable).get();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ordersResponse, response.getBody());
+        verify(customerService, never()).getCustomerOrders(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should use cursor pagination whenever an after token is given")
+    void shouldUseCursorPaginationWheneverAfterTokenIsGiven() throws ExecutionException, InterruptedException {
+        // Given
+        Long customerId = 1L;
+        Pageable pageable = PageRequest.of(0, 5);
+        when(customerService.getCustomerOrdersAfter(customerId, "token", 5)).thenReturn(ordersResponse);
+
+        // When
+        ResponseEntity<CustomerOrdersResponse> response =
+            customersResource.getCustomerOrders(customerId, 0, 5, null, "token", pageable).get();
+
+        // Then
+        assertEquals(ordersResponse, response.getBody());
+        verify(customerService, times(1)).getCustomerOrdersAfter(customerId, "token", 5);
+        verify(customerService, never()).getCustomerOrders(any(), any());
+    }
+
     @Test
     @DisplayName("Should handle service exception in getCustomerOrderCount")
     void shouldHandleServiceExceptionInGetCustomerOrderCount() {
@@ -113,7 +162,7 @@ class CustomersResourceTest {
 
         // When
         CompletableFuture<ResponseEntity<CustomerOrdersResponse>> future =
-            customersResource.getCustomerOrders(customerId, page, size, pageable);
+            customersResource.getCustomerOrders(customerId, page, size, null, null, pageable);
 
         // Then
         ExecutionException exception = assertThrows(ExecutionException.class, future::get);
@@ -126,17 +175,18 @@ class CustomersResourceTest {
     @DisplayName("Should execute asynchronously for getCustomerOrderCount")
     void shouldExecuteAsynchronouslyForGetCustomerOrderCount() {
         // Given
+        CustomersResource queuedResource = new CustomersResource(customerService, new BlockingTaskExecutor(queuedExecutor, 10, 1000));
         Long customerId = 1L;
         when(customerService.getOrderCount(customerId)).thenReturn(orderCountResponse);
 
         // When
         CompletableFuture<ResponseEntity<CustomerOrderCountResponse>> future =
-            customersResource.getCustomerOrderCount(customerId);
+            queuedResource.getCustomerOrderCount(customerId);
 
         // Then
         assertNotNull(future);
         assertFalse(future.isDone()); // Should be running asynchronously
-        // Wait for completion
+        queuedExecutor.runAll();
         assertDoesNotThrow(() -> future.get());
         assertTrue(future.isDone());
     }
@@ -145,6 +195,7 @@ class CustomersResourceTest {
     @DisplayName("Should execute asynchronously for getCustomerOrders")
     void shouldExecuteAsynchronouslyForGetCustomerOrders() {
         // Given
+        CustomersResource queuedResource = new CustomersResource(customerService, new BlockingTaskExecutor(queuedExecutor, 10, 1000));
         Long customerId = 1L;
         int page = 0;
         int size = 10;
@@ -153,12 +204,12 @@ class CustomersResourceTest {
 
         // When
         CompletableFuture<ResponseEntity<CustomerOrdersResponse>> future =
-            customersResource.getCustomerOrders(customerId, page, size, pageable);
+            queuedResource.getCustomerOrders(customerId, page, size, null, null, pageable);
 
         // Then
         assertNotNull(future);
         assertFalse(future.isDone()); // Should be running asynchronously
-        // Wait for completion
+        queuedExecutor.runAll();
         assertDoesNotThrow(() -> future.get());
         assertTrue(future.isDone());
     }
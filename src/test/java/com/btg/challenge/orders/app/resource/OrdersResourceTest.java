@@ -1,19 +1,25 @@
 package com.btg.challenge.orders.app.resource;
 
 import com.btg.challenge.orders.app.service.OrderService;
+import com.btg.challenge.orders.infra.async.BlockingTaskExecutor;
+import com.btg.challenge.orders.infra.async.QueuedExecutorService;
 import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.btg.challenge.orders.model.OrderTotalsRequest;
+import com.btg.challenge.orders.model.OrderTotalsResponse;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,16 +31,25 @@ class OrdersResourceTest {
     @Mock
     private OrderService orderService;
 
-    @InjectMocks
+    private QueuedExecutorService queuedExecutor;
+    private BlockingTaskExecutor blockingTaskExecutor;
     private OrdersResource ordersResource;
 
     private OrderTotalResponse orderTotalResponse;
 
     @BeforeEach
     void setUp() {
+        queuedExecutor = new QueuedExecutorService();
+        blockingTaskExecutor = new BlockingTaskExecutor(Executors.newVirtualThreadPerTaskExecutor(), 10, 1000);
+        ordersResource = new OrdersResource(orderService, blockingTaskExecutor);
         orderTotalResponse = new OrderTotalResponse();
     }
 
+    @AfterEach
+    void tearDown() {
+        blockingTaskExecutor.close();
+    }
+
     @Test
     @DisplayName("Should get order total successfully")
     void shouldGetOrderTotalSuccessfully() throws ExecutionException, InterruptedException {
@@ -77,17 +92,18 @@ class OrdersResourceTest {
     @DisplayName("Should execute asynchronously for getOrderTotal")
     void shouldExecuteAsynchronouslyForGetOrderTotal() {
         // Given
+        OrdersResource queuedResource = new OrdersResource(orderService, new BlockingTaskExecutor(queuedExecutor, 10, 1000));
         Long orderId = 1L;
         when(orderService.getOrderTotal(orderId)).thenReturn(orderTotalResponse);
 
         // When
         CompletableFuture<ResponseEntity<OrderTotalResponse>> future =
-            ordersResource.getOrderTotal(orderId);
+            queuedResource.getOrderTotal(orderId);
 
         // Then
         assertNotNull(future);
         assertFalse(future.isDone()); // Should be running asynchronously
-        // Wait for completion
+        queuedExecutor.runAll();
         assertDoesNotThrow(() -> future.get());
         assertTrue(future.isDone());
     }
@@ -142,4 +158,22 @@ class OrdersResourceTest {
         verify(orderService, times(1)).getOrderTotal(orderId1);
         verify(orderService, times(1)).getOrderTotal(orderId2);
     }
+
+    @Test
+    @DisplayName("Should get order totals for all requested order IDs in one service call")
+    void shouldGetOrderTotalsForAllRequestedOrderIdsInOneServiceCall() throws ExecutionException, InterruptedException {
+        // Given
+        List<Long> orderIds = List.of(1L, 2L);
+        OrderTotalsResponse orderTotalsResponse = new OrderTotalsResponse();
+        when(orderService.getOrderTotals(orderIds)).thenReturn(orderTotalsResponse);
+
+        // When
+        ResponseEntity<OrderTotalsResponse> response =
+            ordersResource.getOrderTotals(new OrderTotalsRequest(orderIds)).get();
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(orderTotalsResponse, response.getBody());
+        verify(orderService, times(1)).getOrderTotals(orderIds);
+    }
 }
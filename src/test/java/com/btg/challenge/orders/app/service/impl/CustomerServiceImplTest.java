@@ -1,7 +1,10 @@
 package com.btg.challenge.orders.app.service.impl;
 
 import com.btg.challenge.orders.app.mapper.CustomerMapper;
+import com.btg.challenge.orders.app.mapper.OrderCursorMapper;
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.domain.usecase.GetCustomerOrderCountUseCase;
 import com.btg.challenge.orders.domain.usecase.GetCustomerOrdersUseCase;
@@ -14,13 +17,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +47,9 @@ class CustomerServiceImplTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Spy
+    private OrderCursorMapper orderCursorMapper = new OrderCursorMapper();
+
     @InjectMocks
     private CustomerServiceImpl customerService;
 
@@ -55,8 +65,8 @@ class CustomerServiceImplTest {
         pageable = PageRequest.of(0, 10);
 
         // Setup Order entities
-        OrderItem item1 = new OrderItem("lápis", 100, new BigDecimal("1.10"));
-        OrderItem item2 = new OrderItem("caderno", 10, new BigDecimal("1.00"));
+        OrderItem item1 = new OrderItem("lápis", 100, Money.of("1.10"));
+        OrderItem item2 = new OrderItem("caderno", 10, Money.of("1.00"));
         Order order1 = new Order(1001L, customerId, List.of(item1));
         Order order2 = new Order(1002L, customerId, List.of(item2));
         customerOrdersPage = new PageImpl<>(List.of(order1, order2), pageable, 2L);
@@ -335,4 +345,47 @@ class CustomerServiceImplTest {
         verify(getCustomerOrdersUseCase, times(1)).execute(customerId, pageable);
         verify(customerMapper, times(1)).toCustomerOrdersResponse(customerOrdersPage);
     }
+
+    @Test
+    @DisplayName("Should start cursor pagination from the first slice when no cursor is given")
+    void shouldStartCursorPaginationFromFirstSliceWhenNoCursorIsGiven() {
+        // Given
+        Slice<Order> slice = new SliceImpl<>(customerOrdersPage.getContent(), PageRequest.ofSize(10), false);
+        when(getCustomerOrdersUseCase.executeAfter(customerId, null, 10)).thenReturn(slice);
+        when(customerMapper.toCustomerOrdersResponse(customerId, slice)).thenReturn(expectedOrdersResponse);
+
+        // When
+        CustomerOrdersResponse result = customerService.getCustomerOrdersAfter(customerId, null, 10);
+
+        // Then
+        assertSame(expectedOrdersResponse, result);
+        verify(getCustomerOrdersUseCase, never()).execute(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should decode the after token into a cursor for the use case")
+    void shouldDecodeAfterTokenIntoCursorForUseCase() {
+        // Given
+        OrderCursor cursor = new OrderCursor(LocalDateTime.of(2024, 1, 15, 10, 30), 1002L);
+        String token = orderCursorMapper.toToken(cursor);
+        Slice<Order> slice = new SliceImpl<>(List.of(), PageRequest.ofSize(10), false);
+        when(getCustomerOrdersUseCase.executeAfter(customerId, cursor, 10)).thenReturn(slice);
+        when(customerMapper.toCustomerOrdersResponse(customerId, slice)).thenReturn(expectedOrdersResponse);
+
+        // When
+        CustomerOrdersResponse result = customerService.getCustomerOrdersAfter(customerId, token, 10);
+
+        // Then
+        assertSame(expectedOrdersResponse, result);
+        verify(getCustomerOrdersUseCase, times(1)).executeAfter(customerId, cursor, 10);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid after token before querying")
+    void shouldRejectInvalidAfterTokenBeforeQuerying() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> customerService.getCustomerOrdersAfter(customerId, "not a cursor", 10));
+        verifyNoInteractions(getCustomerOrdersUseCase);
+    }
 }
@@ -1,17 +1,24 @@
 package com.btg.challenge.orders.app.service.impl;
 
 import com.btg.challenge.orders.app.mapper.OrderMessageMapper;
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.domain.usecase.ProcessOrderUseCase;
 import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
 import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.exception.OrderMessageNullException;
+import com.btg.challenge.orders.infra.logging.LogSampler;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -31,6 +38,14 @@ class OrderMessagingServiceImplTest {
     @Mock
     private OrderMessageMapper orderMessageMapper;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OrderPipelineMetrics pipelineMetrics = new OrderPipelineMetrics(meterRegistry);
+
+    @Spy
+    private LogSampler logSampler = new LogSampler(2);
+
     @InjectMocks
     private OrderMessagingServiceImpl orderMessagingService;
 
@@ -56,8 +71,8 @@ class OrderMessagingServiceImplTest {
         orderMessage.setItens(List.of(item1, item2));
 
         // Setup Order domain entity
-        OrderItem orderItem1 = new OrderItem("lápis", 100, new BigDecimal("1.10"));
-        OrderItem orderItem2 = new OrderItem("caderno", 10, new BigDecimal("1.00"));
+        OrderItem orderItem1 = new OrderItem("lápis", 100, Money.of("1.10"));
+        OrderItem orderItem2 = new OrderItem("caderno", 10, Money.of("1.00"));
         order = new Order(1001L, 1L, List.of(orderItem1, orderItem2));
     }
 
@@ -66,7 +81,7 @@ class OrderMessagingServiceImplTest {
     void shouldProcessOrderMessageSuccessfully() {
         // Given
         when(orderMessageMapper.toDomain(orderMessage)).thenReturn(order);
-        doNothing().when(processOrderUseCase).execute(order);
+        when(processOrderUseCase.execute(order)).thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> orderMessagingService.processOrderMessage(orderMessage));
@@ -181,7 +196,7 @@ class OrderMessagingServiceImplTest {
         Order emptyItemsOrder = new Order(1001L, 1L, List.of());
 
         when(orderMessageMapper.toDomain(emptyItemsMessage)).thenReturn(emptyItemsOrder);
-        doNothing().when(processOrderUseCase).execute(emptyItemsOrder);
+        when(processOrderUseCase.execute(emptyItemsOrder)).thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> orderMessagingService.processOrderMessage(emptyItemsMessage));
@@ -205,11 +220,11 @@ class OrderMessagingServiceImplTest {
         singleItemMessage.setCodigoCliente(2L);
         singleItemMessage.setItens(List.of(singleItem));
 
-        OrderItem singleOrderItem = new OrderItem("notebook", 1, new BigDecimal("2500.00"));
+        OrderItem singleOrderItem = new OrderItem("notebook", 1, Money.of("2500.00"));
         Order singleItemOrder = new Order(2001L, 2L, List.of(singleOrderItem));
 
         when(orderMessageMapper.toDomain(singleItemMessage)).thenReturn(singleItemOrder);
-        doNothing().when(processOrderUseCase).execute(singleItemOrder);
+        when(processOrderUseCase.execute(singleItemOrder)).thenReturn(true);
 
         // When
         assertDoesNotThrow(() -> orderMessagingService.processOrderMessage(singleItemMessage));
@@ -218,4 +233,147 @@ class OrderMessagingServiceImplTest {
         verify(orderMessageMapper, times(1)).toDomain(singleItemMessage);
         verify(processOrderUseCase, times(1)).execute(singleItemOrder);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should process order batch and return no rejections")
+    void shouldProcessOrderBatchAndReturnNoRejections() {
+        // Given
+        when(orderMessageMapper.toDomain(orderMessage)).thenReturn(order);
+        when(processOrderUseCase.executeBatch(List.of(order))).thenReturn(List.of());
+
+        // When
+        List<OrderMessage> rejected = orderMessagingService.processOrderBatch(List.of(orderMessage));
+
+        // Then
+        assertTrue(rejected.isEmpty());
+        verify(processOrderUseCase).executeBatch(List.of(order));
+        verify(processOrderUseCase, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should reject batch messages that cannot be mapped or are invalid")
+    void shouldRejectBatchMessagesThatCannotBeMappedOrAreInvalid() {
+        // Given
+        OrderMessage unmappable = new OrderMessage(2002L, 1L, null);
+        OrderMessage invalid = new OrderMessage(3003L, 1L, List.of());
+        Order invalidOrder = new Order(3003L, 1L, List.of());
+        when(orderMessageMapper.toDomain(orderMessage)).thenReturn(order);
+        when(orderMessageMapper.toDomain(unmappable)).thenThrow(new NullPointerException("itens"));
+        when(orderMessageMapper.toDomain(invalid)).thenReturn(invalidOrder);
+        when(processOrderUseCase.executeBatch(List.of(order, invalidOrder))).thenReturn(List.of(invalidOrder));
+
+        // When
+        List<OrderMessage> rejected = orderMessagingService.processOrderBatch(List.of(orderMessage, unmappable, invalid));
+
+        // Then
+        assertEquals(2, rejected.size());
+        assertSame(unmappable, rejected.get(0));
+        assertSame(invalid, rejected.get(1));
+    }
+
+    @Test
+    @DisplayName("Should propagate persistence failures of a batch")
+    void shouldPropagatePersistenceFailuresOfBatch() {
+        // Given
+        when(orderMessageMapper.toDomain(orderMessage)).thenReturn(order);
+        when(processOrderUseCase.executeBatch(List.of(order))).thenThrow(new RuntimeException("Database error"));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> orderMessagingService.processOrderBatch(List.of(orderMessage)));
+        assertEquals("Database error", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should record message outcome for processed, duplicate and invalid orders")
+    void shouldRecordMessageOutcome() {
+        // Given
+        when(orderMessageMapper.toDomain(orderMessage)).thenReturn(order);
+        when(processOrderUseCase.execute(order)).thenReturn(true, false).thenThrow(new IllegalArgumentException("Invalid order data"));
+
+        // When
+        orderMessagingService.processOrderMessage(orderMessage);
+        orderMessagingService.processOrderMessage(orderMessage);
+        assertThrows(IllegalArgumentException.class, () -> orderMessagingService.processOrderMessage(orderMessage));
+
+        // Then
+        assertEquals(1, messageTimerCount("ok"));
+        assertEquals(1, messageTimerCount("duplicate"));
+        assertEquals(1, messageTimerCount("invalid"));
+        assertEquals(3, meterRegistry.get(OrderPipelineMetrics.STAGE_TIMER)
+                .tags("stage", "map", "outcome", "ok").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should record error outcome when processing fails unexpectedly")
+    void shouldRecordErrorOutcome() {
+        // Given
+        when(orderMessageMapper.toDomain(orderMessage)).thenReturn(order);
+        when(processOrderUseCase.execute(order)).thenThrow(new RuntimeException("Database error"));
+
+        // When
+        assertThrows(RuntimeException.class, () -> orderMessagingService.processOrderMessage(orderMessage));
+
+        // Then
+        assertEquals(1, messageTimerCount("error"));
+        assertEquals(1.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER)
+                .tag("outcome", "error").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should process a decoded order without mapping it")
+    void shouldProcessDecodedOrderWithoutMapping() {
+        // Given
+        when(processOrderUseCase.execute(order)).thenReturn(true, false);
+
+        // When
+        orderMessagingService.processOrder(order);
+        orderMessagingService.processOrder(order);
+
+        // Then
+        verify(processOrderUseCase, times(2)).execute(order);
+        verifyNoInteractions(orderMessageMapper);
+        assertEquals(1, messageTimerCount("ok"));
+        assertEquals(1, messageTimerCount("duplicate"));
+        assertEquals(0, meterRegistry.find(OrderPipelineMetrics.STAGE_TIMER).tag("stage", "map").timers().stream()
+                .mapToLong(Timer::count).sum());
+    }
+
+    @Test
+    @DisplayName("Should reject a null decoded order")
+    void shouldRejectNullDecodedOrder() {
+        // When & Then
+        assertThrows(OrderMessageNullException.class, () -> orderMessagingService.processOrder(null));
+        verifyNoInteractions(processOrderUseCase);
+    }
+
+    @Test
+    @DisplayName("Should record invalid outcome when a decoded order is rejected")
+    void shouldRecordInvalidOutcomeForDecodedOrder() {
+        // Given
+        when(processOrderUseCase.execute(order)).thenThrow(new IllegalArgumentException("Invalid order data"));
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> orderMessagingService.processOrder(order));
+        assertEquals(1, messageTimerCount("invalid"));
+    }
+
+    private long messageTimerCount(String outcome) {
+        return meterRegistry.get(OrderPipelineMetrics.MESSAGE_TIMER).tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    @DisplayName("Should consult the log sampler only for successful messages")
+    void shouldConsultLogSamplerOnlyForSuccessfulMessages() {
+        // Given
+        when(orderMessageMapper.toDomain(orderMessage)).thenReturn(order);
+        when(processOrderUseCase.execute(order)).thenReturn(true).thenThrow(new RuntimeException("Database error"));
+
+        // When
+        orderMessagingService.processOrderMessage(orderMessage);
+        assertThrows(RuntimeException.class, () -> orderMessagingService.processOrderMessage(orderMessage));
+
+        // Then
+        verify(logSampler, times(1)).sample();
+    }
+}
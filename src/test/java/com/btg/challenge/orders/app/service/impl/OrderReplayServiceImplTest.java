@@ -0,0 +1,66 @@
+package com.btg.challenge.orders.app.service.impl;
+
+import com.btg.challenge.orders.app.mapper.OrderReplayMapper;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.mqprovider.producer.OrderPublishResult;
+import com.btg.challenge.orders.infra.mqprovider.producer.OrderPublisher;
+import com.btg.challenge.orders.model.OrderReplayRequest;
+import com.btg.challenge.orders.model.OrderReplayResponse;
+import com.btg.challenge.orders.model.ReplayOrder;
+import com.btg.challenge.orders.model.ReplayOrderItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderReplayServiceImpl Unit Tests")
+class OrderReplayServiceImplTest {
+
+    @Mock
+    private OrderPublisher orderPublisher;
+
+    @Spy
+    private OrderReplayMapper orderReplayMapper;
+
+    @InjectMocks
+    private OrderReplayServiceImpl orderReplayService;
+
+    private OrderReplayRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new OrderReplayRequest(List.of(
+                new ReplayOrder(1001L, 1L, List.of(new ReplayOrderItem("lápis", 100, new BigDecimal("1.10")))),
+                new ReplayOrder(1002L, 1L, List.of(new ReplayOrderItem("caderno", 10, BigDecimal.ONE)))));
+    }
+
+    @Test
+    @DisplayName("Should publish every replayed order and report failures")
+    void shouldPublishEveryReplayedOrderAndReportFailures() {
+        // Given
+        when(orderPublisher.publishAll(anyList())).thenReturn(new OrderPublishResult(2, 1, List.of(1002L)));
+
+        // When
+        OrderReplayResponse response = orderReplayService.replayOrders(request);
+
+        // Then
+        verify(orderPublisher).publishAll(argThat((List<OrderMessage> orderMessages) -> orderMessages.size() == 2
+                && orderMessages.get(0).getCodigoPedido().equals(1001L)
+                && orderMessages.get(1).getCodigoPedido().equals(1002L)));
+        assertEquals(2, response.getRequested());
+        assertEquals(1, response.getConfirmed());
+        assertEquals(List.of(1002L), response.getFailedOrderIds());
+    }
+}
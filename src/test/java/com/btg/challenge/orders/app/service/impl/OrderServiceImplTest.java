@@ -1,19 +1,24 @@
 package com.btg.challenge.orders.app.service.impl;
 
 import com.btg.challenge.orders.app.mapper.OrderMapper;
-import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
 import com.btg.challenge.orders.domain.usecase.GetOrderTotalUseCase;
+import com.btg.challenge.orders.domain.usecase.GetOrderTotalsUseCase;
 import com.btg.challenge.orders.infra.exception.OrderNotFoundException;
 import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.btg.challenge.orders.model.OrderTotalsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -27,23 +32,27 @@ class OrderServiceImplTest {
     @Mock
     private GetOrderTotalUseCase getOrderTotalUseCase;
 
+    @Mock
+    private GetOrderTotalsUseCase getOrderTotalsUseCase;
+
     @Mock
     private OrderMapper orderResponseMapper;
 
-    @InjectMocks
+    private Cache<Long, OrderTotalResponse> orderTotalsCache;
+
     private OrderServiceImpl orderService;
 
     private Long orderId;
-    private Order order;
+    private OrderTotal orderTotal;
     private OrderTotalResponse expectedResponse;
 
     @BeforeEach
     void setUp() {
+        orderTotalsCache = Caffeine.newBuilder().maximumSize(10).build();
+        orderService = new OrderServiceImpl(getOrderTotalUseCase, getOrderTotalsUseCase, orderResponseMapper, orderTotalsCache);
+
         orderId = 1001L;
-        order = new Order();
-        order.setOrderId(orderId);
-        order.setCustomerId(1L);
-        order.setTotalAmount(new BigDecimal("121.00"));
+        orderTotal = new OrderTotal(orderId, Money.of("121.00"));
 
         expectedResponse = new OrderTotalResponse();
         expectedResponse.setOrderId(orderId);
@@ -55,8 +64,8 @@ class OrderServiceImplTest {
     @DisplayName("Should return order total when order exists")
     void shouldReturnOrderTotalWhenOrderExists() {
         // Given
-        when(getOrderTotalUseCase.execute(orderId)).thenReturn(Optional.of(order));
-        when(orderResponseMapper.toOrderTotalResponse(order)).thenReturn(expectedResponse);
+        when(getOrderTotalUseCase.execute(orderId)).thenReturn(Optional.of(orderTotal));
+        when(orderResponseMapper.toOrderTotalResponse(orderTotal)).thenReturn(expectedResponse);
 
         // When
         OrderTotalResponse result = orderService.getOrderTotal(orderId);
@@ -68,7 +77,7 @@ class OrderServiceImplTest {
         assertEquals(expectedResponse.getCurrency(), result.getCurrency());
 
         verify(getOrderTotalUseCase, times(1)).execute(orderId);
-        verify(orderResponseMapper, times(1)).toOrderTotalResponse(order);
+        verify(orderResponseMapper, times(1)).toOrderTotalResponse(orderTotal);
     }
 
     @Test
@@ -87,7 +96,7 @@ class OrderServiceImplTest {
         assertTrue(exception.getMessage().contains(orderId.toString()));
 
         verify(getOrderTotalUseCase, times(1)).execute(orderId);
-        verify(orderResponseMapper, never()).toOrderTotalResponse(any());
+        verify(orderResponseMapper, never()).toOrderTotalResponse(any(OrderTotal.class));
     }
 
     @Test
@@ -106,7 +115,7 @@ class OrderServiceImplTest {
         assertNotNull(exception);
 
         verify(getOrderTotalUseCase, times(1)).execute(nullOrderId);
-        verify(orderResponseMapper, never()).toOrderTotalResponse(any());
+        verify(orderResponseMapper, never()).toOrderTotalResponse(any(OrderTotal.class));
     }
 
     @Test
@@ -125,16 +134,16 @@ class OrderServiceImplTest {
         assertEquals("Database connection error", thrownException.getMessage());
 
         verify(getOrderTotalUseCase, times(1)).execute(orderId);
-        verify(orderResponseMapper, never()).toOrderTotalResponse(any());
+        verify(orderResponseMapper, never()).toOrderTotalResponse(any(OrderTotal.class));
     }
 
     @Test
     @DisplayName("Should propagate RuntimeException from mapper")
     void shouldPropagateRuntimeExceptionFromMapper() {
         // Given
-        when(getOrderTotalUseCase.execute(orderId)).thenReturn(Optional.of(order));
+        when(getOrderTotalUseCase.execute(orderId)).thenReturn(Optional.of(orderTotal));
         RuntimeException expectedException = new RuntimeException("Mapping error");
-        when(orderResponseMapper.toOrderTotalResponse(order)).thenThrow(expectedException);
+        when(orderResponseMapper.toOrderTotalResponse(orderTotal)).thenThrow(expectedException);
 
         // When & Then
         RuntimeException thrownException = assertThrows(
@@ -145,6 +154,102 @@ class OrderServiceImplTest {
         assertEquals("Mapping error", thrownException.getMessage());
 
         verify(getOrderTotalUseCase, times(1)).execute(orderId);
-        verify(orderResponseMapper, times(1)).toOrderTotalResponse(order);
+        verify(orderResponseMapper, times(1)).toOrderTotalResponse(orderTotal);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated requests from the cache")
+    void shouldServeRepeatedRequestsFromCache() {
+        // Given
+        when(getOrderTotalUseCase.execute(orderId)).thenReturn(Optional.of(orderTotal));
+        when(orderResponseMapper.toOrderTotalResponse(orderTotal)).thenReturn(expectedResponse);
+
+        // When
+        OrderTotalResponse first = orderService.getOrderTotal(orderId);
+        OrderTotalResponse second = orderService.getOrderTotal(orderId);
+
+        // Then
+        assertSame(first, second);
+        verify(getOrderTotalUseCase, times(1)).execute(orderId);
+    }
+
+    @Test
+    @DisplayName("Should return a cached total without touching the use case")
+    void shouldReturnCachedTotalWithoutTouchingUseCase() {
+        // Given
+        orderTotalsCache.put(orderId, expectedResponse);
+
+        // When
+        OrderTotalResponse result = orderService.getOrderTotal(orderId);
+
+        // Then
+        assertSame(expectedResponse, result);
+        verifyNoInteractions(getOrderTotalUseCase, orderResponseMapper);
+    }
+
+    @Test
+    @DisplayName("Should not cache missing orders")
+    void shouldNotCacheMissingOrders() {
+        // Given
+        when(getOrderTotalUseCase.execute(orderId)).thenReturn(Optional.empty());
+
+        // When
+        assertThrows(OrderNotFoundException.class, () -> orderService.getOrderTotal(orderId));
+
+        // Then
+        assertNull(orderTotalsCache.getIfPresent(orderId));
+    }
+
+    @Test
+    @DisplayName("Should return found totals in request order and list missing order IDs")
+    void shouldReturnFoundTotalsInRequestOrderAndListMissingOrderIds() {
+        // Given
+        OrderTotal otherTotal = new OrderTotal(1003L, Money.of("10.00"));
+        OrderTotalResponse otherResponse = new OrderTotalResponse();
+        otherResponse.setOrderId(1003L);
+        when(getOrderTotalsUseCase.execute(anyCollection())).thenReturn(List.of(otherTotal, orderTotal));
+        when(orderResponseMapper.toOrderTotalResponse(orderTotal)).thenReturn(expectedResponse);
+        when(orderResponseMapper.toOrderTotalResponse(otherTotal)).thenReturn(otherResponse);
+
+        // When
+        OrderTotalsResponse result = orderService.getOrderTotals(List.of(orderId, 1002L, 1003L, orderId));
+
+        // Then
+        assertEquals(List.of(expectedResponse, otherResponse), result.getTotals());
+        assertEquals(List.of(1002L), result.getMissingOrderIds());
+        verify(getOrderTotalsUseCase, times(1)).execute(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should load only the order totals missing from the cache")
+    void shouldLoadOnlyOrderTotalsMissingFromCache() {
+        // Given
+        OrderTotalResponse cachedResponse = new OrderTotalResponse();
+        orderTotalsCache.put(1003L, cachedResponse);
+        when(getOrderTotalsUseCase.execute(List.of(orderId))).thenReturn(List.of(orderTotal));
+        when(orderResponseMapper.toOrderTotalResponse(orderTotal)).thenReturn(expectedResponse);
+
+        // When
+        OrderTotalsResponse result = orderService.getOrderTotals(List.of(1003L, orderId));
+
+        // Then
+        assertEquals(List.of(cachedResponse, expectedResponse), result.getTotals());
+        assertTrue(result.getMissingOrderIds().isEmpty());
+        assertSame(expectedResponse, orderTotalsCache.getIfPresent(orderId));
+    }
+
+    @Test
+    @DisplayName("Should ignore null order IDs in bulk requests")
+    void shouldIgnoreNullOrderIdsInBulkRequests() {
+        // Given
+        when(getOrderTotalsUseCase.execute(List.of(orderId))).thenReturn(List.of());
+
+        // When
+        OrderTotalsResponse result = orderService.getOrderTotals(Arrays.asList(null, orderId));
+
+        // Then
+        assertTrue(result.getTotals().isEmpty());
+        assertEquals(List.of(orderId), result.getMissingOrderIds());
+        assertNull(orderTotalsCache.getIfPresent(orderId));
     }
-}
\ No newline at end of file
+}
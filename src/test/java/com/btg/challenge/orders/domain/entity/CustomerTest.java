@@ -4,7 +4,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -54,7 +53,7 @@ class CustomerTest {
     void shouldCreateCustomerWithCustomerIdAndOrdersConstructor() {
         // Given
         Long customerId = 456L;
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("10.00"));
         List<OrderItem> items = List.of(item);
         Order order = new Order(1L, customerId, items);
         orders.add(order);
@@ -76,8 +75,8 @@ class CustomerTest {
         assertEquals(0, customer.getTotalOrders());
 
         // Given - with orders
-        OrderItem item1 = new OrderItem("Product1", 1, new BigDecimal("10.00"));
-        OrderItem item2 = new OrderItem("Product2", 2, new BigDecimal("15.00"));
+        OrderItem item1 = new OrderItem("Product1", 1, Money.of("10.00"));
+        OrderItem item2 = new OrderItem("Product2", 2, Money.of("15.00"));
         Order order1 = new Order(1L, 100L, List.of(item1));
         Order order2 = new Order(2L, 100L, List.of(item2));
         orders.add(order1);
@@ -116,7 +115,7 @@ class CustomerTest {
         assertFalse(customer.hasOrders());
 
         // Given - with orders
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("10.00"));
         Order order = new Order(1L, 100L, List.of(item));
         orders.add(order);
         customer.setOrders(orders);
@@ -152,7 +151,7 @@ class CustomerTest {
         customer.setCustomerId(customerId);
         customer.setOrders(new ArrayList<>());
 
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("10.00"));
         Order order = new Order(1L, customerId, List.of(item));
 
         // When
@@ -172,7 +171,7 @@ class CustomerTest {
         customer.setCustomerId(customerId);
         customer.setOrders(null);
 
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("10.00"));
         Order order = new Order(1L, customerId, List.of(item));
 
         // When
@@ -205,7 +204,7 @@ class CustomerTest {
         customer.setCustomerId(customerId);
         customer.setOrders(new ArrayList<>());
 
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("10.00"));
         Order order = new Order(1L, differentCustomerId, List.of(item));
 
         // When
@@ -221,7 +220,7 @@ class CustomerTest {
         // Given
         Long customerId = 789L;
         LocalDateTime createdAt = LocalDateTime.now();
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("10.00"));
         Order order = new Order(1L, customerId, List.of(item));
         orders.add(order);
 
@@ -244,9 +243,9 @@ class CustomerTest {
         customer.setCustomerId(customerId);
         customer.setOrders(new ArrayList<>());
 
-        OrderItem item1 = new OrderItem("Product1", 1, new BigDecimal("10.00"));
-        OrderItem item2 = new OrderItem("Product2", 2, new BigDecimal("15.00"));
-        OrderItem item3 = new OrderItem("Product3", 1, new BigDecimal("50.00"));
+        OrderItem item1 = new OrderItem("Product1", 1, Money.of("10.00"));
+        OrderItem item2 = new OrderItem("Product2", 2, Money.of("15.00"));
+        OrderItem item3 = new OrderItem("Product3", 1, Money.of("50.00"));
 
         Order order1 = new Order(1L, customerId, List.of(item1));
         Order order2 = new Order(2L, customerId, List.of(item2));
@@ -274,11 +273,11 @@ class CustomerTest {
         customer.setOrders(new ArrayList<>());
 
         // When - add orders
-        OrderItem item1 = new OrderItem("Product1", 2, new BigDecimal("20.00"));
+        OrderItem item1 = new OrderItem("Product1", 2, Money.of("20.00"));
         Order order1 = new Order(1L, customerId, List.of(item1));
         customer.addOrder(order1);
 
-        OrderItem item2 = new OrderItem("Product2", 1, new BigDecimal("30.00"));
+        OrderItem item2 = new OrderItem("Product2", 1, Money.of("30.00"));
         Order order2 = new Order(2L, customerId, List.of(item2));
         customer.addOrder(order2);
 
@@ -288,7 +287,7 @@ class CustomerTest {
         assertEquals(2, customer.getTotalOrders());
 
         // When - try to add order with wrong customer ID
-        OrderItem item3 = new OrderItem("Product3", 1, new BigDecimal("40.00"));
+        OrderItem item3 = new OrderItem("Product3", 1, Money.of("40.00"));
         Order wrongOrder = new Order(3L, 999L, List.of(item3));
         customer.addOrder(wrongOrder);
 
@@ -0,0 +1,71 @@
+package com.btg.challenge.orders.domain.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Money Unit Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should convert decimals to cents and back without loss")
+    void shouldConvertDecimalsToCentsAndBackWithoutLoss() {
+        // When
+        Money amount = Money.of(new BigDecimal("1234.5"));
+
+        // Then
+        assertEquals(123450L, amount.cents());
+        assertEquals(new BigDecimal("1234.50"), amount.toBigDecimal());
+        assertEquals(1234.5, amount.toDouble());
+        assertEquals("1234.50", amount.toString());
+    }
+
+    @Test
+    @DisplayName("Should round sub-cent amounts half up by default")
+    void shouldRoundSubCentAmountsHalfUpByDefault() {
+        assertEquals(Money.ofCents(101), Money.of("1.005"));
+        assertEquals(Money.ofCents(100), Money.of("1.004"));
+        assertEquals(Money.ofCents(-101), Money.of("-1.005"));
+        assertEquals(Money.ofCents(100), Money.of(new BigDecimal("1.005"), RoundingMode.DOWN));
+    }
+
+    @Test
+    @DisplayName("Should add and multiply exactly")
+    void shouldAddAndMultiplyExactly() {
+        // Given
+        Money price = Money.of("0.10");
+
+        // When
+        Money total = price.times(3).plus(Money.of("0.20"));
+
+        // Then
+        assertEquals(Money.of("0.50"), total);
+        assertTrue(total.compareTo(price) > 0);
+    }
+
+    @Test
+    @DisplayName("Should fail instead of overflowing")
+    void shouldFailInsteadOfOverflowing() {
+        // Given
+        Money large = Money.ofCents(Long.MAX_VALUE / 2 + 1);
+
+        // When & Then
+        assertThrows(ArithmeticException.class, () -> large.plus(large));
+        assertThrows(ArithmeticException.class, () -> large.times(2));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1E+20")));
+    }
+
+    @Test
+    @DisplayName("Should share the zero instance and keep null amounts null")
+    void shouldShareZeroInstanceAndKeepNullAmountsNull() {
+        assertSame(Money.ZERO, Money.ofCents(0));
+        assertSame(Money.ZERO, Money.of(new BigDecimal("0.000")));
+        assertNull(Money.ofNullable(null));
+        assertFalse(Money.ZERO.isNegative());
+        assertTrue(Money.ofCents(-1).isNegative());
+    }
+}
@@ -4,8 +4,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("OrderItem Unit Tests")
@@ -18,6 +16,19 @@ class OrderItemTest {
         orderItem = new OrderItem();
     }
 
+    @Test
+    @DisplayName("Should create OrderItem with precomputed total price")
+    void shouldCreateOrderItemWithPrecomputedTotalPrice() {
+        // When
+        OrderItem item = new OrderItem("Caneta", 3, Money.of("2.50"), Money.of("7.50"));
+
+        // Then
+        assertEquals("Caneta", item.getProduct());
+        assertEquals(3, item.getQuantity());
+        assertEquals(Money.of("2.50"), item.getPrice());
+        assertEquals(Money.of("7.50"), item.getTotalPrice());
+    }
+
     @Test
     @DisplayName("Should create OrderItem with default constructor")
     void shouldCreateOrderItemWithDefaultConstructor() {
@@ -26,7 +37,7 @@ class OrderItemTest {
         assertNull(orderItem.getProduct());
         assertNull(orderItem.getQuantity());
         assertNull(orderItem.getPrice());
-        assertEquals(BigDecimal.ZERO, orderItem.getTotalPrice());
+        assertEquals(Money.ZERO, orderItem.getTotalPrice());
     }
 
     @Test
@@ -35,7 +46,7 @@ class OrderItemTest {
         // Given
         String product = "Notebook";
         Integer quantity = 2;
-        BigDecimal price = new BigDecimal("1500.00");
+        Money price = Money.of("1500.00");
 
         // When
         OrderItem item = new OrderItem(product, quantity, price);
@@ -45,7 +56,7 @@ class OrderItemTest {
         assertEquals(product, item.getProduct());
         assertEquals(quantity, item.getQuantity());
         assertEquals(price, item.getPrice());
-        assertEquals(new BigDecimal("3000.00"), item.getTotalPrice());
+        assertEquals(Money.of("3000.00"), item.getTotalPrice());
     }
 
     @Test
@@ -54,22 +65,22 @@ class OrderItemTest {
         // Given
         orderItem.setProduct("Mouse");
         orderItem.setQuantity(3);
-        orderItem.setPrice(new BigDecimal("50.00"));
+        orderItem.setPrice(Money.of("50.00"));
 
         // Then
-        assertEquals(new BigDecimal("150.00"), orderItem.getTotalPrice());
+        assertEquals(Money.of("150.00"), orderItem.getTotalPrice());
 
         // When - change quantity
         orderItem.setQuantity(5);
 
         // Then
-        assertEquals(new BigDecimal("250.00"), orderItem.getTotalPrice());
+        assertEquals(Money.of("250.00"), orderItem.getTotalPrice());
 
         // When - change price
-        orderItem.setPrice(new BigDecimal("60.00"));
+        orderItem.setPrice(Money.of("60.00"));
 
         // Then
-        assertEquals(new BigDecimal("300.00"), orderItem.getTotalPrice());
+        assertEquals(Money.of("300.00"), orderItem.getTotalPrice());
     }
 
     @Test
@@ -77,14 +88,14 @@ class OrderItemTest {
     void shouldReturnZeroTotalPriceWhenPriceOrQuantityIsNull() {
         // Given
         orderItem.setProduct("Keyboard");
-        orderItem.setPrice(new BigDecimal("100.00"));
+        orderItem.setPrice(Money.of("100.00"));
         orderItem.setQuantity(null);
 
         // When
         orderItem.updateTotalPrice();
 
         // Then
-        assertEquals(BigDecimal.ZERO, orderItem.getTotalPrice());
+        assertEquals(Money.ZERO, orderItem.getTotalPrice());
 
         // Given
         orderItem.setQuantity(2);
@@ -94,7 +105,7 @@ class OrderItemTest {
         orderItem.updateTotalPrice();
 
         // Then
-        assertEquals(BigDecimal.ZERO, orderItem.getTotalPrice());
+        assertEquals(Money.ZERO, orderItem.getTotalPrice());
     }
 
     @Test
@@ -117,19 +128,19 @@ class OrderItemTest {
         assertFalse(orderItem.isValid()); // negative quantity
 
         orderItem.setQuantity(1);
-        orderItem.setPrice(new BigDecimal("-10.00"));
+        orderItem.setPrice(Money.of("-10.00"));
         assertFalse(orderItem.isValid()); // negative price
 
         // Given - valid case
         orderItem.setProduct("ValidProduct");
         orderItem.setQuantity(1);
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
 
         // Then
         assertTrue(orderItem.isValid());
 
         // Given - valid case with zero price
-        orderItem.setPrice(BigDecimal.ZERO);
+        orderItem.setPrice(Money.ZERO);
 
         // Then
         assertTrue(orderItem.isValid()); // zero price is valid
@@ -141,13 +152,13 @@ class OrderItemTest {
         // Test when only product is null
         orderItem.setProduct(null);
         orderItem.setQuantity(1);
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
         assertFalse(orderItem.isValid());
 
         // Test when only quantity is null
         orderItem.setProduct("ValidProduct");
         orderItem.setQuantity(null);
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
         assertFalse(orderItem.isValid());
 
         // Test when only price is null
@@ -159,7 +170,7 @@ class OrderItemTest {
         // Test when product and quantity are null
         orderItem.setProduct(null);
         orderItem.setQuantity(null);
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
         assertFalse(orderItem.isValid());
 
         // Test when product and price are null
@@ -181,7 +192,7 @@ class OrderItemTest {
         // Test with whitespace-only product
         orderItem.setProduct("\t\n\r ");
         orderItem.setQuantity(1);
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
         assertFalse(orderItem.isValid());
 
         // Test with mixed whitespace product
@@ -201,7 +212,7 @@ class OrderItemTest {
     @DisplayName("Should validate edge cases for quantity validation")
     void shouldValidateEdgeCasesForQuantityValidation() {
         orderItem.setProduct("ValidProduct");
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
 
         // Test with exactly zero quantity
         orderItem.setQuantity(0);
@@ -227,23 +238,23 @@ class OrderItemTest {
         orderItem.setQuantity(1);
 
         // Test with exactly zero price (boundary)
-        orderItem.setPrice(BigDecimal.ZERO);
+        orderItem.setPrice(Money.ZERO);
         assertTrue(orderItem.isValid());
 
         // Test with positive price
-        orderItem.setPrice(new BigDecimal("0.01"));
+        orderItem.setPrice(Money.of("0.01"));
         assertTrue(orderItem.isValid());
 
         // Test with large positive price
-        orderItem.setPrice(new BigDecimal("999999999999.99"));
+        orderItem.setPrice(Money.of("999999999999.99"));
         assertTrue(orderItem.isValid());
 
         // Test with slightly negative price
-        orderItem.setPrice(new BigDecimal("-0.01"));
+        orderItem.setPrice(Money.of("-0.01"));
         assertFalse(orderItem.isValid());
 
         // Test with very large negative price
-        orderItem.setPrice(new BigDecimal("-999999999999.99"));
+        orderItem.setPrice(Money.of("-999999999999.99"));
         assertFalse(orderItem.isValid());
     }
 
@@ -253,13 +264,13 @@ class OrderItemTest {
         // Given
         orderItem.setProduct("Product");
         orderItem.setQuantity(3);
-        orderItem.setPrice(new BigDecimal("33.33"));
+        orderItem.setPrice(Money.of("33.33"));
 
         // When
         orderItem.updateTotalPrice();
 
         // Then
-        assertEquals(new BigDecimal("99.99"), orderItem.getTotalPrice());
+        assertEquals(Money.of("99.99"), orderItem.getTotalPrice());
     }
 
     @Test
@@ -268,13 +279,13 @@ class OrderItemTest {
         // Given
         orderItem.setProduct("Expensive Item");
         orderItem.setQuantity(1000);
-        orderItem.setPrice(new BigDecimal("999999.99"));
+        orderItem.setPrice(Money.of("999999.99"));
 
         // When
         orderItem.updateTotalPrice();
 
         // Then
-        assertEquals(new BigDecimal("999999990.00"), orderItem.getTotalPrice());
+        assertEquals(Money.of("999999990.00"), orderItem.getTotalPrice());
     }
 
     @Test
@@ -283,18 +294,18 @@ class OrderItemTest {
         // Given
         orderItem.setProduct("Test Product");
         orderItem.setQuantity(2);
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
 
         // Initial state
-        assertEquals(new BigDecimal("20.00"), orderItem.getTotalPrice());
+        assertEquals(Money.of("20.00"), orderItem.getTotalPrice());
 
         // When - multiple updates
         orderItem.setQuantity(3);
-        orderItem.setPrice(new BigDecimal("15.00"));
+        orderItem.setPrice(Money.of("15.00"));
         orderItem.setQuantity(1);
 
         // Then
-        assertEquals(new BigDecimal("15.00"), orderItem.getTotalPrice());
+        assertEquals(Money.of("15.00"), orderItem.getTotalPrice());
     }
 
     @Test
@@ -303,14 +314,14 @@ class OrderItemTest {
         // Given
         orderItem.setProduct("Product");
         orderItem.setQuantity(2);
-        orderItem.setPrice(new BigDecimal("10.00"));
+        orderItem.setPrice(Money.of("10.00"));
         orderItem.setTotalPrice(null); // Force null
 
         // When
-        BigDecimal totalPrice = orderItem.getTotalPrice();
+        Money totalPrice = orderItem.getTotalPrice();
 
         // Then
-        assertEquals(new BigDecimal("20.00"), totalPrice);
+        assertEquals(Money.of("20.00"), totalPrice);
         assertNotNull(orderItem.getTotalPrice()); // Should be calculated and stored
     }
 
@@ -321,8 +332,8 @@ class OrderItemTest {
         Long itemId = 123L;
         String product = "Test Product";
         Integer quantity = 5;
-        BigDecimal price = new BigDecimal("25.50");
-        BigDecimal totalPrice = new BigDecimal("127.50");
+        Money price = Money.of("25.50");
+        Money totalPrice = Money.of("127.50");
 
         // When
         orderItem.setItemId(itemId);
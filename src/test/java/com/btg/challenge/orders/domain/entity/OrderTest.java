@@ -4,7 +4,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,14 +35,32 @@ class OrderTest {
         assertNull(order.getItems());
     }
 
+    @Test
+    @DisplayName("Should create Order with precomputed total without recalculating items")
+    void shouldCreateOrderWithPrecomputedTotal() {
+        // Given
+        OrderItem item = new OrderItem("Notebook", 2, Money.of("1500.00"), Money.of("3000.00"));
+        items.add(item);
+
+        // When
+        Order newOrder = new Order(1L, 100L, items, Money.of("3000.00"));
+
+        // Then
+        assertEquals(1L, newOrder.getOrderId());
+        assertEquals(100L, newOrder.getCustomerId());
+        assertEquals(1, newOrder.getItemsCount());
+        assertEquals(Money.of("3000.00"), newOrder.getTotalAmount());
+        assertSame(items, newOrder.getItems());
+    }
+
     @Test
     @DisplayName("Should create Order with parametrized constructor and update totals")
     void shouldCreateOrderWithParametrizedConstructorAndUpdateTotals() {
         // Given
         Long orderId = 1L;
         Long customerId = 100L;
-        OrderItem item1 = new OrderItem("Notebook", 1, new BigDecimal("1500.00"));
-        OrderItem item2 = new OrderItem("Mouse", 2, new BigDecimal("50.00"));
+        OrderItem item1 = new OrderItem("Notebook", 1, Money.of("1500.00"));
+        OrderItem item2 = new OrderItem("Mouse", 2, Money.of("50.00"));
         items.add(item1);
         items.add(item2);
 
@@ -55,7 +72,7 @@ class OrderTest {
         assertEquals(orderId, newOrder.getOrderId());
         assertEquals(customerId, newOrder.getCustomerId());
         assertEquals(2, newOrder.getItemsCount());
-        assertEquals(new BigDecimal("1600.00"), newOrder.getTotalAmount());
+        assertEquals(Money.of("1600.00"), newOrder.getTotalAmount());
         assertEquals(items, newOrder.getItems());
     }
 
@@ -63,19 +80,19 @@ class OrderTest {
     @DisplayName("Should calculate total amount correctly")
     void shouldCalculateTotalAmountCorrectly() {
         // Given
-        OrderItem item1 = new OrderItem("Product1", 2, new BigDecimal("10.00"));
-        OrderItem item2 = new OrderItem("Product2", 3, new BigDecimal("15.50"));
-        OrderItem item3 = new OrderItem("Product3", 1, new BigDecimal("100.00"));
+        OrderItem item1 = new OrderItem("Product1", 2, Money.of("10.00"));
+        OrderItem item2 = new OrderItem("Product2", 3, Money.of("15.50"));
+        OrderItem item3 = new OrderItem("Product3", 1, Money.of("100.00"));
         items.add(item1);
         items.add(item2);
         items.add(item3);
         order.setItems(items);
 
         // When
-        BigDecimal totalAmount = order.calculateTotalAmount();
+        Money totalAmount = order.calculateTotalAmount();
 
         // Then
-        assertEquals(new BigDecimal("166.50"), totalAmount);
+        assertEquals(Money.of("166.50"), totalAmount);
     }
 
     @Test
@@ -85,10 +102,10 @@ class OrderTest {
         order.setItems(new ArrayList<>());
 
         // When
-        BigDecimal totalAmount = order.calculateTotalAmount();
+        Money totalAmount = order.calculateTotalAmount();
 
         // Then
-        assertEquals(BigDecimal.ZERO, totalAmount);
+        assertEquals(Money.ZERO, totalAmount);
     }
 
     @Test
@@ -98,18 +115,18 @@ class OrderTest {
         order.setItems(null);
 
         // When
-        BigDecimal totalAmount = order.calculateTotalAmount();
+        Money totalAmount = order.calculateTotalAmount();
 
         // Then
-        assertEquals(BigDecimal.ZERO, totalAmount);
+        assertEquals(Money.ZERO, totalAmount);
     }
 
     @Test
     @DisplayName("Should update totals when items are set")
     void shouldUpdateTotalsWhenItemsAreSet() {
         // Given
-        OrderItem item1 = new OrderItem("Product1", 1, new BigDecimal("25.00"));
-        OrderItem item2 = new OrderItem("Product2", 2, new BigDecimal("30.00"));
+        OrderItem item1 = new OrderItem("Product1", 1, Money.of("25.00"));
+        OrderItem item2 = new OrderItem("Product2", 2, Money.of("30.00"));
         items.add(item1);
         items.add(item2);
 
@@ -118,14 +135,14 @@ class OrderTest {
 
         // Then
         assertEquals(2, order.getItemsCount());
-        assertEquals(new BigDecimal("85.00"), order.getTotalAmount());
+        assertEquals(Money.of("85.00"), order.getTotalAmount());
     }
 
     @Test
     @DisplayName("Should update totals manually")
     void shouldUpdateTotalsManually() {
         // Given
-        OrderItem item = new OrderItem("Product", 3, new BigDecimal("20.00"));
+        OrderItem item = new OrderItem("Product", 3, Money.of("20.00"));
         items.add(item);
         order.setItems(items);
 
@@ -137,7 +154,7 @@ class OrderTest {
 
         // Then
         assertEquals(1, order.getItemsCount());
-        assertEquals(new BigDecimal("100.00"), order.getTotalAmount());
+        assertEquals(Money.of("100.00"), order.getTotalAmount());
     }
 
     @Test
@@ -163,7 +180,7 @@ class OrderTest {
 
         // Given - valid case
         items.clear();
-        OrderItem validItem = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem validItem = new OrderItem("Product", 1, Money.of("10.00"));
         items.add(validItem);
         order.setOrderId(1L);
         order.setCustomerId(100L);
@@ -177,11 +194,11 @@ class OrderTest {
     @DisplayName("Should add item correctly")
     void shouldAddItemCorrectly() {
         // Given
-        OrderItem existingItem = new OrderItem("Product1", 1, new BigDecimal("10.00"));
+        OrderItem existingItem = new OrderItem("Product1", 1, Money.of("10.00"));
         items.add(existingItem);
         order.setItems(items);
 
-        OrderItem newItem = new OrderItem("Product2", 2, new BigDecimal("15.00"));
+        OrderItem newItem = new OrderItem("Product2", 2, Money.of("15.00"));
 
         // When
         order.addItem(newItem);
@@ -190,7 +207,7 @@ class OrderTest {
         assertEquals(2, order.getItems().size());
         assertTrue(order.getItems().contains(newItem));
         assertEquals(2, order.getItemsCount());
-        assertEquals(new BigDecimal("40.00"), order.getTotalAmount());
+        assertEquals(Money.of("40.00"), order.getTotalAmount());
     }
 
     @Test
@@ -198,7 +215,7 @@ class OrderTest {
     void shouldNotAddItemWhenItemsListIsNull() {
         // Given
         order.setItems(null);
-        OrderItem newItem = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem newItem = new OrderItem("Product", 1, Money.of("10.00"));
 
         // When
         order.addItem(newItem);
@@ -218,7 +235,7 @@ class OrderTest {
 
         // Then
         assertEquals(0, order.getItemsCount());
-        assertEquals(BigDecimal.ZERO, order.getTotalAmount());
+        assertEquals(Money.ZERO, order.getTotalAmount());
     }
 
     @Test
@@ -228,7 +245,7 @@ class OrderTest {
         Long orderId = 123L;
         Long customerId = 456L;
         LocalDateTime createdAt = LocalDateTime.now();
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("10.00"));
         items.add(item);
 
         // When
@@ -238,7 +255,7 @@ class OrderTest {
         order.setItems(items);
         // Set values after setItems to override the calculated values
         Integer itemsCount = 3;
-        BigDecimal totalAmount = new BigDecimal("250.00");
+        Money totalAmount = Money.of("250.00");
         order.setItemsCount(itemsCount);
         order.setTotalAmount(totalAmount);
 
@@ -255,9 +272,9 @@ class OrderTest {
     @DisplayName("Should handle complex calculation with multiple items")
     void shouldHandleComplexCalculationWithMultipleItems() {
         // Given
-        OrderItem item1 = new OrderItem("Expensive Item", 1, new BigDecimal("999.99"));
-        OrderItem item2 = new OrderItem("Cheap Item", 100, new BigDecimal("0.01"));
-        OrderItem item3 = new OrderItem("Medium Item", 5, new BigDecimal("123.45"));
+        OrderItem item1 = new OrderItem("Expensive Item", 1, Money.of("999.99"));
+        OrderItem item2 = new OrderItem("Cheap Item", 100, Money.of("0.01"));
+        OrderItem item3 = new OrderItem("Medium Item", 5, Money.of("123.45"));
         items.add(item1);
         items.add(item2);
         items.add(item3);
@@ -268,26 +285,66 @@ class OrderTest {
         // Then
         assertEquals(3, order.getItemsCount());
         // 999.99 + (100 * 0.01) + (5 * 123.45) = 999.99 + 1.00 + 617.25 = 1618.24
-        assertEquals(new BigDecimal("1618.24"), order.getTotalAmount());
+        assertEquals(Money.of("1618.24"), order.getTotalAmount());
     }
 
     @Test
     @DisplayName("Should update item total prices when updating order totals")
     void shouldUpdateItemTotalPricesWhenUpdatingOrderTotals() {
         // Given
-        OrderItem item = new OrderItem("Product", 2, new BigDecimal("10.00"));
+        OrderItem item = new OrderItem("Product", 2, Money.of("10.00"));
         items.add(item);
         order.setItems(items);
 
         // Modify item properties directly
         item.setQuantity(3);
-        item.setPrice(new BigDecimal("15.00"));
+        item.setPrice(Money.of("15.00"));
 
         // When
         order.updateTotals();
 
         // Then
-        assertEquals(new BigDecimal("45.00"), item.getTotalPrice());
-        assertEquals(new BigDecimal("45.00"), order.getTotalAmount());
+        assertEquals(Money.of("45.00"), item.getTotalPrice());
+        assertEquals(Money.of("45.00"), order.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("Should cache computed totals until the items change")
+    void shouldCacheComputedTotalsUntilItemsChange() {
+        // Given
+        OrderItem item = new OrderItem("Product", 2, Money.of("10.00"));
+        items.add(item);
+        order.setItems(items);
+        assertEquals(Money.of("20.00"), order.getTotalAmount());
+
+        // When
+        item.setTotalPrice(Money.of("99.00"));
+        Money cachedTotal = order.getTotalAmount();
+        order.addItem(new OrderItem("Other", 1, Money.of("5.00")));
+
+        // Then
+        assertEquals(Money.of("20.00"), cachedTotal);
+        assertEquals(Money.of("104.00"), order.getTotalAmount());
+        assertEquals(2, order.getItemsCount());
+    }
+
+    @Test
+    @DisplayName("Should trust totals set after the items without recomputing them")
+    void shouldTrustTotalsSetAfterItemsWithoutRecomputingThem() {
+        // Given
+        items.add(new OrderItem("Product", 2, Money.of("10.00")));
+        order.setItems(items);
+
+        // When
+        order.setTotalAmount(Money.of("25.00"));
+        order.setItemsCount(2);
+
+        // Then
+        assertEquals(Money.of("25.00"), order.getTotalAmount());
+        assertEquals(2, order.getItemsCount());
+
+        order.updateTotals();
+        assertEquals(Money.of("20.00"), order.getTotalAmount());
+        assertEquals(1, order.getItemsCount());
     }
 }
@@ -3,7 +3,9 @@ package com.btg.challenge.orders.domain.usecase;
 import com.btg.challenge.orders.domain.CustomerDataProvider;
 import com.btg.challenge.orders.domain.OrderDataProvider;
 import com.btg.challenge.orders.domain.entity.Customer;
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.infra.exception.CustomerNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,9 +19,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,8 +51,8 @@ class GetCustomerOrdersUseCaseTest {
     void setUp() {
         existingCustomer = new Customer(100L);
 
-        OrderItem item1 = new OrderItem("Product1", 1, new BigDecimal("50.00"));
-        OrderItem item2 = new OrderItem("Product2", 2, new BigDecimal("30.00"));
+        OrderItem item1 = new OrderItem("Product1", 1, Money.of("50.00"));
+        OrderItem item2 = new OrderItem("Product2", 2, Money.of("30.00"));
 
         Order order1 = new Order(1L, 100L, List.of(item1));
         Order order2 = new Order(2L, 100L, List.of(item2));
@@ -280,4 +284,37 @@ class GetCustomerOrdersUseCaseTest {
         assertEquals(10, result.getNumber());
         verify(orderDataProvider).findByCustomerId(eq(customerId), argThat(p -> p.getPageNumber() == 10));
     }
+
+    @Test
+    @DisplayName("Should seek orders after cursor for existing customer")
+    void shouldSeekOrdersAfterCursorForExistingCustomer() {
+        // Given
+        Long customerId = 100L;
+        OrderCursor after = new OrderCursor(LocalDateTime.of(2024, 1, 15, 10, 30), 3L);
+        Slice<Order> expectedSlice = new SliceImpl<>(orders, PageRequest.ofSize(2), true);
+
+        when(customerDataProvider.findById(customerId)).thenReturn(Optional.of(existingCustomer));
+        when(orderDataProvider.findByCustomerIdAfter(customerId, after, 2)).thenReturn(expectedSlice);
+
+        // When
+        Slice<Order> result = getCustomerOrdersUseCase.executeAfter(customerId, after, 2);
+
+        // Then
+        assertSame(expectedSlice, result);
+        verify(orderDataProvider, never()).findByCustomerId(any(), any());
+        verify(orderDataProvider, never()).countByCustomerId(any());
+    }
+
+    @Test
+    @DisplayName("Should throw when seeking orders for non-existing customer")
+    void shouldThrowWhenSeekingOrdersForNonExistingCustomer() {
+        // Given
+        Long customerId = 999L;
+        when(customerDataProvider.findById(customerId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(CustomerNotFoundException.class,
+                () -> getCustomerOrdersUseCase.executeAfter(customerId, null, 10));
+        verifyNoInteractions(orderDataProvider);
+    }
 }
@@ -1,18 +1,15 @@
 package com.btg.challenge.orders.domain.usecase;
 
 import com.btg.challenge.orders.domain.OrderDataProvider;
-import com.btg.challenge.orders.domain.entity.Order;
-import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
-import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,77 +22,62 @@ class GetOrderTotalUseCaseTest {
     @Mock
     private OrderDataProvider orderDataProvider;
 
-    @InjectMocks
     private GetOrderTotalUseCase getOrderTotalUseCase;
 
-    private Order orderWithItems;
-
     @BeforeEach
     void setUp() {
-        OrderItem item1 = new OrderItem("Product1", 2, new BigDecimal("25.00"));
-        OrderItem item2 = new OrderItem("Product2", 1, new BigDecimal("50.00"));
-        orderWithItems = new Order(1L, 100L, List.of(item1, item2));
+        getOrderTotalUseCase = new GetOrderTotalUseCase(orderDataProvider, false);
     }
 
     @Test
-    @DisplayName("Should return order with updated totals for valid order ID")
-    void shouldReturnOrderWithUpdatedTotalsForValidOrderId() {
+    @DisplayName("Should return persisted total for valid order ID")
+    void shouldReturnPersistedTotalForValidOrderId() {
         // Given
         Long orderId = 1L;
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.of(orderWithItems));
+        when(orderDataProvider.findTotalById(orderId))
+                .thenReturn(Optional.of(new OrderTotal(orderId, Money.of("100.00"))));
 
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result = getOrderTotalUseCase.execute(orderId);
 
         // Then
         assertTrue(result.isPresent());
-        Order order = result.get();
-        assertEquals(orderId, order.getOrderId());
-        assertEquals(new BigDecimal("100.00"), order.getTotalAmount());
-        assertEquals(2, order.getItemsCount());
-        verify(orderDataProvider).findByIdWithItems(orderId);
+        assertEquals(orderId, result.get().orderId());
+        assertEquals(Money.of("100.00"), result.get().totalAmount());
+        verify(orderDataProvider).findTotalById(orderId);
     }
 
     @Test
     @DisplayName("Should return empty Optional for null order ID")
     void shouldReturnEmptyOptionalForNullOrderId() {
-        // Given
-        Long orderId = null;
-
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result = getOrderTotalUseCase.execute(null);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(orderDataProvider, never()).findByIdWithItems(any());
+        verifyNoInteractions(orderDataProvider);
     }
 
     @Test
     @DisplayName("Should return empty Optional for zero order ID")
     void shouldReturnEmptyOptionalForZeroOrderId() {
-        // Given
-        Long orderId = 0L;
-
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result = getOrderTotalUseCase.execute(0L);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(orderDataProvider, never()).findByIdWithItems(any());
+        verifyNoInteractions(orderDataProvider);
     }
 
     @Test
     @DisplayName("Should return empty Optional for negative order ID")
     void shouldReturnEmptyOptionalForNegativeOrderId() {
-        // Given
-        Long orderId = -1L;
-
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result = getOrderTotalUseCase.execute(-1L);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(orderDataProvider, never()).findByIdWithItems(any());
+        verifyNoInteractions(orderDataProvider);
     }
 
     @Test
@@ -103,101 +85,47 @@ class GetOrderTotalUseCaseTest {
     void shouldReturnEmptyOptionalWhenOrderIsNotFound() {
         // Given
         Long orderId = 999L;
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.empty());
+        when(orderDataProvider.findTotalById(orderId)).thenReturn(Optional.empty());
 
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result = getOrderTotalUseCase.execute(orderId);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(orderDataProvider).findByIdWithItems(orderId);
-    }
-
-    @Test
-    @DisplayName("Should update totals even if order already has calculated values")
-    void shouldUpdateTotalsEvenIfOrderAlreadyHasCalculatedValues() {
-        // Given
-        Long orderId = 2L;
-        OrderItem item = new OrderItem("Product", 3, new BigDecimal("20.00"));
-        Order orderWithOutdatedTotals = new Order(orderId, 200L, List.of(item));
-        // Set outdated values
-        orderWithOutdatedTotals.setTotalAmount(new BigDecimal("50.00")); // Wrong value
-        orderWithOutdatedTotals.setItemsCount(1); // Wrong value
-
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.of(orderWithOutdatedTotals));
-
-        // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
-
-        // Then
-        assertTrue(result.isPresent());
-        Order order = result.get();
-        assertEquals(new BigDecimal("60.00"), order.getTotalAmount()); // Corrected value
-        assertEquals(1, order.getItemsCount()); // This remains 1 (correct count)
-        verify(orderDataProvider).findByIdWithItems(orderId);
+        verify(orderDataProvider).findTotalById(orderId);
+        verifyNoMoreInteractions(orderDataProvider);
     }
 
     @Test
-    @DisplayName("Should handle order with single item correctly")
-    void shouldHandleOrderWithSingleItemCorrectly() {
+    @DisplayName("Should neither load items nor recompute the total when verification is disabled")
+    void shouldNeitherLoadItemsNorRecomputeTotalWhenVerificationIsDisabled() {
         // Given
-        Long orderId = 3L;
-        OrderItem singleItem = new OrderItem("Single Product", 5, new BigDecimal("15.75"));
-        Order singleItemOrder = new Order(orderId, 300L, List.of(singleItem));
-
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.of(singleItemOrder));
+        Long orderId = 7L;
+        when(orderDataProvider.findTotalById(orderId))
+                .thenReturn(Optional.of(new OrderTotal(orderId, Money.of("60.00"))));
 
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        getOrderTotalUseCase.execute(orderId);
 
         // Then
-        assertTrue(result.isPresent());
-        Order order = result.get();
-        assertEquals(new BigDecimal("78.75"), order.getTotalAmount());
-        assertEquals(1, order.getItemsCount());
-        verify(orderDataProvider).findByIdWithItems(orderId);
+        verify(orderDataProvider, times(1)).findTotalById(orderId);
+        verifyNoMoreInteractions(orderDataProvider);
     }
 
     @Test
-    @DisplayName("Should handle order with no items gracefully")
-    void shouldHandleOrderWithNoItemsGracefully() {
+    @DisplayName("Should handle order with zero total")
+    void shouldHandleOrderWithZeroTotal() {
         // Given
         Long orderId = 4L;
-        Order emptyOrder = new Order(orderId, 400L, List.of());
-
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.of(emptyOrder));
+        when(orderDataProvider.findTotalById(orderId))
+                .thenReturn(Optional.of(new OrderTotal(orderId, Money.ZERO)));
 
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result = getOrderTotalUseCase.execute(orderId);
 
         // Then
         assertTrue(result.isPresent());
-        Order order = result.get();
-        assertEquals(BigDecimal.ZERO, order.getTotalAmount());
-        assertEquals(0, order.getItemsCount());
-        verify(orderDataProvider).findByIdWithItems(orderId);
-    }
-
-    @Test
-    @DisplayName("Should handle order with high-value items correctly")
-    void shouldHandleOrderWithHighValueItemsCorrectly() {
-        // Given
-        Long orderId = 5L;
-        OrderItem expensiveItem1 = new OrderItem("Luxury Item 1", 1, new BigDecimal("999.99"));
-        OrderItem expensiveItem2 = new OrderItem("Luxury Item 2", 2, new BigDecimal("1500.50"));
-        Order expensiveOrder = new Order(orderId, 500L, List.of(expensiveItem1, expensiveItem2));
-
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.of(expensiveOrder));
-
-        // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
-
-        // Then
-        assertTrue(result.isPresent());
-        Order order = result.get();
-        assertEquals(new BigDecimal("4000.99"), order.getTotalAmount());
-        assertEquals(2, order.getItemsCount());
-        verify(orderDataProvider).findByIdWithItems(orderId);
+        assertEquals(Money.ZERO, result.get().totalAmount());
     }
 
     @Test
@@ -205,7 +133,7 @@ class GetOrderTotalUseCaseTest {
     void shouldHandleDataProviderExceptionsGracefully() {
         // Given
         Long orderId = 6L;
-        when(orderDataProvider.findByIdWithItems(orderId))
+        when(orderDataProvider.findTotalById(orderId))
                 .thenThrow(new RuntimeException("Database connection failed"));
 
         // When & Then
@@ -213,75 +141,64 @@ class GetOrderTotalUseCaseTest {
                 () -> getOrderTotalUseCase.execute(orderId));
 
         assertEquals("Database connection failed", exception.getMessage());
-        verify(orderDataProvider).findByIdWithItems(orderId);
+        verify(orderDataProvider).findTotalById(orderId);
     }
 
     @Test
-    @DisplayName("Should call findByIdWithItems exactly once for valid order ID")
-    void shouldCallFindByIdWithItemsExactlyOnceForValidOrderId() {
+    @DisplayName("Should handle multiple consecutive calls correctly")
+    void shouldHandleMultipleConsecutiveCallsCorrectly() {
         // Given
-        Long orderId = 7L;
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.of(orderWithItems));
+        Long orderId1 = 10L;
+        Long orderId2 = 20L;
+        when(orderDataProvider.findTotalById(orderId1))
+                .thenReturn(Optional.of(new OrderTotal(orderId1, Money.of("10.00"))));
+        when(orderDataProvider.findTotalById(orderId2))
+                .thenReturn(Optional.of(new OrderTotal(orderId2, Money.of("30.00"))));
 
         // When
-        getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result1 = getOrderTotalUseCase.execute(orderId1);
+        Optional<OrderTotal> result2 = getOrderTotalUseCase.execute(orderId2);
 
         // Then
-        verify(orderDataProvider, times(1)).findByIdWithItems(orderId);
-        verifyNoMoreInteractions(orderDataProvider);
+        assertEquals(Money.of("10.00"), result1.orElseThrow().totalAmount());
+        assertEquals(Money.of("30.00"), result2.orElseThrow().totalAmount());
     }
 
     @Test
-    @DisplayName("Should preserve order properties while updating totals")
-    void shouldPreserveOrderPropertiesWhileUpdatingTotals() {
+    @DisplayName("Should keep persisted total when verification matches the items total")
+    void shouldKeepPersistedTotalWhenVerificationMatchesItemsTotal() {
         // Given
-        Long orderId = 8L;
-        Long customerId = 800L;
-        OrderItem item = new OrderItem("Test Product", 2, new BigDecimal("30.00"));
-        Order originalOrder = new Order(orderId, customerId, List.of(item));
-
-        when(orderDataProvider.findByIdWithItems(orderId)).thenReturn(Optional.of(originalOrder));
+        GetOrderTotalUseCase verifyingUseCase = new GetOrderTotalUseCase(orderDataProvider, true);
+        Long orderId = 2L;
+        OrderTotal persistedTotal = new OrderTotal(orderId, Money.of("60.00"));
+        when(orderDataProvider.findTotalById(orderId)).thenReturn(Optional.of(persistedTotal));
+        when(orderDataProvider.findItemsTotalById(orderId))
+                .thenReturn(Optional.of(new OrderTotal(orderId, Money.of("60.00"))));
 
         // When
-        Optional<Order> result = getOrderTotalUseCase.execute(orderId);
+        Optional<OrderTotal> result = verifyingUseCase.execute(orderId);
 
         // Then
-        assertTrue(result.isPresent());
-        Order order = result.get();
-        assertEquals(orderId, order.getOrderId());
-        assertEquals(customerId, order.getCustomerId());
-        assertEquals(1, order.getItems().size());
-        assertEquals("Test Product", order.getItems().getFirst().getProduct());
-        assertEquals(new BigDecimal("60.00"), order.getTotalAmount());
-        assertEquals(1, order.getItemsCount());
+        assertEquals(Optional.of(persistedTotal), result);
+        verify(orderDataProvider).findItemsTotalById(orderId);
     }
 
     @Test
-    @DisplayName("Should handle multiple consecutive calls correctly")
-    void shouldHandleMultipleConsecutiveCallsCorrectly() {
+    @DisplayName("Should return items total when verification finds a diverging persisted total")
+    void shouldReturnItemsTotalWhenVerificationFindsDivergingPersistedTotal() {
         // Given
-        Long orderId1 = 10L;
-        Long orderId2 = 20L;
-
-        OrderItem item1 = new OrderItem("Product1", 1, new BigDecimal("10.00"));
-        OrderItem item2 = new OrderItem("Product2", 2, new BigDecimal("15.00"));
-
-        Order order1 = new Order(orderId1, 100L, List.of(item1));
-        Order order2 = new Order(orderId2, 200L, List.of(item2));
-
-        when(orderDataProvider.findByIdWithItems(orderId1)).thenReturn(Optional.of(order1));
-        when(orderDataProvider.findByIdWithItems(orderId2)).thenReturn(Optional.of(order2));
+        GetOrderTotalUseCase verifyingUseCase = new GetOrderTotalUseCase(orderDataProvider, true);
+        Long orderId = 3L;
+        when(orderDataProvider.findTotalById(orderId))
+                .thenReturn(Optional.of(new OrderTotal(orderId, Money.of("50.00"))));
+        when(orderDataProvider.findItemsTotalById(orderId))
+                .thenReturn(Optional.of(new OrderTotal(orderId, Money.of("60.00"))));
 
         // When
-        Optional<Order> result1 = getOrderTotalUseCase.execute(orderId1);
-        Optional<Order> result2 = getOrderTotalUseCase.execute(orderId2);
+        Optional<OrderTotal> result = verifyingUseCase.execute(orderId);
 
         // Then
-        assertTrue(result1.isPresent());
-        assertTrue(result2.isPresent());
-        assertEquals(new BigDecimal("10.00"), result1.get().getTotalAmount());
-        assertEquals(new BigDecimal("30.00"), result2.get().getTotalAmount());
-        verify(orderDataProvider).findByIdWithItems(orderId1);
-        verify(orderDataProvider).findByIdWithItems(orderId2);
+        assertTrue(result.isPresent());
+        assertEquals(Money.of("60.00"), result.get().totalAmount());
     }
 }
@@ -0,0 +1,107 @@
+package com.btg.challenge.orders.domain.usecase;
+
+import com.btg.challenge.orders.domain.OrderDataProvider;
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetOrderTotalsUseCase Unit Tests")
+class GetOrderTotalsUseCaseTest {
+
+    @Mock
+    private OrderDataProvider orderDataProvider;
+
+    private GetOrderTotalsUseCase getOrderTotalsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getOrderTotalsUseCase = new GetOrderTotalsUseCase(orderDataProvider, false);
+    }
+
+    @Test
+    @DisplayName("Should return totals found for the requested order IDs")
+    void shouldReturnTotalsFoundForRequestedOrderIds() {
+        // Given
+        List<OrderTotal> orderTotals = List.of(new OrderTotal(1L, Money.of("100.00")));
+        when(orderDataProvider.findTotalsByIds(List.of(1L, 2L))).thenReturn(orderTotals);
+
+        // When
+        List<OrderTotal> result = getOrderTotalsUseCase.execute(List.of(1L, 2L));
+
+        // Then
+        assertEquals(orderTotals, result);
+        verify(orderDataProvider).findTotalsByIds(List.of(1L, 2L));
+        verifyNoMoreInteractions(orderDataProvider);
+    }
+
+    @Test
+    @DisplayName("Should query invalid and duplicated order IDs only once")
+    void shouldQueryInvalidAndDuplicatedOrderIdsOnlyOnce() {
+        // Given
+        when(orderDataProvider.findTotalsByIds(List.of(3L, 1L))).thenReturn(List.of());
+
+        // When
+        List<OrderTotal> result = getOrderTotalsUseCase.execute(Arrays.asList(3L, null, 0L, -5L, 1L, 3L));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(orderDataProvider).findTotalsByIds(List.of(3L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should not query the data provider without valid order IDs")
+    void shouldNotQueryDataProviderWithoutValidOrderIds() {
+        // When
+        List<OrderTotal> result = getOrderTotalsUseCase.execute(Arrays.asList(null, 0L, -1L));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(orderDataProvider);
+    }
+
+    @Test
+    @DisplayName("Should replace diverging totals with the items totals of one grouped query when verification is enabled")
+    void shouldReplaceDivergingTotalsWithItemsTotalsWhenVerificationIsEnabled() {
+        // Given
+        GetOrderTotalsUseCase verifyingUseCase = new GetOrderTotalsUseCase(orderDataProvider, true);
+        when(orderDataProvider.findTotalsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new OrderTotal(1L, Money.of("60.00")), new OrderTotal(2L, Money.of("50.00"))));
+        when(orderDataProvider.findItemsTotalsByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new OrderTotal(1L, Money.of("60.00")), new OrderTotal(2L, Money.of("55.00"))));
+
+        // When
+        List<OrderTotal> result = verifyingUseCase.execute(List.of(1L, 2L));
+
+        // Then
+        assertEquals(List.of(new OrderTotal(1L, Money.of("60.00")), new OrderTotal(2L, Money.of("55.00"))), result);
+        verify(orderDataProvider, times(1)).findItemsTotalsByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should not verify when no requested order exists")
+    void shouldNotVerifyWhenNoRequestedOrderExists() {
+        // Given
+        GetOrderTotalsUseCase verifyingUseCase = new GetOrderTotalsUseCase(orderDataProvider, true);
+        when(orderDataProvider.findTotalsByIds(List.of(9L))).thenReturn(List.of());
+
+        // When
+        List<OrderTotal> result = verifyingUseCase.execute(List.of(9L));
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(orderDataProvider, never()).findItemsTotalsByIds(anyCollection());
+    }
+}
@@ -3,19 +3,25 @@ package com.btg.challenge.orders.domain.usecase;
 import com.btg.challenge.orders.domain.CustomerDataProvider;
 import com.btg.challenge.orders.domain.OrderDataProvider;
 import com.btg.challenge.orders.domain.entity.Customer;
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.btg.challenge.orders.domain.event.OrdersPersistedEvent;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,6 +36,14 @@ class ProcessOrderUseCaseTest {
     @Mock
     private CustomerDataProvider customerDataProvider;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OrderPipelineMetrics pipelineMetrics = new OrderPipelineMetrics(meterRegistry);
+
     @InjectMocks
     private ProcessOrderUseCase processOrderUseCase;
 
@@ -38,7 +52,7 @@ class ProcessOrderUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        OrderItem item = new OrderItem("Product", 2, new BigDecimal("50.00"));
+        OrderItem item = new OrderItem("Product", 2, Money.of("50.00"));
         validOrder = new Order(1L, 100L, List.of(item));
         existingCustomer = new Customer(100L);
     }
@@ -48,37 +62,39 @@ class ProcessOrderUseCaseTest {
     void shouldProcessValidOrderWithExistingCustomerSuccessfully() {
         // Given
         when(orderDataProvider.existsById(validOrder.getOrderId())).thenReturn(false);
-        when(customerDataProvider.findById(validOrder.getCustomerId())).thenReturn(Optional.of(existingCustomer));
-        when(orderDataProvider.save(validOrder, existingCustomer)).thenReturn(validOrder);
+        when(customerDataProvider.ensureExists(validOrder.getCustomerId())).thenReturn(0);
+        when(orderDataProvider.save(eq(validOrder), any(Customer.class))).thenReturn(validOrder);
 
         // When
         assertDoesNotThrow(() -> processOrderUseCase.execute(validOrder));
 
         // Then
         verify(orderDataProvider).existsById(validOrder.getOrderId());
-        verify(customerDataProvider).findById(validOrder.getCustomerId());
-        verify(orderDataProvider).save(validOrder, existingCustomer);
+        verify(customerDataProvider).ensureExists(validOrder.getCustomerId());
+        verify(orderDataProvider).save(eq(validOrder), argThat(customer ->
+                customer.getCustomerId().equals(existingCustomer.getCustomerId())));
+        verify(customerDataProvider, never()).findById(any());
         verify(customerDataProvider, never()).save(any(Customer.class));
+        verify(eventPublisher).publishEvent(new OrdersPersistedEvent(List.of(validOrder)));
     }
 
     @Test
     @DisplayName("Should process valid order and create new customer when customer not exists")
     void shouldProcessValidOrderAndCreateNewCustomerWhenCustomerNotExists() {
         // Given
-        Customer newCustomer = new Customer(validOrder.getCustomerId());
         when(orderDataProvider.existsById(validOrder.getOrderId())).thenReturn(false);
-        when(customerDataProvider.findById(validOrder.getCustomerId())).thenReturn(Optional.empty());
-        when(customerDataProvider.save(any(Customer.class))).thenReturn(newCustomer);
-        when(orderDataProvider.save(validOrder, newCustomer)).thenReturn(validOrder);
+        when(customerDataProvider.ensureExists(validOrder.getCustomerId())).thenReturn(1);
+        when(orderDataProvider.save(eq(validOrder), any(Customer.class))).thenReturn(validOrder);
 
         // When
         assertDoesNotThrow(() -> processOrderUseCase.execute(validOrder));
 
         // Then
         verify(orderDataProvider).existsById(validOrder.getOrderId());
-        verify(customerDataProvider).findById(validOrder.getCustomerId());
-        verify(customerDataProvider).save(any(Customer.class));
-        verify(orderDataProvider).save(validOrder, newCustomer);
+        verify(customerDataProvider).ensureExists(validOrder.getCustomerId());
+        verify(customerDataProvider, never()).findById(any());
+        verify(customerDataProvider, never()).save(any(Customer.class));
+        verify(orderDataProvider).save(eq(validOrder), any(Customer.class));
     }
 
     @Test
@@ -93,7 +109,7 @@ class ProcessOrderUseCaseTest {
 
         assertEquals("Invalid order data", exception.getMessage());
         verify(orderDataProvider, never()).existsById(any());
-        verify(customerDataProvider, never()).findById(any());
+        verify(customerDataProvider, never()).ensureExists(anyLong());
         verify(orderDataProvider, never()).save(any(), any());
     }
 
@@ -108,15 +124,16 @@ class ProcessOrderUseCaseTest {
 
         // Then
         verify(orderDataProvider).existsById(validOrder.getOrderId());
-        verify(customerDataProvider, never()).findById(any());
+        verify(customerDataProvider, never()).ensureExists(anyLong());
         verify(orderDataProvider, never()).save(any(), any());
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
     @DisplayName("Should handle order with null orderId gracefully")
     void shouldHandleOrderWithNullOrderIdGracefully() {
         // Given
-        Order orderWithNullId = new Order(null, 100L, List.of(new OrderItem("Product", 1, BigDecimal.TEN)));
+        Order orderWithNullId = new Order(null, 100L, List.of(new OrderItem("Product", 1, Money.of("10.00"))));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -129,7 +146,7 @@ class ProcessOrderUseCaseTest {
     @DisplayName("Should handle order with null customerId gracefully")
     void shouldHandleOrderWithNullCustomerIdGracefully() {
         // Given
-        Order orderWithNullCustomerId = new Order(1L, null, List.of(new OrderItem("Product", 1, BigDecimal.TEN)));
+        Order orderWithNullCustomerId = new Order(1L, null, List.of(new OrderItem("Product", 1, Money.of("10.00"))));
 
         // When & Then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -169,20 +186,19 @@ class ProcessOrderUseCaseTest {
     void shouldVerifyCustomerCreationWithCorrectCustomerId() {
         // Given
         Long customerId = 999L;
-        OrderItem item = new OrderItem("Product", 1, new BigDecimal("25.00"));
+        OrderItem item = new OrderItem("Product", 1, Money.of("25.00"));
         Order order = new Order(2L, customerId, List.of(item));
-        Customer newCustomer = new Customer(customerId);
 
         when(orderDataProvider.existsById(order.getOrderId())).thenReturn(false);
-        when(customerDataProvider.findById(customerId)).thenReturn(Optional.empty());
-        when(customerDataProvider.save(any(Customer.class))).thenReturn(newCustomer);
-        when(orderDataProvider.save(order, newCustomer)).thenReturn(order);
+        when(customerDataProvider.ensureExists(customerId)).thenReturn(1);
+        when(orderDataProvider.save(eq(order), any(Customer.class))).thenReturn(order);
 
         // When
         processOrderUseCase.execute(order);
 
         // Then
-        verify(customerDataProvider).save(argThat(customer ->
+        verify(customerDataProvider).ensureExists(customerId);
+        verify(orderDataProvider).save(eq(order), argThat(customer ->
             customer.getCustomerId().equals(customerId)));
     }
 
@@ -190,14 +206,12 @@ class ProcessOrderUseCaseTest {
     @DisplayName("Should maintain order integrity throughout process")
     void shouldMaintainOrderIntegrityThroughoutProcess() {
         // Given
-        OrderItem item1 = new OrderItem("Product1", 2, new BigDecimal("30.00"));
-        OrderItem item2 = new OrderItem("Product2", 1, new BigDecimal("40.00"));
+        OrderItem item1 = new OrderItem("Product1", 2, Money.of("30.00"));
+        OrderItem item2 = new OrderItem("Product2", 1, Money.of("40.00"));
         Order complexOrder = new Order(3L, 200L, List.of(item1, item2));
-        Customer customer = new Customer(200L);
 
         when(orderDataProvider.existsById(complexOrder.getOrderId())).thenReturn(false);
-        when(customerDataProvider.findById(complexOrder.getCustomerId())).thenReturn(Optional.of(customer));
-        when(orderDataProvider.save(complexOrder, customer)).thenReturn(complexOrder);
+        when(orderDataProvider.save(eq(complexOrder), any(Customer.class))).thenReturn(complexOrder);
 
         // When
         processOrderUseCase.execute(complexOrder);
@@ -207,7 +221,133 @@ class ProcessOrderUseCaseTest {
             order.getOrderId().equals(3L) &&
             order.getCustomerId().equals(200L) &&
             order.getItems().size() == 2 &&
-            order.getTotalAmount().equals(new BigDecimal("100.00"))
-        ), eq(customer));
+            order.getTotalAmount().equals(Money.of("100.00"))
+        ), argThat(customer -> customer.getCustomerId().equals(200L)));
+    }
+
+    @Test
+    @DisplayName("Should persist valid orders of a batch in a single save")
+    void shouldPersistValidOrdersOfBatchInSingleSave() {
+        // Given
+        Order otherOrder = new Order(2L, 200L, List.of(new OrderItem("Other", 1, Money.of("10.00"))));
+        when(orderDataProvider.findExistingIds(Set.of(1L, 2L))).thenReturn(Set.of());
+        when(customerDataProvider.ensureExists(Set.of(100L, 200L))).thenReturn(1);
+
+        // When
+        List<Order> invalidOrders = processOrderUseCase.executeBatch(List.of(validOrder, otherOrder));
+
+        // Then
+        assertTrue(invalidOrders.isEmpty());
+        verify(customerDataProvider).ensureExists(Set.of(100L, 200L));
+        verify(orderDataProvider).saveAll(List.of(validOrder, otherOrder));
+        verify(eventPublisher).publishEvent(new OrdersPersistedEvent(List.of(validOrder, otherOrder)));
+        verify(orderDataProvider, never()).existsById(any());
+        verify(customerDataProvider, never()).ensureExists(anyLong());
+        verify(orderDataProvider, never()).save(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return invalid orders of a batch without failing the others")
+    void shouldReturnInvalidOrdersOfBatchWithoutFailingTheOthers() {
+        // Given
+        Order invalidOrder = new Order(2L, 100L, List.of());
+        when(orderDataProvider.findExistingIds(Set.of(1L))).thenReturn(Set.of());
+
+        // When
+        List<Order> invalidOrders = processOrderUseCase.executeBatch(List.of(validOrder, invalidOrder));
+
+        // Then
+        assertEquals(List.of(invalidOrder), invalidOrders);
+        verify(orderDataProvider).saveAll(List.of(validOrder));
+        verify(customerDataProvider).ensureExists(Set.of(100L));
+    }
+
+    @Test
+    @DisplayName("Should skip existing and repeated orders of a batch with one lookup")
+    void shouldSkipExistingAndRepeatedOrdersOfBatchWithOneLookup() {
+        // Given
+        Order repeatedOrder = new Order(1L, 100L, List.of(new OrderItem("Product", 2, Money.of("50.00"))));
+        Order existingOrder = new Order(3L, 300L, List.of(new OrderItem("Product", 1, Money.of("1.00"))));
+        when(orderDataProvider.findExistingIds(Set.of(1L, 3L))).thenReturn(Set.of(3L));
+
+        // When
+        List<Order> invalidOrders = processOrderUseCase.executeBatch(List.of(validOrder, repeatedOrder, existingOrder));
+
+        // Then
+        assertTrue(invalidOrders.isEmpty());
+        verify(orderDataProvider, times(1)).findExistingIds(any());
+        verify(orderDataProvider).saveAll(List.of(validOrder));
+    }
+
+    @Test
+    @DisplayName("Should not touch customers when every order of a batch already exists")
+    void shouldNotTouchCustomersWhenEveryOrderOfBatchAlreadyExists() {
+        // Given
+        when(orderDataProvider.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+        // When
+        List<Order> invalidOrders = processOrderUseCase.executeBatch(List.of(validOrder));
+
+        // Then
+        assertTrue(invalidOrders.isEmpty());
+        verify(customerDataProvider, never()).ensureExists(anyCollection());
+        verify(orderDataProvider, never()).saveAll(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should not query the database for a batch without valid orders")
+    void shouldNotQueryDatabaseForBatchWithoutValidOrders() {
+        // When
+        List<Order> invalidOrders = processOrderUseCase.executeBatch(List.of(new Order()));
+
+        // Then
+        assertEquals(1, invalidOrders.size());
+        verifyNoInteractions(orderDataProvider, customerDataProvider);
+    }
+
+    @Test
+    @DisplayName("Should time each stage and report duplicate outcome for existing order")
+    void shouldTimeStagesAndReportDuplicateOutcome() {
+        // Given
+        when(orderDataProvider.existsById(validOrder.getOrderId())).thenReturn(true);
+
+        // When
+        boolean persisted = processOrderUseCase.execute(validOrder);
+
+        // Then
+        assertFalse(persisted);
+        assertEquals(1, stageCount("validate", "ok"));
+        assertEquals(1, stageCount("duplicate_check", "duplicate"));
+        assertEquals(0, stageCount("persist", "ok"));
+    }
+
+    @Test
+    @DisplayName("Should count batch outcomes and time stages once per batch")
+    void shouldCountBatchOutcomesAndTimeStagesOncePerBatch() {
+        // Given
+        Order repeatedOrder = new Order(1L, 100L, List.of(new OrderItem("Product", 2, Money.of("50.00"))));
+        Order existingOrder = new Order(3L, 300L, List.of(new OrderItem("Product", 1, Money.of("1.00"))));
+        when(orderDataProvider.findExistingIds(Set.of(1L, 3L))).thenReturn(Set.of(3L));
+
+        // When
+        processOrderUseCase.executeBatch(List.of(validOrder, repeatedOrder, existingOrder, new Order()));
+
+        // Then
+        assertEquals(1.0, messageCount("ok"));
+        assertEquals(2.0, messageCount("duplicate"));
+        assertEquals(1.0, messageCount("invalid"));
+        assertEquals(1, stageCount("duplicate_check", "ok"));
+        assertEquals(1, stageCount("customer_resolve", "ok"));
+        assertEquals(1, stageCount("persist", "ok"));
+    }
+
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get(OrderPipelineMetrics.STAGE_TIMER)
+                .tags("stage", stage, "outcome", outcome).timer().count();
+    }
+
+    private double messageCount(String outcome) {
+        return meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", outcome).counter().count();
     }
 }
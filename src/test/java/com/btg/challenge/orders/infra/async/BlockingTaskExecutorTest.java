@@ -0,0 +1,124 @@
+package com.btg.challenge.orders.infra.async;
+
+import com.btg.challenge.orders.infra.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockingTaskExecutor Unit Tests")
+class BlockingTaskExecutorTest {
+
+    private BlockingTaskExecutor blockingTaskExecutor;
+
+    @AfterEach
+    void tearDown() {
+        if (blockingTaskExecutor != null) {
+            blockingTaskExecutor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run tasks on the configured executor instead of the caller thread")
+    void shouldRunTasksOnConfiguredExecutorInsteadOfCallerThread() {
+        // Given
+        QueuedExecutorService executor = new QueuedExecutorService();
+        blockingTaskExecutor = new BlockingTaskExecutor(executor, 1, 100);
+
+        // When
+        CompletableFuture<String> future = blockingTaskExecutor.supply(() -> "done");
+
+        // Then
+        assertFalse(future.isDone());
+        assertEquals(1, executor.pendingTasks());
+        executor.runAll();
+        assertEquals("done", future.join());
+        assertEquals(1, blockingTaskExecutor.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Should run tasks on virtual threads")
+    void shouldRunTasksOnVirtualThreads() throws ExecutionException, InterruptedException {
+        // Given
+        blockingTaskExecutor = new BlockingTaskExecutor(Executors.newVirtualThreadPerTaskExecutor(), 1, 100);
+
+        // When
+        Boolean virtual = blockingTaskExecutor.supply(() -> Thread.currentThread().isVirtual()).get();
+
+        // Then
+        assertTrue(virtual);
+    }
+
+    @Test
+    @DisplayName("Should fail with ServiceOverloadedException when no permit frees up in time")
+    void shouldFailWithServiceOverloadedExceptionWhenNoPermitFreesUpInTime() throws InterruptedException {
+        // Given
+        blockingTaskExecutor = new BlockingTaskExecutor(Executors.newVirtualThreadPerTaskExecutor(), 1, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> holder = blockingTaskExecutor.supply(() -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        // When
+        CompletableFuture<String> rejected = blockingTaskExecutor.supply(() -> "never");
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ServiceOverloadedException.class, exception.getCause());
+        release.countDown();
+        assertTrue(holder.join());
+        assertEquals(1, blockingTaskExecutor.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the task fails")
+    void shouldReleasePermitWhenTaskFails() {
+        // Given
+        QueuedExecutorService executor = new QueuedExecutorService();
+        blockingTaskExecutor = new BlockingTaskExecutor(executor, 2, 100);
+
+        // When
+        CompletableFuture<String> future = blockingTaskExecutor.supply(() -> {
+            throw new IllegalStateException("Database error");
+        });
+        executor.runAll();
+
+        // Then
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(2, blockingTaskExecutor.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Should map executor rejections to ServiceOverloadedException")
+    void shouldMapExecutorRejectionsToServiceOverloadedException() {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        blockingTaskExecutor = new BlockingTaskExecutor(executor, 1, 100);
+
+        // When
+        CompletableFuture<String> future = blockingTaskExecutor.supply(() -> "never");
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(ServiceOverloadedException.class, exception.getCause());
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause().getCause());
+    }
+}
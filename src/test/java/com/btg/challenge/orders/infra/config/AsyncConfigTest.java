@@ -0,0 +1,65 @@
+package com.btg.challenge.orders.infra.config;
+
+import com.btg.challenge.orders.infra.async.BlockingTaskExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AsyncConfig Unit Tests")
+class AsyncConfigTest {
+
+    private AsyncConfig asyncConfig;
+
+    @BeforeEach
+    void setUp() {
+        asyncConfig = new AsyncConfig();
+        ReflectionTestUtils.setField(asyncConfig, "executorType", AsyncConfig.VIRTUAL_EXECUTOR);
+        ReflectionTestUtils.setField(asyncConfig, "poolSize", 4);
+        ReflectionTestUtils.setField(asyncConfig, "queueCapacity", 8);
+        ReflectionTestUtils.setField(asyncConfig, "maxConcurrentQueries", 10);
+        ReflectionTestUtils.setField(asyncConfig, "acquireTimeout", 2000L);
+    }
+
+    @Test
+    @DisplayName("Should run blocking tasks on virtual threads by default")
+    void shouldRunBlockingTasksOnVirtualThreadsByDefault() {
+        // When
+        try (BlockingTaskExecutor executor = asyncConfig.blockingTaskExecutor()) {
+            // Then
+            assertTrue(executor.supply(() -> Thread.currentThread().isVirtual()).join());
+            assertEquals(10, executor.availablePermits());
+        }
+    }
+
+    @Test
+    @DisplayName("Should create a bounded platform pool when configured")
+    void shouldCreateBoundedPlatformPoolWhenConfigured() {
+        // Given
+        ReflectionTestUtils.setField(asyncConfig, "executorType", AsyncConfig.PLATFORM_EXECUTOR);
+
+        // When
+        try (BlockingTaskExecutor executor = asyncConfig.blockingTaskExecutor()) {
+            // Then
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) ReflectionTestUtils.getField(executor, "executor");
+            assertNotNull(pool);
+            assertEquals(4, pool.getMaximumPoolSize());
+            assertEquals(8, pool.getQueue().remainingCapacity());
+            assertFalse(executor.supply(() -> Thread.currentThread().isVirtual()).join());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown executor types")
+    void shouldRejectUnknownExecutorTypes() {
+        // Given
+        ReflectionTestUtils.setField(asyncConfig, "executorType", "forkjoin");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> asyncConfig.blockingTaskExecutor());
+    }
+}
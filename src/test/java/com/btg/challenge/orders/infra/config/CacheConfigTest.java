@@ -0,0 +1,73 @@
+package com.btg.challenge.orders.infra.config;
+
+import com.btg.challenge.orders.model.OrderTotalResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CacheConfig Unit Tests")
+class CacheConfigTest {
+
+    private CacheConfig cacheConfig;
+
+    @BeforeEach
+    void setUp() {
+        cacheConfig = new CacheConfig();
+        ReflectionTestUtils.setField(cacheConfig, "knownCustomersMaximumSize", 2L);
+        ReflectionTestUtils.setField(cacheConfig, "orderTotalsMaximumSize", 3L);
+        ReflectionTestUtils.setField(cacheConfig, "orderTotalsExpireAfterWrite", Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should create known customers cache bounded by the configured size")
+    void shouldCreateKnownCustomersCacheBoundedByConfiguredSize() {
+        // When
+        Cache<Long, Boolean> cache = cacheConfig.knownCustomersCache();
+
+        // Then
+        assertNotNull(cache);
+        assertEquals(2L, cache.policy().eviction().orElseThrow().getMaximum());
+    }
+
+    @Test
+    @DisplayName("Should create order totals cache bounded by size and time to live")
+    void shouldCreateOrderTotalsCacheBoundedBySizeAndTimeToLive() {
+        // When
+        Cache<Long, OrderTotalResponse> cache = cacheConfig.orderTotalsCache(new SimpleMeterRegistry());
+
+        // Then
+        assertEquals(3L, cache.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(5), cache.policy().expireAfterWrite().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    @DisplayName("Should export order totals cache hits and misses as metrics")
+    void shouldExportOrderTotalsCacheHitsAndMissesAsMetrics() {
+        // Given
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Cache<Long, OrderTotalResponse> cache = cacheConfig.orderTotalsCache(meterRegistry);
+        cache.put(1L, new OrderTotalResponse());
+
+        // When
+        cache.getIfPresent(1L);
+        cache.getIfPresent(2L);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tags("cache", CacheConfig.ORDER_TOTALS_CACHE_NAME, "result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tags("cache", CacheConfig.ORDER_TOTALS_CACHE_NAME, "result", "miss")
+                .functionCounter().count());
+        assertNotNull(meterRegistry.find("cache.evictions")
+                .tags("cache", CacheConfig.ORDER_TOTALS_CACHE_NAME).meter());
+    }
+}
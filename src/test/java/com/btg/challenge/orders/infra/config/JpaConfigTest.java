@@ -0,0 +1,37 @@
+package com.btg.challenge.orders.infra.config;
+
+import com.btg.challenge.orders.infra.repository.id.PooledSequenceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JpaConfig Unit Tests")
+class JpaConfigTest {
+
+    private JpaConfig jpaConfig;
+
+    @BeforeEach
+    void setUp() {
+        jpaConfig = new JpaConfig();
+        ReflectionTestUtils.setField(jpaConfig, "idAllocationSize", 25);
+    }
+
+    @Test
+    @DisplayName("Should expose the configured id allocation size to Hibernate")
+    void shouldExposeConfiguredIdAllocationSizeToHibernate() {
+        // Given
+        Map<String, Object> properties = new HashMap<>();
+
+        // When
+        jpaConfig.idAllocationSizeCustomizer().customize(properties);
+
+        // Then
+        assertEquals(25, properties.get(PooledSequenceGenerator.ALLOCATION_SIZE_SETTING));
+    }
+}
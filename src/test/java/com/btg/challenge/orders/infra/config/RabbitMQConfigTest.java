@@ -1,5 +1,9 @@
 package com.btg.challenge.orders.infra.config;
 
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.mqprovider.Jackson2CborMessageConverter;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.mqprovider.consumer.OrderStreamingMessageConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,16 +13,27 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.rabbit.retry.RepublishMessageRecoverer;
+import org.springframework.amqp.support.converter.ContentTypeDelegatingMessageConverter;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +60,15 @@ class RabbitMQConfigTest {
         ReflectionTestUtils.setField(rabbitMQConfig, "ordersRoutingKey", ordersRoutingKey);
         ReflectionTestUtils.setField(rabbitMQConfig, "deadLetterQueue", deadLetterQueue);
         ReflectionTestUtils.setField(rabbitMQConfig, "deadLetterExchange", deadLetterExchange);
+        ReflectionTestUtils.setField(rabbitMQConfig, "listenerAutoStartup", true);
+        ReflectionTestUtils.setField(rabbitMQConfig, "partitionCount", 3);
+        ReflectionTestUtils.setField(rabbitMQConfig, "partitionExchange", "orders.partitioned");
+        ReflectionTestUtils.setField(rabbitMQConfig, "minConsumers", 3);
+        ReflectionTestUtils.setField(rabbitMQConfig, "maxConsumers", 10);
+        ReflectionTestUtils.setField(rabbitMQConfig, "prefetch", 250);
+        ReflectionTestUtils.setField(rabbitMQConfig, "ackBatchSize", 50);
+        ReflectionTestUtils.setField(rabbitMQConfig, "batchSize", 100);
+        ReflectionTestUtils.setField(rabbitMQConfig, "batchTimeout", 30000L);
     }
 
     @Test
@@ -155,6 +179,7 @@ class RabbitMQConfigTest {
         assertEquals(connectionFactory, template.getConnectionFactory());
         assertNotNull(template.getMessageConverter());
         assertInstanceOf(Jackson2JsonMessageConverter.class, template.getMessageConverter());
+        assertTrue(template.isMandatoryFor(new Message(new byte[0])));
     }
 
     @Test
@@ -243,26 +268,113 @@ class RabbitMQConfigTest {
     }
 
     @Test
-    @DisplayName("Should verify acknowledge mode is set to AUTO")
-    void shouldVerifyAcknowledgeModeIsSetToAuto() {
+    @DisplayName("Should use manual acknowledge mode with configured prefetch")
+    void shouldUseManualAcknowledgeModeWithConfiguredPrefetch() {
         // When
         SimpleRabbitListenerContainerFactory factory =
                 rabbitMQConfig.rabbitListenerContainerFactory(connectionFactory);
 
         // Then
         assertNotNull(factory);
-        // Verify the factory has acknowledge mode configured
-        // We can verify this by testing the factory configuration through reflection
-        Object acknowledgeMode = ReflectionTestUtils.getField(factory, "acknowledgeMode");
-        if (acknowledgeMode != null) {
-            assertEquals(AcknowledgeMode.AUTO, acknowledgeMode);
-        }
+        assertEquals(AcknowledgeMode.MANUAL, ReflectionTestUtils.getField(factory, "acknowledgeMode"));
+        assertEquals(250, ReflectionTestUtils.getField(factory, "prefetchCount"));
 
         // Verify connection factory is properly set
         assertNotNull(ReflectionTestUtils.getField(factory, "connectionFactory"));
         assertEquals(connectionFactory, ReflectionTestUtils.getField(factory, "connectionFactory"));
     }
 
+    @Test
+    @DisplayName("Should reject ack batch size larger than prefetch")
+    void shouldRejectAckBatchSizeLargerThanPrefetch() {
+        // Given
+        ReflectionTestUtils.setField(rabbitMQConfig, "ackBatchSize", 500);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> rabbitMQConfig.rabbitListenerContainerFactory(connectionFactory));
+    }
+
+    @Test
+    @DisplayName("Should bound listener consumers by the configured range")
+    void shouldBoundListenerConsumersByConfiguredRange() {
+        // When
+        SimpleRabbitListenerContainerFactory factory =
+                rabbitMQConfig.rabbitListenerContainerFactory(connectionFactory);
+        SimpleRabbitListenerContainerFactory batchFactory =
+                rabbitMQConfig.batchRabbitListenerContainerFactory(connectionFactory);
+
+        // Then
+        assertEquals(3, ReflectionTestUtils.getField(factory, "concurrentConsumers"));
+        assertEquals(10, ReflectionTestUtils.getField(factory, "maxConcurrentConsumers"));
+        assertEquals(3, ReflectionTestUtils.getField(batchFactory, "concurrentConsumers"));
+        assertEquals(10, ReflectionTestUtils.getField(batchFactory, "maxConcurrentConsumers"));
+    }
+
+    @Test
+    @DisplayName("Should reject min consumers larger than max consumers")
+    void shouldRejectMinConsumersLargerThanMaxConsumers() {
+        // Given
+        ReflectionTestUtils.setField(rabbitMQConfig, "minConsumers", 11);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> rabbitMQConfig.rabbitListenerContainerFactory(connectionFactory));
+    }
+
+    @Test
+    @DisplayName("Should declare partition queues behind a consistent-hash exchange on the customer header")
+    void shouldDeclarePartitionQueuesBehindConsistentHashExchange() {
+        // When
+        Declarables partitions = rabbitMQConfig.orderPartitions();
+
+        // Then
+        CustomExchange hashExchange = partitions.getDeclarablesByType(CustomExchange.class).getFirst();
+        assertEquals("orders.partitioned", hashExchange.getName());
+        assertEquals(RabbitMQConfig.CONSISTENT_HASH_EXCHANGE_TYPE, hashExchange.getType());
+        assertEquals(OrderMessage.CUSTOMER_HEADER, hashExchange.getArguments().get("hash-header"));
+
+        List<Queue> queues = partitions.getDeclarablesByType(Queue.class);
+        assertEquals(List.of(ordersQueueName + ".p0", ordersQueueName + ".p1", ordersQueueName + ".p2"),
+                queues.stream().map(Queue::getName).toList());
+        queues.forEach(queue -> {
+            assertEquals(true, queue.getArguments().get("x-single-active-consumer"));
+            assertEquals(deadLetterExchange, queue.getArguments().get("x-dead-letter-exchange"));
+        });
+
+        List<Binding> bindings = partitions.getDeclarablesByType(Binding.class);
+        assertEquals(4, bindings.size());
+        assertTrue(bindings.stream().anyMatch(binding -> !binding.isDestinationQueue()
+                && binding.getDestination().equals("orders.partitioned")
+                && binding.getExchange().equals(ordersExchange)
+                && binding.getRoutingKey().equals(ordersRoutingKey)));
+        assertTrue(bindings.stream().filter(Binding::isDestinationQueue)
+                .allMatch(binding -> binding.getExchange().equals("orders.partitioned") && binding.getRoutingKey().equals("1")));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive partition count")
+    void shouldRejectNonPositivePartitionCount() {
+        // Given
+        ReflectionTestUtils.setField(rabbitMQConfig, "partitionCount", 0);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> rabbitMQConfig.orderPartitions());
+    }
+
+    @Test
+    @DisplayName("Should select the order decoder by content type with JSON as default")
+    void shouldSelectOrderDecoderByContentType() {
+        // When
+        ContentTypeDelegatingMessageConverter converter = rabbitMQConfig.orderMessageConverter();
+
+        // Then
+        assertInstanceOf(OrderStreamingMessageConverter.class,
+                converter.getDelegates().get(Jackson2CborMessageConverter.CONTENT_TYPE_CBOR));
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        Message json = new Message("{\"codigoPedido\":1,\"codigoCliente\":2,\"itens\":[]}".getBytes(), properties);
+        assertInstanceOf(Order.class, converter.fromMessage(json));
+    }
+
     @Test
     @DisplayName("Should handle null connection factory gracefully")
     void shouldHandleNullConnectionFactoryGracefully() {
@@ -322,4 +434,57 @@ class RabbitMQConfigTest {
         assertEquals(deadLetterQueue, deadLetterBinding.getDestination());
         assertEquals(deadLetterExchange, deadLetterBinding.getExchange());
     }
+
+    @Test
+    @DisplayName("Should create batch listener container factory from processing properties")
+    void shouldCreateBatchListenerContainerFactoryFromProcessingProperties() {
+        // When
+        SimpleRabbitListenerContainerFactory factory =
+                rabbitMQConfig.batchRabbitListenerContainerFactory(connectionFactory);
+
+        // Then
+        assertNotNull(factory);
+        assertEquals(connectionFactory, ReflectionTestUtils.getField(factory, "connectionFactory"));
+        assertEquals(true, ReflectionTestUtils.getField(factory, "batchListener"));
+        assertEquals(true, ReflectionTestUtils.getField(factory, "consumerBatchEnabled"));
+        assertEquals(100, ReflectionTestUtils.getField(factory, "batchSize"));
+        assertEquals(30000L, ReflectionTestUtils.getField(factory, "batchReceiveTimeout"));
+        assertEquals(250, ReflectionTestUtils.getField(factory, "prefetchCount"));
+        assertEquals(false, ReflectionTestUtils.getField(factory, "defaultRequeueRejected"));
+        assertEquals(AcknowledgeMode.AUTO, ReflectionTestUtils.getField(factory, "acknowledgeMode"));
+    }
+
+    @Test
+    @DisplayName("Should not auto start listener containers when disabled by property")
+    void shouldNotAutoStartListenerContainersWhenDisabledByProperty() {
+        // Given
+        ReflectionTestUtils.setField(rabbitMQConfig, "listenerAutoStartup", false);
+
+        // When
+        SimpleRabbitListenerContainerFactory factory =
+                rabbitMQConfig.rabbitListenerContainerFactory(connectionFactory);
+        SimpleRabbitListenerContainerFactory batchFactory =
+                rabbitMQConfig.batchRabbitListenerContainerFactory(connectionFactory);
+
+        // Then
+        assertEquals(false, ReflectionTestUtils.getField(factory, "autoStartup"));
+        assertEquals(false, ReflectionTestUtils.getField(batchFactory, "autoStartup"));
+    }
+
+    @Test
+    @DisplayName("Should create dead letter recoverer publishing to the DLX")
+    void shouldCreateDeadLetterRecovererPublishingToTheDlx() {
+        // Given
+        RabbitTemplate template = mock(RabbitTemplate.class);
+        Message message = new Message("{}".getBytes(), new MessageProperties());
+
+        // When
+        MessageRecoverer recoverer = rabbitMQConfig.deadLetterRecoverer(template);
+        recoverer.recover(message, new IllegalArgumentException("Invalid order data"));
+
+        // Then
+        assertInstanceOf(RepublishMessageRecoverer.class, recoverer);
+        verify(template).send(deadLetterExchange, RabbitMQConfig.DEAD_LETTER_ROUTING_KEY, message);
+        assertEquals("Invalid order data", message.getMessageProperties().getHeader("x-exception-message"));
+    }
 }
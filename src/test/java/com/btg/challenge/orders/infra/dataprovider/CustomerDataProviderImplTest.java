@@ -3,19 +3,25 @@ package com.btg.challenge.orders.infra.dataprovider;
 import com.btg.challenge.orders.domain.entity.Customer;
 import com.btg.challenge.orders.infra.dataprovider.mapper.CustomerRepositoryMapper;
 import com.btg.challenge.orders.infra.repository.CustomerDataRepository;
+import com.btg.challenge.orders.infra.repository.CustomerOrderStatsDataRepository;
 import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,10 +33,14 @@ class CustomerDataProviderImplTest {
     @Mock
     private CustomerDataRepository customerRepository;
 
+    @Mock
+    private CustomerOrderStatsDataRepository customerOrderStatsRepository;
+
     @Mock
     private CustomerRepositoryMapper customerMapper;
 
-    @InjectMocks
+    private Cache<Long, Boolean> knownCustomersCache;
+
     private CustomerDataProviderImpl customerDataProvider;
 
     private Customer customer;
@@ -38,6 +48,10 @@ class CustomerDataProviderImplTest {
 
     @BeforeEach
     void setUp() {
+        knownCustomersCache = Caffeine.newBuilder().maximumSize(10).build();
+        customerDataProvider = new CustomerDataProviderImpl(customerRepository, customerOrderStatsRepository,
+                customerMapper, knownCustomersCache);
+
         customer = new Customer(100L);
         customer.setCreatedAt(LocalDateTime.now());
 
@@ -165,14 +179,28 @@ class CustomerDataProviderImplTest {
     void shouldCountOrdersByCustomerIdCorrectly(long expectedCount) {
         // Given
         Long customerId = 100L;
-        when(customerRepository.countOrdersByCustomerId(customerId)).thenReturn(expectedCount);
+        when(customerOrderStatsRepository.findOrderCountByCustomerId(customerId)).thenReturn(Optional.of(expectedCount));
 
         // When
         long result = customerDataProvider.countOrdersByCustomerId(customerId);
 
         // Then
         assertEquals(expectedCount, result);
-        verify(customerRepository).countOrdersByCustomerId(customerId);
+        verify(customerOrderStatsRepository).findOrderCountByCustomerId(customerId);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    @DisplayName("Should return zero orders when customer has no stats")
+    void shouldReturnZeroOrdersWhenCustomerHasNoStats() {
+        // Given
+        when(customerOrderStatsRepository.findOrderCountByCustomerId(999L)).thenReturn(Optional.empty());
+
+        // When
+        long result = customerDataProvider.countOrdersByCustomerId(999L);
+
+        // Then
+        assertEquals(0L, result);
     }
 
     @Test
@@ -229,7 +257,7 @@ class CustomerDataProviderImplTest {
     void shouldHandleRepositoryExceptionInCountOrdersByCustomerId() {
         // Given
         Long customerId = 100L;
-        when(customerRepository.countOrdersByCustomerId(customerId))
+        when(customerOrderStatsRepository.findOrderCountByCustomerId(customerId))
                 .thenThrow(new RuntimeException("Database error"));
 
         // When & Then
@@ -237,7 +265,7 @@ class CustomerDataProviderImplTest {
                 () -> customerDataProvider.countOrdersByCustomerId(customerId));
 
         assertEquals("Database error", exception.getMessage());
-        verify(customerRepository).countOrdersByCustomerId(customerId);
+        verify(customerOrderStatsRepository).findOrderCountByCustomerId(customerId);
     }
 
     @Test
@@ -270,4 +298,93 @@ class CustomerDataProviderImplTest {
         verifyNoMoreInteractions(customerMapper);
         verifyNoMoreInteractions(customerRepository);
     }
+
+    @Test
+    @DisplayName("Should insert unknown customer with a single upsert")
+    void shouldInsertUnknownCustomerWithSingleUpsert() {
+        // Given
+        when(customerRepository.insertMissing(new Long[]{100L})).thenReturn(1);
+
+        // When
+        int result = customerDataProvider.ensureExists(100L);
+
+        // Then
+        assertEquals(1, result);
+        assertEquals(Boolean.TRUE, knownCustomersCache.getIfPresent(100L));
+        verify(customerRepository, never()).findById(any());
+        verify(customerRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should skip the database for customers already known")
+    void shouldSkipDatabaseForCustomersAlreadyKnown() {
+        // Given
+        knownCustomersCache.put(100L, Boolean.TRUE);
+
+        // When
+        int result = customerDataProvider.ensureExists(100L);
+
+        // Then
+        assertEquals(0, result);
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    @DisplayName("Should upsert only unknown customers of a collection")
+    void shouldUpsertOnlyUnknownCustomersOfCollection() {
+        // Given
+        knownCustomersCache.put(100L, Boolean.TRUE);
+        when(customerRepository.insertMissing(new Long[]{200L, 300L})).thenReturn(1);
+
+        // When
+        int result = customerDataProvider.ensureExists(List.of(100L, 200L, 300L, 200L));
+
+        // Then
+        assertEquals(1, result);
+        assertNotNull(knownCustomersCache.getIfPresent(200L));
+        assertNotNull(knownCustomersCache.getIfPresent(300L));
+    }
+
+    @Test
+    @DisplayName("Should remember customers only after the transaction commits")
+    void shouldRememberCustomersOnlyAfterTransactionCommits() {
+        // Given
+        when(customerRepository.insertMissing(new Long[]{100L})).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // When
+            customerDataProvider.ensureExists(100L);
+
+            // Then
+            assertNull(knownCustomersCache.getIfPresent(100L));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+            assertEquals(Boolean.TRUE, knownCustomersCache.getIfPresent(100L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not remember customers when the upsert fails")
+    void shouldNotRememberCustomersWhenUpsertFails() {
+        // Given
+        when(customerRepository.insertMissing(new Long[]{100L})).thenThrow(new RuntimeException("Database error"));
+
+        // When & Then
+        assertThrows(RuntimeException.class, () -> customerDataProvider.ensureExists(100L));
+        assertNull(knownCustomersCache.getIfPresent(100L));
+    }
+
+    @Test
+    @DisplayName("Should not query the database for an empty collection")
+    void shouldNotQueryDatabaseForEmptyCollection() {
+        // When
+        int result = customerDataProvider.ensureExists(Set.of());
+
+        // Then
+        assertEquals(0, result);
+        verifyNoInteractions(customerRepository);
+    }
 }
@@ -1,11 +1,15 @@
 package com.btg.challenge.orders.infra.dataprovider;
 
 import com.btg.challenge.orders.domain.entity.Customer;
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
-import com.btg.challenge.orders.infra.dataprovider.mapper.CustomerRepositoryMapper;
 import com.btg.challenge.orders.infra.dataprovider.mapper.OrderRepositoryMapper;
+import com.btg.challenge.orders.infra.repository.CustomerDataRepository;
+import com.btg.challenge.orders.infra.repository.CustomerOrderStatsDataRepository;
 import com.btg.challenge.orders.infra.repository.OrderDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderOutboxDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderTotalDataRepository;
 import com.btg.challenge.orders.infra.repository.model.CustomerData;
 import com.btg.challenge.orders.infra.repository.model.OrderData;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +27,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,7 +44,16 @@ class OrderDataProviderImplTest {
     private OrderRepositoryMapper orderMapper;
 
     @Mock
-    private CustomerRepositoryMapper customerMapper;
+    private CustomerDataRepository customerRepository;
+
+    @Mock
+    private OrderOutboxDataRepository outboxRepository;
+
+    @Mock
+    private OrderTotalDataRepository orderTotalRepository;
+
+    @Mock
+    private CustomerOrderStatsDataRepository customerOrderStatsRepository;
 
     @InjectMocks
     private OrderDataProviderImpl orderDataProvider;
@@ -59,7 +73,7 @@ class OrderDataProviderImplTest {
                 .createdAt(LocalDateTime.now())
                 .build();
 
-        OrderItem orderItem = new OrderItem("Product 1", 2, BigDecimal.valueOf(10.00));
+        OrderItem orderItem = new OrderItem("Product 1", 2, Money.of("10.00"));
 
         order = new Order(1L, 1L, List.of(orderItem));
         order.setCreatedAt(LocalDateTime.now());
@@ -77,7 +91,7 @@ class OrderDataProviderImplTest {
     @DisplayName("Should save order successfully")
     void shouldSaveOrderSuccessfully() {
         // Given
-        when(customerMapper.toData(customer)).thenReturn(customerData);
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customerData);
         when(orderMapper.toData(order, customerData)).thenReturn(orderData);
         when(orderRepository.save(orderData)).thenReturn(orderData);
         when(orderMapper.toDomain(orderData)).thenReturn(order);
@@ -90,12 +104,155 @@ class OrderDataProviderImplTest {
         assertEquals(order.getOrderId(), result.getOrderId());
         assertEquals(order.getCustomerId(), result.getCustomerId());
 
-        verify(customerMapper).toData(customer);
+        verify(customerRepository).getReferenceById(customer.getCustomerId());
         verify(orderMapper).toData(order, customerData);
         verify(orderRepository).save(orderData);
         verify(orderMapper).toDomain(orderData);
     }
 
+    @Test
+    @DisplayName("Should save all orders in a single repository call")
+    void shouldSaveAllOrdersInSingleRepositoryCall() {
+        // Given
+        Order otherOrder = new Order(2L, 1L, List.of(new OrderItem("Product 2", 1, Money.of("1.00"))));
+        OrderData otherOrderData = OrderData.builder().orderId(2L).customer(customerData).build();
+        when(customerRepository.getReferenceById(1L)).thenReturn(customerData);
+        when(orderMapper.toData(order, customerData)).thenReturn(orderData);
+        when(orderMapper.toData(otherOrder, customerData)).thenReturn(otherOrderData);
+
+        // When
+        orderDataProvider.saveAll(List.of(order, otherOrder));
+
+        // Then
+        verify(orderRepository).saveAll(List.of(orderData, otherOrderData));
+        verify(orderRepository, never()).save(any());
+        verify(orderMapper, never()).toDomain(any());
+    }
+
+    @Test
+    @DisplayName("Should append the saved order to the outbox")
+    void shouldAppendSavedOrderToOutbox() {
+        // Given
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customerData);
+        when(orderMapper.toData(order, customerData)).thenReturn(orderData);
+        when(orderRepository.save(orderData)).thenReturn(orderData);
+
+        // When
+        orderDataProvider.save(order, customer);
+
+        // Then
+        var inOrder = inOrder(orderRepository, outboxRepository);
+        inOrder.verify(orderRepository).save(orderData);
+        inOrder.verify(outboxRepository).appendFromOrders(new Long[]{1L});
+    }
+
+    @Test
+    @DisplayName("Should append a whole batch to the outbox in a single statement")
+    void shouldAppendWholeBatchToOutboxInSingleStatement() {
+        // Given
+        Order secondOrder = new Order(2L, 1L, List.of(new OrderItem("Product 2", 1, Money.of("1.00"))));
+        Order otherCustomerOrder = new Order(3L, 2L, List.of(new OrderItem("Product 3", 3, Money.of("10.00"))));
+        when(orderMapper.toData(any(), any())).thenReturn(orderData);
+
+        // When
+        orderDataProvider.saveAll(List.of(otherCustomerOrder, order, secondOrder));
+
+        // Then
+        var inOrder = inOrder(orderRepository, outboxRepository);
+        inOrder.verify(orderRepository).saveAll(anyList());
+        inOrder.verify(outboxRepository).appendFromOrders(new Long[]{3L, 1L, 2L});
+        verifyNoMoreInteractions(outboxRepository);
+    }
+
+    @Test
+    @DisplayName("Should add the saved order to existing customer stats with a single update")
+    void shouldAddSavedOrderToExistingCustomerStatsWithSingleUpdate() {
+        // Given
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customerData);
+        when(orderMapper.toData(order, customerData)).thenReturn(orderData);
+        when(orderRepository.save(orderData)).thenReturn(orderData);
+        when(customerOrderStatsRepository.addOrders(1L, 1, orderData.getTotalAmount(), orderData.getCreatedAt()))
+                .thenReturn(1);
+
+        // When
+        orderDataProvider.save(order, customer);
+
+        // Then
+        var inOrder = inOrder(orderRepository, customerOrderStatsRepository);
+        inOrder.verify(orderRepository).save(orderData);
+        inOrder.verify(customerOrderStatsRepository)
+                .addOrders(1L, 1, orderData.getTotalAmount(), orderData.getCreatedAt());
+        verify(customerOrderStatsRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should create customer stats on the first order")
+    void shouldCreateCustomerStatsOnFirstOrder() {
+        // Given
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customerData);
+        when(orderMapper.toData(order, customerData)).thenReturn(orderData);
+        when(orderRepository.save(orderData)).thenReturn(orderData);
+        when(customerOrderStatsRepository.addOrders(anyLong(), anyLong(), any(), any())).thenReturn(0);
+        when(customerOrderStatsRepository.insertIfAbsent(1L, 1, orderData.getTotalAmount(), orderData.getCreatedAt()))
+                .thenReturn(1);
+
+        // When
+        orderDataProvider.save(order, customer);
+
+        // Then
+        verify(customerOrderStatsRepository, times(1)).addOrders(anyLong(), anyLong(), any(), any());
+        verify(customerOrderStatsRepository).insertIfAbsent(1L, 1, orderData.getTotalAmount(), orderData.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should retry the stats update when another transaction created the row first")
+    void shouldRetryStatsUpdateWhenAnotherTransactionCreatedRowFirst() {
+        // Given
+        when(customerRepository.getReferenceById(customer.getCustomerId())).thenReturn(customerData);
+        when(orderMapper.toData(order, customerData)).thenReturn(orderData);
+        when(orderRepository.save(orderData)).thenReturn(orderData);
+        when(customerOrderStatsRepository.addOrders(1L, 1, orderData.getTotalAmount(), orderData.getCreatedAt()))
+                .thenReturn(0, 1);
+        when(customerOrderStatsRepository.insertIfAbsent(1L, 1, orderData.getTotalAmount(), orderData.getCreatedAt()))
+                .thenReturn(0);
+
+        // When
+        orderDataProvider.save(order, customer);
+
+        // Then
+        verify(customerOrderStatsRepository, times(2))
+                .addOrders(1L, 1, orderData.getTotalAmount(), orderData.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should aggregate customer stats per customer in customer order when saving a batch")
+    void shouldAggregateCustomerStatsPerCustomerInCustomerOrderWhenSavingBatch() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 10, 30);
+        CustomerData otherCustomerData = CustomerData.builder().customerId(2L).build();
+        Order secondOrder = new Order(2L, 1L, List.of(new OrderItem("Product 2", 1, Money.of("1.00"))));
+        Order otherCustomerOrder = new Order(3L, 2L, List.of(new OrderItem("Product 3", 3, Money.of("10.00"))));
+        OrderData firstData = orderData(1L, customerData, "20.00", createdAt);
+        OrderData secondData = orderData(2L, customerData, "1.00", createdAt.plusHours(1));
+        OrderData otherCustomerOrderData = orderData(3L, otherCustomerData, "30.00", createdAt);
+        when(customerRepository.getReferenceById(1L)).thenReturn(customerData);
+        when(customerRepository.getReferenceById(2L)).thenReturn(otherCustomerData);
+        when(orderMapper.toData(otherCustomerOrder, otherCustomerData)).thenReturn(otherCustomerOrderData);
+        when(orderMapper.toData(order, customerData)).thenReturn(firstData);
+        when(orderMapper.toData(secondOrder, customerData)).thenReturn(secondData);
+        when(customerOrderStatsRepository.addOrders(anyLong(), anyLong(), any(), any())).thenReturn(1);
+
+        // When
+        orderDataProvider.saveAll(List.of(otherCustomerOrder, order, secondOrder));
+
+        // Then
+        var inOrder = inOrder(orderRepository, customerOrderStatsRepository);
+        inOrder.verify(orderRepository).saveAll(List.of(otherCustomerOrderData, firstData, secondData));
+        inOrder.verify(customerOrderStatsRepository).addOrders(1L, 2, new BigDecimal("21.00"), createdAt.plusHours(1));
+        inOrder.verify(customerOrderStatsRepository).addOrders(2L, 1, new BigDecimal("30.00"), createdAt);
+        verifyNoMoreInteractions(customerOrderStatsRepository);
+    }
+
     @Test
     @DisplayName("Should find order by id successfully")
     void shouldFindOrderByIdSuccessfully() {
@@ -133,62 +290,68 @@ class OrderDataProviderImplTest {
     }
 
     @Test
-    @DisplayName("Should find order by id with items successfully")
-    void shouldFindOrderByIdWithItemsSuccessfully() {
+    @DisplayName("Should find orders by customer id successfully")
+    void shouldFindOrdersByCustomerIdSuccessfully() {
         // Given
-        Long orderId = 1L;
-        when(orderRepository.findByIdWithItems(orderId)).thenReturn(Optional.of(orderData));
+        Long customerId = 1L;
+        Pageable pageable = Pageable.ofSize(10);
+        Page<Long> orderIdsPage = new PageImpl<>(List.of(1L), pageable, 1);
+
+        when(orderRepository.findIdsByCustomerId(customerId, pageable)).thenReturn(orderIdsPage);
+        when(orderRepository.findAllWithItemsByIdIn(List.of(1L))).thenReturn(List.of(orderData));
         when(orderMapper.toDomain(orderData)).thenReturn(order);
 
         // When
-        Optional<Order> result = orderDataProvider.findByIdWithItems(orderId);
+        Page<Order> result = orderDataProvider.findByCustomerId(customerId, pageable);
 
         // Then
-        assertTrue(result.isPresent());
-        assertEquals(order.getOrderId(), result.get().getOrderId());
+        assertNotNull(result);
+        assertEquals(1, result.getContent().size());
+        assertEquals(order.getOrderId(), result.getContent().getFirst().getOrderId());
 
-        verify(orderRepository).findByIdWithItems(orderId);
+        verify(orderRepository).findIdsByCustomerId(customerId, pageable);
+        verify(orderRepository).findAllWithItemsByIdIn(List.of(1L));
         verify(orderMapper).toDomain(orderData);
     }
 
     @Test
-    @DisplayName("Should return empty when order not found by id with items")
-    void shouldReturnEmptyWhenOrderNotFoundByIdWithItems() {
+    @DisplayName("Should keep the page order of ids when items are fetched")
+    void shouldKeepPageOrderOfIdsWhenItemsAreFetched() {
         // Given
-        Long orderId = 999L;
-        when(orderRepository.findByIdWithItems(orderId)).thenReturn(Optional.empty());
+        Long customerId = 1L;
+        Pageable pageable = Pageable.ofSize(2);
+        OrderData newerOrderData = OrderData.builder().orderId(2L).customer(customerData).build();
+        Order newerOrder = new Order();
+        newerOrder.setOrderId(2L);
+        when(orderRepository.findIdsByCustomerId(customerId, pageable))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 5));
+        when(orderRepository.findAllWithItemsByIdIn(List.of(2L, 1L))).thenReturn(List.of(orderData, newerOrderData));
+        when(orderMapper.toDomain(orderData)).thenReturn(order);
+        when(orderMapper.toDomain(newerOrderData)).thenReturn(newerOrder);
 
         // When
-        Optional<Order> result = orderDataProvider.findByIdWithItems(orderId);
+        Page<Order> result = orderDataProvider.findByCustomerId(customerId, pageable);
 
         // Then
-        assertTrue(result.isEmpty());
-
-        verify(orderRepository).findByIdWithItems(orderId);
-        verify(orderMapper, never()).toDomain(any());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(Order::getOrderId).toList());
+        assertEquals(5, result.getTotalElements());
     }
 
     @Test
-    @DisplayName("Should find orders by customer id successfully")
-    void shouldFindOrdersByCustomerIdSuccessfully() {
+    @DisplayName("Should not fetch items for an empty page")
+    void shouldNotFetchItemsForEmptyPage() {
         // Given
         Long customerId = 1L;
         Pageable pageable = Pageable.ofSize(10);
-        Page<OrderData> orderDataPage = new PageImpl<>(List.of(orderData));
-
-        when(orderRepository.findByCustomerId(customerId, pageable)).thenReturn(orderDataPage);
-        when(orderMapper.toDomain(orderData)).thenReturn(order);
+        when(orderRepository.findIdsByCustomerId(customerId, pageable)).thenReturn(Page.empty(pageable));
 
         // When
         Page<Order> result = orderDataProvider.findByCustomerId(customerId, pageable);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.getContent().size());
-        assertEquals(order.getOrderId(), result.getContent().getFirst().getOrderId());
-
-        verify(orderRepository).findByCustomerId(customerId, pageable);
-        verify(orderMapper).toDomain(orderData);
+        assertTrue(result.isEmpty());
+        verify(orderRepository, never()).findAllWithItemsByIdIn(any());
+        verifyNoInteractions(orderMapper);
     }
 
     @Test
@@ -239,4 +402,40 @@ class OrderDataProviderImplTest {
 
         verify(orderRepository).existsById(orderId);
     }
+
+    @Test
+    @DisplayName("Should find existing order ids with a single query")
+    void shouldFindExistingOrderIdsWithSingleQuery() {
+        // Given
+        when(orderRepository.findExistingIds(new Long[]{1L, 2L, 3L})).thenReturn(List.of(1L, 3L));
+
+        // When
+        Set<Long> result = orderDataProvider.findExistingIds(List.of(1L, 2L, 3L));
+
+        // Then
+        assertEquals(Set.of(1L, 3L), result);
+        verify(orderRepository).findExistingIds(new Long[]{1L, 2L, 3L});
+        verify(orderRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("Should not query existing order ids for an empty collection")
+    void shouldNotQueryExistingOrderIdsForEmptyCollection() {
+        // When
+        Set<Long> result = orderDataProvider.findExistingIds(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(orderRepository);
+    }
+
+    private static OrderData orderData(Long orderId, CustomerData customerData, String totalAmount,
+                                       LocalDateTime createdAt) {
+        return OrderData.builder()
+                .orderId(orderId)
+                .customer(customerData)
+                .totalAmount(new BigDecimal(totalAmount))
+                .createdAt(createdAt)
+                .build();
+    }
 }
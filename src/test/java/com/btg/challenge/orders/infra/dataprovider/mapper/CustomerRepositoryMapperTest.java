@@ -1,6 +1,7 @@
 package com.btg.challenge.orders.infra.dataprovider.mapper;
 
 import com.btg.challenge.orders.domain.entity.Customer;
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.infra.repository.model.CustomerData;
@@ -263,8 +264,8 @@ class CustomerRepositoryMapperTest {
 
         customerData.setOrders(List.of(orderData1, orderData2));
 
-        OrderItem item1 = new OrderItem("Product1", 2, new BigDecimal("50.00"));
-        OrderItem item2 = new OrderItem("Product2", 1, new BigDecimal("250.00"));
+        OrderItem item1 = new OrderItem("Product1", 2, Money.of("50.00"));
+        OrderItem item2 = new OrderItem("Product2", 1, Money.of("250.00"));
 
         Order order1 = new Order(1L, 100L, List.of(item1));
         Order order2 = new Order(2L, 100L, List.of(item2));
@@ -278,8 +279,8 @@ class CustomerRepositoryMapperTest {
         // Then
         assertNotNull(result);
         assertEquals(2, result.getOrders().size());
-        assertEquals(new BigDecimal("100.00"), result.getOrders().get(0).getTotalAmount());
-        assertEquals(new BigDecimal("250.00"), result.getOrders().get(1).getTotalAmount());
+        assertEquals(Money.of("100.00"), result.getOrders().get(0).getTotalAmount());
+        assertEquals(Money.of("250.00"), result.getOrders().get(1).getTotalAmount());
         verify(orderRepositoryMapper).toDomain(orderData1);
         verify(orderRepositoryMapper).toDomain(orderData2);
     }
@@ -1,5 +1,6 @@
 package com.btg.challenge.orders.infra.dataprovider.mapper;
 
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.infra.repository.model.OrderData;
 import com.btg.challenge.orders.infra.repository.model.OrderItemData;
@@ -29,7 +30,7 @@ class OrderItemRepositoryMapperTest {
     @DisplayName("Should map OrderItem to OrderItemData successfully")
     void shouldMapOrderItemToOrderItemDataSuccessfully() {
         // Given
-        OrderItem orderItem = new OrderItem("Notebook", 2, new BigDecimal("1500.00"));
+        OrderItem orderItem = new OrderItem("Notebook", 2, Money.of("1500.00"));
 
         // When
         OrderItemData result = mapper.toOrderItemData(orderItem, orderData);
@@ -64,8 +65,28 @@ class OrderItemRepositoryMapperTest {
         assertEquals(123L, result.getItemId());
         assertEquals("Mouse", result.getProduct());
         assertEquals(3, result.getQuantity());
-        assertEquals(new BigDecimal("25.50"), result.getPrice());
-        assertEquals(new BigDecimal("76.50"), result.getTotalPrice());
+        assertEquals(Money.of("25.50"), result.getPrice());
+        assertEquals(Money.of("76.50"), result.getTotalPrice());
+    }
+
+    @Test
+    @DisplayName("Should keep the persisted total price instead of recomputing it")
+    void shouldKeepPersistedTotalPriceInsteadOfRecomputingIt() {
+        // Given
+        OrderItemData itemData = OrderItemData.builder()
+                .itemId(7L)
+                .product("Product")
+                .quantity(3)
+                .price(new BigDecimal("10.00"))
+                .totalPrice(new BigDecimal("29.00"))
+                .build();
+
+        // When
+        OrderItem result = mapper.toOrderItemDomain(itemData);
+
+        // Then
+        assertEquals(7L, result.getItemId());
+        assertEquals(Money.of("29.00"), result.getTotalPrice());
     }
 
     @Test
@@ -92,7 +113,7 @@ class OrderItemRepositoryMapperTest {
     @DisplayName("Should handle null OrderData parameter")
     void shouldHandleNullOrderDataParameter() {
         // Given
-        OrderItem orderItem = new OrderItem("Product", 1, new BigDecimal("10.00"));
+        OrderItem orderItem = new OrderItem("Product", 1, Money.of("10.00"));
         OrderData nullOrderData = null;
 
         // When
@@ -111,7 +132,7 @@ class OrderItemRepositoryMapperTest {
     @DisplayName("Should map OrderItem with zero price correctly")
     void shouldMapOrderItemWithZeroPriceCorrectly() {
         // Given
-        OrderItem orderItem = new OrderItem("Free Item", 5, BigDecimal.ZERO);
+        OrderItem orderItem = new OrderItem("Free Item", 5, Money.ZERO);
 
         // When
         OrderItemData result = mapper.toOrderItemData(orderItem, orderData);
@@ -120,8 +141,8 @@ class OrderItemRepositoryMapperTest {
         assertNotNull(result);
         assertEquals("Free Item", result.getProduct());
         assertEquals(5, result.getQuantity());
-        assertEquals(BigDecimal.ZERO, result.getPrice());
-        assertEquals(BigDecimal.ZERO, result.getTotalPrice());
+        assertEquals(new BigDecimal("0.00"), result.getPrice());
+        assertEquals(new BigDecimal("0.00"), result.getTotalPrice());
     }
 
     @Test
@@ -147,14 +168,14 @@ class OrderItemRepositoryMapperTest {
         assertNull(result.getQuantity());
         assertNull(result.getPrice());
         // totalPrice will be ZERO when quantity and price are null due to updateTotalPrice() logic
-        assertEquals(BigDecimal.ZERO, result.getTotalPrice());
+        assertEquals(Money.ZERO, result.getTotalPrice());
     }
 
     @Test
     @DisplayName("Should handle large quantities and prices correctly")
     void shouldHandleLargeQuantitiesAndPricesCorrectly() {
         // Given
-        OrderItem orderItem = new OrderItem("Expensive Item", 1000, new BigDecimal("999999.99"));
+        OrderItem orderItem = new OrderItem("Expensive Item", 1000, Money.of("999999.99"));
 
         // When
         OrderItemData result = mapper.toOrderItemData(orderItem, orderData);
@@ -168,25 +189,25 @@ class OrderItemRepositoryMapperTest {
     }
 
     @Test
-    @DisplayName("Should preserve decimal precision in price mapping")
-    void shouldPreserveDecimalPrecisionInPriceMapping() {
+    @DisplayName("Should round sub-cent prices half up before mapping")
+    void shouldRoundSubCentPricesHalfUpBeforeMapping() {
         // Given
-        OrderItem orderItem = new OrderItem("Precision Item", 3, new BigDecimal("33.333"));
+        OrderItem orderItem = new OrderItem("Precision Item", 3, Money.of("33.333"));
 
         // When
         OrderItemData result = mapper.toOrderItemData(orderItem, orderData);
 
         // Then
         assertNotNull(result);
-        assertEquals(new BigDecimal("33.333"), result.getPrice());
-        assertEquals(new BigDecimal("99.999"), result.getTotalPrice());
+        assertEquals(new BigDecimal("33.33"), result.getPrice());
+        assertEquals(new BigDecimal("99.99"), result.getTotalPrice());
     }
 
     @Test
     @DisplayName("Should handle round trip mapping correctly")
     void shouldHandleRoundTripMappingCorrectly() {
         // Given
-        OrderItem originalItem = new OrderItem("Round Trip Product", 4, new BigDecimal("12.75"));
+        OrderItem originalItem = new OrderItem("Round Trip Product", 4, Money.of("12.75"));
         originalItem.setItemId(456L);
 
         // When - map to data and back to domain
@@ -1,5 +1,6 @@
 package com.btg.challenge.orders.infra.dataprovider.mapper;
 
+import com.btg.challenge.orders.domain.entity.Money;
 import com.btg.challenge.orders.domain.entity.Order;
 import com.btg.challenge.orders.domain.entity.OrderItem;
 import com.btg.challenge.orders.infra.repository.model.CustomerData;
@@ -9,7 +10,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,7 +28,6 @@ class OrderRepositoryMapperTest {
     @Mock
     private OrderItemRepositoryMapper orderItemMapper;
 
-    @InjectMocks
     private OrderRepositoryMapper orderRepositoryMapper;
 
     private Order order;
@@ -38,14 +37,15 @@ class OrderRepositoryMapperTest {
 
     @BeforeEach
     void setUp() {
+        orderRepositoryMapper = new OrderRepositoryMapper(orderItemMapper, false);
         testDateTime = LocalDateTime.now();
 
         customerData = CustomerData.builder()
                 .customerId(100L)
                 .build();
 
-        OrderItem item1 = new OrderItem("Product1", 2, new BigDecimal("25.00"));
-        OrderItem item2 = new OrderItem("Product2", 1, new BigDecimal("50.00"));
+        OrderItem item1 = new OrderItem("Product1", 2, Money.of("25.00"));
+        OrderItem item2 = new OrderItem("Product2", 1, Money.of("50.00"));
 
         order = new Order(1L, 100L, List.of(item1, item2));
         order.setCreatedAt(testDateTime);
@@ -121,8 +121,8 @@ class OrderRepositoryMapperTest {
     @DisplayName("Should map OrderData to Order successfully")
     void shouldMapOrderDataToOrderSuccessfully() {
         // Given
-        OrderItem mockItem1 = new OrderItem("Product1", 2, new BigDecimal("25.00"));
-        OrderItem mockItem2 = new OrderItem("Product2", 1, new BigDecimal("50.00"));
+        OrderItem mockItem1 = new OrderItem("Product1", 2, Money.of("25.00"));
+        OrderItem mockItem2 = new OrderItem("Product2", 1, Money.of("50.00"));
 
         when(orderItemMapper.toOrderItemDomain(orderData.getItems().get(0))).thenReturn(mockItem1);
         when(orderItemMapper.toOrderItemDomain(orderData.getItems().get(1))).thenReturn(mockItem2);
@@ -134,7 +134,7 @@ class OrderRepositoryMapperTest {
         assertNotNull(result);
         assertEquals(1L, result.getOrderId());
         assertEquals(100L, result.getCustomerId());
-        assertEquals(new BigDecimal("100.00"), result.getTotalAmount());
+        assertEquals(Money.of("100.00"), result.getTotalAmount());
         assertEquals(2, result.getItemsCount());
         assertEquals(testDateTime, result.getCreatedAt());
         assertNotNull(result.getItems());
@@ -171,7 +171,7 @@ class OrderRepositoryMapperTest {
         assertNotNull(result);
         assertEquals(2L, result.getOrderId());
         assertEquals(customerData, result.getCustomer());
-        assertEquals(BigDecimal.ZERO, result.getTotalAmount());
+        assertEquals(new BigDecimal("0.00"), result.getTotalAmount());
         assertEquals(0, result.getItemsCount());
         assertNotNull(result.getItems());
         assertTrue(result.getItems().isEmpty());
@@ -199,7 +199,7 @@ class OrderRepositoryMapperTest {
         assertNotNull(result);
         assertEquals(3L, result.getOrderId());
         assertEquals(100L, result.getCustomerId());
-        assertEquals(BigDecimal.ZERO, result.getTotalAmount());
+        assertEquals(Money.ZERO, result.getTotalAmount());
         assertEquals(0, result.getItemsCount());
         assertEquals(testDateTime, result.getCreatedAt());
         assertNotNull(result.getItems());
@@ -246,7 +246,7 @@ class OrderRepositoryMapperTest {
     @DisplayName("Should handle single item order mapping")
     void shouldHandleSingleItemOrderMapping() {
         // Given
-        OrderItem singleItem = new OrderItem("Single Product", 1, new BigDecimal("99.99"));
+        OrderItem singleItem = new OrderItem("Single Product", 1, Money.of("99.99"));
         Order singleItemOrder = new Order(5L, 300L, List.of(singleItem));
 
         OrderItemData mockItemData = OrderItemData.builder().build();
@@ -270,9 +270,9 @@ class OrderRepositoryMapperTest {
     @DisplayName("Should preserve item order in mapping")
     void shouldPreserveItemOrderInMapping() {
         // Given
-        OrderItem item1 = new OrderItem("First", 1, new BigDecimal("10.00"));
-        OrderItem item2 = new OrderItem("Second", 1, new BigDecimal("20.00"));
-        OrderItem item3 = new OrderItem("Third", 1, new BigDecimal("30.00"));
+        OrderItem item1 = new OrderItem("First", 1, Money.of("10.00"));
+        OrderItem item2 = new OrderItem("Second", 1, Money.of("20.00"));
+        OrderItem item3 = new OrderItem("Third", 1, Money.of("30.00"));
 
         Order orderedItemsOrder = new Order(6L, 400L, List.of(item1, item2, item3));
 
@@ -301,7 +301,7 @@ class OrderRepositoryMapperTest {
         // Given
         List<OrderItem> manyItems = new ArrayList<>();
         for (int i = 1; i <= 10; i++) {
-            manyItems.add(new OrderItem("Product" + i, 1, new BigDecimal("10.00")));
+            manyItems.add(new OrderItem("Product" + i, 1, Money.of("10.00")));
         }
 
         Order largeOrder = new Order(7L, 500L, manyItems);
@@ -330,7 +330,7 @@ class OrderRepositoryMapperTest {
     void shouldHandleRoundTripMappingCorrectly() {
         // Given
         Long originalCustomerId = 600L;
-        OrderItem originalItem = new OrderItem("Round Trip Product", 2, new BigDecimal("15.50"));
+        OrderItem originalItem = new OrderItem("Round Trip Product", 2, Money.of("15.50"));
         Order originalOrder = new Order(8L, originalCustomerId, List.of(originalItem));
         originalOrder.setCreatedAt(testDateTime);
 
@@ -346,7 +346,7 @@ class OrderRepositoryMapperTest {
                 .totalPrice(new BigDecimal("31.00"))
                 .build();
 
-        OrderItem mappedItem = new OrderItem("Round Trip Product", 2, new BigDecimal("15.50"));
+        OrderItem mappedItem = new OrderItem("Round Trip Product", 2, Money.of("15.50"));
 
         when(orderItemMapper.toOrderItemData(eq(originalItem), any(OrderData.class))).thenReturn(mockItemData);
         when(orderItemMapper.toOrderItemDomain(mockItemData)).thenReturn(mappedItem);
@@ -369,8 +369,8 @@ class OrderRepositoryMapperTest {
     @DisplayName("Should handle complex order with decimal calculations")
     void shouldHandleComplexOrderWithDecimalCalculations() {
         // Given
-        OrderItem item1 = new OrderItem("Item1", 3, new BigDecimal("33.33"));
-        OrderItem item2 = new OrderItem("Item2", 2, new BigDecimal("66.67"));
+        OrderItem item1 = new OrderItem("Item1", 3, Money.of("33.33"));
+        OrderItem item2 = new OrderItem("Item2", 2, Money.of("66.67"));
         Order complexOrder = new Order(9L, 700L, List.of(item1, item2));
 
         when(orderItemMapper.toOrderItemData(eq(item1), any(OrderData.class)))
@@ -386,4 +386,57 @@ class OrderRepositoryMapperTest {
         assertEquals(new BigDecimal("233.33"), result.getTotalAmount());
         assertEquals(2, result.getItemsCount());
     }
+
+    @Test
+    @DisplayName("Should keep persisted totals when mapping OrderData to Order")
+    void shouldKeepPersistedTotalsWhenMappingOrderDataToOrder() {
+        // Given
+        orderData.setTotalAmount(new BigDecimal("90.00"));
+        when(orderItemMapper.toOrderItemDomain(any(OrderItemData.class)))
+                .thenReturn(new OrderItem("Product1", 2, Money.of("25.00")),
+                        new OrderItem("Product2", 1, Money.of("50.00")));
+
+        // When
+        Order result = orderRepositoryMapper.toDomain(orderData);
+
+        // Then
+        assertEquals(Money.of("90.00"), result.getTotalAmount());
+        assertEquals(2, result.getItemsCount());
+    }
+
+    @Test
+    @DisplayName("Should recompute totals from items when verification on load is enabled")
+    void shouldRecomputeTotalsFromItemsWhenVerificationOnLoadIsEnabled() {
+        // Given
+        OrderRepositoryMapper verifyingMapper = new OrderRepositoryMapper(orderItemMapper, true);
+        orderData.setTotalAmount(new BigDecimal("90.00"));
+        when(orderItemMapper.toOrderItemDomain(any(OrderItemData.class)))
+                .thenReturn(new OrderItem("Product1", 2, Money.of("25.00")),
+                        new OrderItem("Product2", 1, Money.of("50.00")));
+
+        // When
+        Order result = verifyingMapper.toDomain(orderData);
+
+        // Then
+        assertEquals(Money.of("100.00"), result.getTotalAmount());
+        assertEquals(2, result.getItemsCount());
+    }
+
+    @Test
+    @DisplayName("Should compute totals from items when none were persisted")
+    void shouldComputeTotalsFromItemsWhenNoneWerePersisted() {
+        // Given
+        orderData.setTotalAmount(null);
+        orderData.setItemsCount(null);
+        when(orderItemMapper.toOrderItemDomain(any(OrderItemData.class)))
+                .thenReturn(new OrderItem("Product1", 2, Money.of("25.00")),
+                        new OrderItem("Product2", 1, Money.of("50.00")));
+
+        // When
+        Order result = orderRepositoryMapper.toDomain(orderData);
+
+        // Then
+        assertEquals(Money.of("100.00"), result.getTotalAmount());
+        assertEquals(2, result.getItemsCount());
+    }
 }
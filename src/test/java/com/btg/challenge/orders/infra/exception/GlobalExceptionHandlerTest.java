@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -199,6 +200,29 @@ class GlobalExceptionHandlerTest {
         assertNotNull(errorResponse.getTimestamp());
     }
 
+    @Test
+    @DisplayName("Should handle ServiceOverloadedException with 503 and Retry-After")
+    void shouldHandleServiceOverloadedException() {
+        // Given
+        ServiceOverloadedException exception =
+                new ServiceOverloadedException("Too many concurrent requests, please retry later");
+
+        // When
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleServiceOverloaded(exception, webRequest);
+
+        // Then
+        assertNotNull(response);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        ErrorResponse errorResponse = response.getBody();
+        assertNotNull(errorResponse);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), errorResponse.getStatus());
+        assertEquals("Service Unavailable", errorResponse.getError());
+        assertEquals("Too many concurrent requests, please retry later", errorResponse.getMessage());
+        assertEquals(TEST_PATH, errorResponse.getPath());
+    }
+
     @Test
     @DisplayName("Should handle generic Exception correctly")
     void shouldHandleGenericException() {
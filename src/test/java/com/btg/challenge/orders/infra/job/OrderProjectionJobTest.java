@@ -0,0 +1,93 @@
+package com.btg.challenge.orders.infra.job;
+
+import com.btg.challenge.orders.infra.repository.OrderOutboxDataRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderProjectionJob Unit Tests")
+class OrderProjectionJobTest {
+
+    @Mock
+    private OrderProjector projector;
+
+    @Mock
+    private OrderOutboxDataRepository outboxRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderProjectionJob projectionJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectionJob = new OrderProjectionJob(projector, outboxRepository, meterRegistry, 100, false);
+    }
+
+    @Test
+    @DisplayName("Should keep projecting batches until a partial batch drains the outbox")
+    void shouldKeepProjectingBatchesUntilPartialBatchDrainsOutbox() {
+        // Given
+        when(projector.projectBatch(100)).thenReturn(100, 100, 42);
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+
+        // When
+        int result = projectionJob.project();
+
+        // Then
+        assertEquals(242, result);
+        verify(projector, times(3)).projectBatch(100);
+        assertEquals(242.0, meterRegistry.get(OrderProjectionJob.EVENTS_COUNTER).counter().count());
+        assertEquals(0.0, meterRegistry.get(OrderProjectionJob.LAG_GAUGE).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should publish the backlog and the age of the oldest pending event")
+    void shouldPublishBacklogAndAgeOfOldestPendingEvent() {
+        // Given
+        when(projector.projectBatch(100)).thenReturn(0);
+        when(outboxRepository.estimateBacklog()).thenReturn(Optional.of(7L));
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusSeconds(30)));
+
+        // When
+        projectionJob.project();
+
+        // Then
+        assertEquals(7.0, meterRegistry.get(OrderProjectionJob.BACKLOG_GAUGE).gauge().value());
+        assertEquals(30.0, meterRegistry.get(OrderProjectionJob.LAG_GAUGE).gauge().value(), 1.0);
+    }
+
+    @Test
+    @DisplayName("Should rebuild on startup only when enabled")
+    void shouldRebuildOnStartupOnlyWhenEnabled() {
+        // Given
+        OrderProjectionJob rebuildingJob = new OrderProjectionJob(projector, outboxRepository,
+                new SimpleMeterRegistry(), 100, true);
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+
+        // When
+        projectionJob.rebuildOnStartup();
+        rebuildingJob.rebuildOnStartup();
+
+        // Then
+        verify(projector, times(1)).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should reject a batch size below one")
+    void shouldRejectBatchSizeBelowOne() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderProjectionJob(projector, outboxRepository, new SimpleMeterRegistry(), 0, false));
+    }
+}
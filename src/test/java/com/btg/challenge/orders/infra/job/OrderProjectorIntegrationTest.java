@@ -0,0 +1,93 @@
+package com.btg.challenge.orders.infra.job;
+
+import com.btg.challenge.orders.infra.repository.CustomerOrderStatsDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderOutboxDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderTotalDataRepository;
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.CustomerOrderStatsData;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-projector;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderProjector.class)
+@DisplayName("OrderProjector Integration Tests")
+class OrderProjectorIntegrationTest {
+
+    @Autowired
+    private OrderProjector projector;
+
+    @Autowired
+    private OrderDataRepository orderRepository;
+
+    @Autowired
+    private OrderOutboxDataRepository outboxRepository;
+
+    @Autowired
+    private OrderTotalDataRepository orderTotalRepository;
+
+    @Autowired
+    private CustomerOrderStatsDataRepository customerOrderStatsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CustomerData customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = entityManager.persist(CustomerData.builder().customerId(100L).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should not count an order twice when a batch replays an event the rebuild already covered")
+    void shouldNotCountOrderTwiceWhenBatchReplaysEventRebuildAlreadyCovered() {
+        // Given
+        orderRepository.save(order(1L, "20.00"));
+        entityManager.flush();
+        projector.rebuild();
+        // An event committed after the rebuild cleared the outbox but before it read the orders
+        outboxRepository.appendFromOrders(new Long[]{1L});
+
+        // When
+        int projected = projector.projectBatch(10);
+        entityManager.clear();
+
+        // Then
+        assertEquals(1, projected);
+        assertEquals(0, outboxRepository.count());
+        assertEquals(1, orderTotalRepository.count());
+        CustomerOrderStatsData stats = customerOrderStatsRepository.findById(100L).orElseThrow();
+        assertEquals(1L, stats.getOrderCount());
+        assertEquals(0, new BigDecimal("20.00").compareTo(stats.getTotalAmount()));
+    }
+
+    private OrderData order(Long orderId, String totalAmount) {
+        return OrderData.builder()
+                .orderId(orderId)
+                .customer(customer)
+                .totalAmount(new BigDecimal(totalAmount))
+                .itemsCount(1)
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.btg.challenge.orders.infra.job;
+
+import com.btg.challenge.orders.infra.repository.CustomerOrderStatsDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderOutboxDataRepository;
+import com.btg.challenge.orders.infra.repository.OrderTotalDataRepository;
+import com.btg.challenge.orders.infra.repository.model.OrderOutboxData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderProjector Unit Tests")
+class OrderProjectorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 15, 10, 30);
+
+    @Mock
+    private OrderOutboxDataRepository outboxRepository;
+
+    @Mock
+    private OrderTotalDataRepository orderTotalRepository;
+
+    @Mock
+    private CustomerOrderStatsDataRepository customerOrderStatsRepository;
+
+    @InjectMocks
+    private OrderProjector projector;
+
+    @Test
+    @DisplayName("Should do nothing when the outbox is empty")
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        // Given
+        when(outboxRepository.findNextBatch(100)).thenReturn(List.of());
+
+        // When
+        int result = projector.projectBatch(100);
+
+        // Then
+        assertEquals(0, result);
+        verifyNoInteractions(orderTotalRepository, customerOrderStatsRepository);
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @Test
+    @DisplayName("Should project a batch into order totals and delete the applied events")
+    void shouldProjectBatchIntoOrderTotalsAndDeleteAppliedEvents() {
+        // Given
+        when(outboxRepository.findNextBatch(100)).thenReturn(List.of(
+                event(10L, 3L, 2L, "7.00"), event(11L, 1L, 1L, "10.00"), event(12L, 2L, 1L, "5.50")));
+
+        // When
+        int result = projector.projectBatch(100);
+
+        // Then
+        assertEquals(3, result);
+        InOrder inOrder = inOrder(orderTotalRepository, outboxRepository);
+        inOrder.verify(orderTotalRepository).insertFromOutbox(new Long[]{10L, 11L, 12L});
+        inOrder.verify(outboxRepository).deleteAllByIdInBatch(List.of(10L, 11L, 12L));
+        verifyNoInteractions(customerOrderStatsRepository);
+    }
+
+    @Test
+    @DisplayName("Should leave customer stats alone when a batch replays an order the rebuild already covered")
+    void shouldLeaveCustomerStatsAloneWhenBatchReplaysOrderRebuildAlreadyCovered() {
+        // Given
+        when(orderTotalRepository.insertFromOrders()).thenReturn(1);
+        when(customerOrderStatsRepository.insertFromOrders()).thenReturn(1);
+        when(outboxRepository.findNextBatch(100)).thenReturn(List.of(event(10L, 1L, 1L, "10.00")));
+        when(orderTotalRepository.insertFromOutbox(new Long[]{10L})).thenReturn(0);
+
+        // When
+        projector.rebuild();
+        int result = projector.projectBatch(100);
+
+        // Then
+        assertEquals(1, result);
+        verify(customerOrderStatsRepository).deleteAllInBatch();
+        verify(customerOrderStatsRepository).insertFromOrders();
+        verifyNoMoreInteractions(customerOrderStatsRepository);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("Should discard the outbox before recomputing the projections from orders")
+    void shouldDiscardOutboxBeforeRecomputingProjectionsFromOrders() {
+        // Given
+        when(orderTotalRepository.insertFromOrders()).thenReturn(5);
+        when(customerOrderStatsRepository.insertFromOrders()).thenReturn(3);
+
+        // When
+        int result = projector.rebuild();
+
+        // Then
+        assertEquals(5, result);
+        InOrder inOrder = inOrder(outboxRepository, orderTotalRepository, customerOrderStatsRepository);
+        inOrder.verify(outboxRepository).deleteAllInBatch();
+        inOrder.verify(orderTotalRepository).deleteAllInBatch();
+        inOrder.verify(orderTotalRepository).insertFromOrders();
+        inOrder.verify(customerOrderStatsRepository).deleteAllInBatch();
+        inOrder.verify(customerOrderStatsRepository).insertFromOrders();
+    }
+
+    @Test
+    @DisplayName("Should propagate repository failures so the rebuild rolls back")
+    void shouldPropagateRepositoryFailuresSoRebuildRollsBack() {
+        // Given
+        when(orderTotalRepository.insertFromOrders()).thenThrow(new RuntimeException("Database error"));
+
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> projector.rebuild());
+        assertEquals("Database error", exception.getMessage());
+        verify(customerOrderStatsRepository, never()).insertFromOrders();
+    }
+
+    private static OrderOutboxData event(Long eventId, Long orderId, Long customerId, String totalAmount) {
+        return OrderOutboxData.builder()
+                .eventId(eventId)
+                .orderId(orderId)
+                .customerId(customerId)
+                .totalAmount(new BigDecimal(totalAmount))
+                .itemsCount(1)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.btg.challenge.orders.infra.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogSampler Unit Tests")
+class LogSamplerTest {
+
+    @Test
+    @DisplayName("Should let one in every N calls through")
+    void shouldLetOneInEveryNCallsThrough() {
+        // Given
+        LogSampler logSampler = new LogSampler(100);
+
+        // When
+        long sampled = IntStream.range(0, 1_000).filter(i -> logSampler.sample()).count();
+
+        // Then
+        assertEquals(10, sampled);
+    }
+
+    @Test
+    @DisplayName("Should sample the first call so low traffic is still visible")
+    void shouldSampleFirstCall() {
+        // Given
+        LogSampler logSampler = new LogSampler(100);
+
+        // When & Then
+        assertTrue(logSampler.sample());
+        assertFalse(logSampler.sample());
+    }
+
+    @Test
+    @DisplayName("Should log every call when rate is one")
+    void shouldLogEveryCallWhenRateIsOne() {
+        // Given
+        LogSampler logSampler = new LogSampler(1);
+
+        // When & Then
+        assertTrue(IntStream.range(0, 10).allMatch(i -> logSampler.sample()));
+    }
+
+    @Test
+    @DisplayName("Should never log when rate is zero")
+    void shouldNeverLogWhenRateIsZero() {
+        // Given
+        LogSampler logSampler = new LogSampler(0);
+
+        // When & Then
+        assertTrue(IntStream.range(0, 10).noneMatch(i -> logSampler.sample()));
+    }
+
+    @Test
+    @DisplayName("Should reject negative rate")
+    void shouldRejectNegativeRate() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new LogSampler(-1));
+    }
+}
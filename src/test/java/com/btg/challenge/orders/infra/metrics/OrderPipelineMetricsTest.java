@@ -0,0 +1,176 @@
+package com.btg.challenge.orders.infra.metrics;
+
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Outcome;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics.Stage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderPipelineMetrics Unit Tests")
+class OrderPipelineMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderPipelineMetrics pipelineMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipelineMetrics = new OrderPipelineMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should pre-register every stage and outcome combination")
+    void shouldPreRegisterEveryStageAndOutcome() {
+        // Then
+        assertEquals(Stage.values().length * Outcome.values().length,
+                meterRegistry.get(OrderPipelineMetrics.STAGE_TIMER).timers().size());
+        assertEquals(Outcome.values().length, meterRegistry.get(OrderPipelineMetrics.MESSAGE_TIMER).timers().size());
+        assertEquals(Outcome.values().length, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).counters().size());
+    }
+
+    @Test
+    @DisplayName("Should time a stage with the outcome derived from its result")
+    void shouldTimeStageWithDerivedOutcome() {
+        // When
+        Boolean exists = pipelineMetrics.stage(Stage.DUPLICATE_CHECK, () -> true,
+                found -> found ? Outcome.DUPLICATE : Outcome.OK);
+
+        // Then
+        assertTrue(exists);
+        assertEquals(1, stageCount("duplicate_check", "duplicate"));
+        assertEquals(0, stageCount("duplicate_check", "ok"));
+    }
+
+    @Test
+    @DisplayName("Should record invalid and error outcomes and rethrow stage failures")
+    void shouldRecordFailedStagesAndRethrow() {
+        // When
+        assertThrows(IllegalArgumentException.class, () -> pipelineMetrics.stage(Stage.MAP, () -> {
+            throw new IllegalArgumentException("bad");
+        }));
+        assertThrows(IllegalStateException.class, () -> pipelineMetrics.stage(Stage.PERSIST, () -> {
+            throw new IllegalStateException("down");
+        }));
+
+        // Then
+        assertEquals(1, stageCount("map", "invalid"));
+        assertEquals(1, stageCount("persist", "error"));
+    }
+
+    @Test
+    @DisplayName("Should stop message timer and count outcome")
+    void shouldStopMessageTimerAndCountOutcome() {
+        // When
+        pipelineMetrics.message(pipelineMetrics.start(), Outcome.OK);
+        pipelineMetrics.messages(Outcome.DUPLICATE, 3);
+
+        // Then
+        assertEquals(1, meterRegistry.get(OrderPipelineMetrics.MESSAGE_TIMER).tag("outcome", "ok").timer().count());
+        assertEquals(1.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "ok").counter().count());
+        assertEquals(3.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "duplicate").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should record a message only after its transaction commits")
+    void shouldRecordMessageOnlyAfterItsTransactionCommits() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            pipelineMetrics.message(pipelineMetrics.start(), Outcome.OK);
+            double beforeCommit = meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "ok").counter().count();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+            // Then
+            assertEquals(0.0, beforeCommit);
+            assertEquals(1.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "ok").counter().count());
+            assertEquals(1, meterRegistry.get(OrderPipelineMetrics.MESSAGE_TIMER).tag("outcome", "ok").timer().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record a processed message as an error when its commit fails")
+    void shouldRecordProcessedMessageAsErrorWhenItsCommitFails() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            pipelineMetrics.message(pipelineMetrics.start(), Outcome.OK);
+            pipelineMetrics.message(pipelineMetrics.start(), Outcome.INVALID);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertEquals(0.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "ok").counter().count());
+            assertEquals(1.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "error").counter().count());
+            assertEquals(1.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "invalid").counter().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should count batch outcomes only after the transaction commits")
+    void shouldCountBatchOutcomesOnlyAfterTransactionCommits() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            pipelineMetrics.messages(Outcome.OK, 2);
+            double beforeCommit = meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "ok").counter().count();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            assertEquals(0.0, beforeCommit);
+            assertEquals(2.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "ok").counter().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not count batch outcomes of a rolled back transaction")
+    void shouldNotCountBatchOutcomesOfRolledBackTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            pipelineMetrics.messages(Outcome.OK, 2);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertEquals(0.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER).tag("outcome", "ok").counter().count());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should expose one in-flight gauge per listener")
+    void shouldExposeOneInFlightGaugePerListener() {
+        // When
+        AtomicInteger single = pipelineMetrics.inFlight("single");
+        single.addAndGet(2);
+
+        // Then
+        assertSame(single, pipelineMetrics.inFlight("single"));
+        assertEquals(2.0, meterRegistry.get(OrderPipelineMetrics.IN_FLIGHT_GAUGE).tag("listener", "single").gauge().value());
+        assertNull(meterRegistry.find(OrderPipelineMetrics.IN_FLIGHT_GAUGE).tag("listener", "batch").gauge());
+    }
+
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get(OrderPipelineMetrics.STAGE_TIMER)
+                .tags("stage", stage, "outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,54 @@
+package com.btg.challenge.orders.infra.mqprovider;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Jackson2CborMessageConverter Unit Tests")
+class Jackson2CborMessageConverterTest {
+
+    private final Jackson2CborMessageConverter converter = new Jackson2CborMessageConverter();
+
+    @Test
+    @DisplayName("Should round-trip an order message as CBOR")
+    void shouldRoundTripOrderMessageAsCbor() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1001L, 1L,
+                List.of(new OrderItemMessage("lápis", 100, new BigDecimal("1.10"))));
+
+        // When
+        Message message = converter.toMessage(orderMessage, new MessageProperties());
+        message.getMessageProperties().setInferredArgumentType(OrderMessage.class);
+        OrderMessage read = (OrderMessage) converter.fromMessage(message);
+
+        // Then
+        assertEquals(Jackson2CborMessageConverter.CONTENT_TYPE_CBOR, message.getMessageProperties().getContentType());
+        assertEquals(1001L, read.getCodigoPedido());
+        assertEquals(1L, read.getCodigoCliente());
+        assertEquals("lápis", read.getItens().getFirst().getProduto());
+        assertEquals(new BigDecimal("1.10"), read.getItens().getFirst().getPreco());
+    }
+
+    @Test
+    @DisplayName("Should encode the order in fewer bytes than JSON")
+    void shouldEncodeOrderInFewerBytesThanJson() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1001L, 1L, List.of(
+                new OrderItemMessage("lápis", 100, new BigDecimal("1.10")),
+                new OrderItemMessage("caderno", 10, new BigDecimal("1.00"))));
+
+        // When
+        int cborBytes = converter.toMessage(orderMessage, new MessageProperties()).getBody().length;
+        int jsonBytes = new Jackson2JsonMessageConverter().toMessage(orderMessage, new MessageProperties()).getBody().length;
+
+        // Then
+        assertTrue(cborBytes < jsonBytes, "CBOR " + cborBytes + " bytes, JSON " + jsonBytes + " bytes");
+    }
+}
@@ -0,0 +1,183 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.infra.mqprovider.consumer.ListenerConcurrencyController.Action;
+import com.btg.challenge.orders.infra.mqprovider.consumer.ListenerConcurrencyController.Decision;
+import com.btg.challenge.orders.infra.mqprovider.consumer.ListenerConcurrencyController.Reason;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListenerConcurrencyController Unit Tests")
+class ListenerConcurrencyControllerTest {
+
+    private static final String QUEUE = "orders.queue";
+
+    @Mock
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Mock
+    private AmqpAdmin amqpAdmin;
+
+    @Mock
+    private HikariDataSource dataSource;
+
+    @Mock
+    private HikariPoolMXBean hikariPool;
+
+    @Mock
+    private SimpleMessageListenerContainer container;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ListenerConcurrencyController controller;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(hikariPool);
+        controller = new ListenerConcurrencyController(listenerRegistry, amqpAdmin, dataSource, meterRegistry,
+                QUEUE, 2, 6, 100, 200);
+    }
+
+    @Test
+    @DisplayName("Should scale up while the backlog exceeds the depth per consumer")
+    void shouldScaleUpWhileBacklogExceedsDepthPerConsumer() {
+        // When
+        Decision decision = controller.decide(3, 301, 10, 0);
+
+        // Then
+        assertEquals(new Decision(4, Action.SCALE_UP, Reason.BACKLOG), decision);
+    }
+
+    @Test
+    @DisplayName("Should scale down when threads are waiting for a database connection")
+    void shouldScaleDownWhenThreadsAreWaitingForConnection() {
+        // When
+        Decision decision = controller.decide(4, 10_000, 10, 3);
+
+        // Then
+        assertEquals(new Decision(3, Action.SCALE_DOWN, Reason.DB_SATURATED), decision);
+    }
+
+    @Test
+    @DisplayName("Should hold while latency is above the limit even with a backlog")
+    void shouldHoldWhileLatencyIsAboveLimit() {
+        // When
+        Decision decision = controller.decide(3, 10_000, 250, 0);
+
+        // Then
+        assertEquals(new Decision(3, Action.HOLD, Reason.LATENCY), decision);
+    }
+
+    @Test
+    @DisplayName("Should scale down when the queue drains")
+    void shouldScaleDownWhenQueueDrains() {
+        // When
+        Decision decision = controller.decide(5, 10, 10, 0);
+
+        // Then
+        assertEquals(new Decision(4, Action.SCALE_DOWN, Reason.IDLE), decision);
+    }
+
+    @Test
+    @DisplayName("Should hold when the backlog matches the current consumers")
+    void shouldHoldWhenBacklogMatchesCurrentConsumers() {
+        // When
+        Decision decision = controller.decide(3, 250, 10, 0);
+
+        // Then
+        assertEquals(new Decision(3, Action.HOLD, Reason.STEADY), decision);
+    }
+
+    @Test
+    @DisplayName("Should keep consumers within the configured bounds")
+    void shouldKeepConsumersWithinConfiguredBounds() {
+        // When
+        Decision atMax = controller.decide(6, 10_000, 10, 0);
+        Decision atMin = controller.decide(2, 0, 10, 5);
+
+        // Then
+        assertEquals(new Decision(6, Action.HOLD, Reason.BACKLOG), atMax);
+        assertEquals(new Decision(2, Action.HOLD, Reason.DB_SATURATED), atMin);
+    }
+
+    @Test
+    @DisplayName("Should resize running containers and record the decision")
+    void shouldResizeRunningContainersAndRecordDecision() {
+        // Given
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+        when(container.isRunning()).thenReturn(true);
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 1_000, 2));
+        when(hikariPool.getThreadsAwaitingConnection()).thenReturn(0);
+
+        // When
+        controller.adjust();
+
+        // Then
+        InOrder inOrder = inOrder(container);
+        inOrder.verify(container).setMaxConcurrentConsumers(3);
+        inOrder.verify(container).setConcurrentConsumers(3);
+        assertEquals(3.0, meterRegistry.get(ListenerConcurrencyController.CONSUMERS_GAUGE).gauge().value());
+        assertEquals(1_000.0, meterRegistry.get(ListenerConcurrencyController.QUEUE_DEPTH_GAUGE).gauge().value());
+        assertEquals(1.0, meterRegistry.get(ListenerConcurrencyController.DECISIONS_COUNTER)
+                .tag("action", "scale_up").tag("reason", "backlog").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should lower the concurrent consumers before the maximum when scaling down")
+    void shouldLowerConcurrentConsumersBeforeMaximumWhenScalingDown() {
+        // Given
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+        when(container.isRunning()).thenReturn(true);
+        when(amqpAdmin.getQueueInfo(QUEUE)).thenReturn(new QueueInformation(QUEUE, 1_000, 2));
+        when(hikariPool.getThreadsAwaitingConnection()).thenReturn(0, 4);
+        controller.adjust();
+        clearInvocations(container);
+
+        // When
+        controller.adjust();
+
+        // Then
+        InOrder inOrder = inOrder(container);
+        inOrder.verify(container).setConcurrentConsumers(2);
+        inOrder.verify(container).setMaxConcurrentConsumers(2);
+        assertEquals(1.0, meterRegistry.get(ListenerConcurrencyController.DECISIONS_COUNTER)
+                .tag("action", "scale_down").tag("reason", "db_saturated").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should skip the run when no listener container is running")
+    void shouldSkipRunWhenNoContainerIsRunning() {
+        // Given
+        when(listenerRegistry.getListenerContainers()).thenReturn(List.of(container));
+        when(container.isRunning()).thenReturn(false);
+
+        // When
+        controller.adjust();
+
+        // Then
+        verifyNoInteractions(amqpAdmin);
+        verify(container, never()).setConcurrentConsumers(anyInt());
+        assertNull(meterRegistry.find(ListenerConcurrencyController.DECISIONS_COUNTER).counter());
+    }
+}
@@ -0,0 +1,145 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpIOException;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderAckBatcher Unit Tests")
+class OrderAckBatcherTest {
+
+    @Mock
+    private Channel channel;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderAckBatcher ackBatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ackBatcher = new OrderAckBatcher(3, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should ack with multiple flag once the batch size is reached")
+    void shouldAckWithMultipleFlagOnceBatchSizeIsReached() throws IOException {
+        // When
+        ackBatcher.ack(channel, 1L);
+        ackBatcher.ack(channel, 2L);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        ackBatcher.ack(channel, 3L);
+
+        // Then
+        verify(channel).basicAck(3L, true);
+        assertEquals(0.0, unacked());
+    }
+
+    @Test
+    @DisplayName("Should expose pending acks per consumer")
+    void shouldExposePendingAcksPerConsumer() {
+        // Given
+        when(channel.getChannelNumber()).thenReturn(4);
+
+        // When
+        ackBatcher.ack(channel, 1L);
+        ackBatcher.ack(channel, 2L);
+
+        // Then
+        assertEquals(2.0, meterRegistry.get(OrderAckBatcher.UNACKED_GAUGE).tag("consumer", "channel-4").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should flush pending acks on schedule")
+    void shouldFlushPendingAcksOnSchedule() throws IOException {
+        // Given
+        when(channel.isOpen()).thenReturn(true);
+        ackBatcher.ack(channel, 1L);
+        ackBatcher.ack(channel, 2L);
+
+        // When
+        ackBatcher.flushAll();
+        ackBatcher.flushAll();
+
+        // Then
+        verify(channel, times(1)).basicAck(2L, true);
+        assertEquals(0.0, unacked());
+    }
+
+    @Test
+    @DisplayName("Should flush pending acks before rejecting a failed delivery")
+    void shouldFlushPendingAcksBeforeRejecting() throws IOException {
+        // Given
+        ackBatcher.ack(channel, 1L);
+        ackBatcher.ack(channel, 2L);
+
+        // When
+        ackBatcher.reject(channel, 3L);
+
+        // Then
+        InOrder inOrder = inOrder(channel);
+        inOrder.verify(channel).basicAck(2L, true);
+        inOrder.verify(channel).basicReject(3L, false);
+    }
+
+    @Test
+    @DisplayName("Should reject without ack when nothing is pending")
+    void shouldRejectWithoutAckWhenNothingIsPending() throws IOException {
+        // When
+        ackBatcher.reject(channel, 1L);
+
+        // Then
+        verify(channel).basicReject(1L, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Should drop pending acks and gauge of a closed channel")
+    void shouldDropPendingAcksOfClosedChannel() throws IOException {
+        // Given
+        when(channel.isOpen()).thenReturn(false);
+        ackBatcher.ack(channel, 1L);
+
+        // When
+        ackBatcher.flushAll();
+
+        // Then
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        assertNull(meterRegistry.find(OrderAckBatcher.UNACKED_GAUGE).gauge());
+    }
+
+    @Test
+    @DisplayName("Should translate channel failures when acking")
+    void shouldTranslateChannelFailuresWhenAcking() throws IOException {
+        // Given
+        doThrow(new IOException("channel closed")).when(channel).basicAck(anyLong(), anyBoolean());
+        ackBatcher.ack(channel, 1L);
+        ackBatcher.ack(channel, 2L);
+
+        // When & Then
+        assertThrows(AmqpIOException.class, () -> ackBatcher.ack(channel, 3L));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive batch size")
+    void shouldRejectNonPositiveBatchSize() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new OrderAckBatcher(0, meterRegistry));
+    }
+
+    private double unacked() {
+        return meterRegistry.get(OrderAckBatcher.UNACKED_GAUGE).gauge().value();
+    }
+}
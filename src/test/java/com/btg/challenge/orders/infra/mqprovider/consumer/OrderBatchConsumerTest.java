@@ -0,0 +1,155 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.app.service.OrderMessagingService;
+import com.btg.challenge.orders.infra.config.RabbitMQConfig;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.retry.MessageRecoverer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderBatchConsumer Unit Tests")
+class OrderBatchConsumerTest {
+
+    @Mock
+    private OrderMessagingService orderMessagingService;
+
+    @Mock
+    private MessageRecoverer deadLetterRecoverer;
+
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+
+    private final OrderPipelineMetrics pipelineMetrics = new OrderPipelineMetrics(new SimpleMeterRegistry());
+
+    private OrderBatchConsumer orderBatchConsumer;
+
+    @BeforeEach
+    void setUp() {
+        orderBatchConsumer = new OrderBatchConsumer(orderMessagingService,
+                new OrderMessageReader(messageConverter, new RabbitMQConfig().orderMessageConverter(), pipelineMetrics), deadLetterRecoverer, pipelineMetrics);
+    }
+
+    @Test
+    @DisplayName("Should hand the whole batch to the messaging service")
+    void shouldHandWholeBatchToMessagingService() {
+        // Given
+        Message first = toMessage(1001L, 1L);
+        Message second = toMessage(1002L, 2L);
+        when(orderMessagingService.processOrderBatch(anyList())).thenReturn(List.of());
+
+        // When
+        orderBatchConsumer.processOrderBatch(List.of(first, second));
+
+        // Then
+        verify(orderMessagingService).processOrderBatch(argThat(orderMessages ->
+                orderMessages.size() == 2
+                        && orderMessages.get(0).getCodigoPedido().equals(1001L)
+                        && orderMessages.get(1).getCodigoPedido().equals(1002L)));
+        verify(orderMessagingService, never()).processOrderMessage(any());
+        verifyNoInteractions(deadLetterRecoverer);
+    }
+
+    @Test
+    @DisplayName("Should dead letter undecodable messages and process the rest")
+    void shouldDeadLetterUndecodableMessagesAndProcessTheRest() {
+        // Given
+        Message valid = toMessage(1001L, 1L);
+        Message poison = new Message("not-json".getBytes(), jsonProperties());
+        when(orderMessagingService.processOrderBatch(anyList())).thenReturn(List.of());
+
+        // When
+        orderBatchConsumer.processOrderBatch(List.of(valid, poison));
+
+        // Then
+        verify(deadLetterRecoverer).recover(same(poison), any());
+        verify(orderMessagingService).processOrderBatch(argThat(orderMessages -> orderMessages.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should dead letter messages rejected by the messaging service")
+    void shouldDeadLetterMessagesRejectedByMessagingService() {
+        // Given
+        Message valid = toMessage(1001L, 1L);
+        Message invalid = toMessage(1002L, 2L);
+        when(orderMessagingService.processOrderBatch(anyList())).thenAnswer(invocation -> {
+            List<OrderMessage> orderMessages = invocation.getArgument(0);
+            return List.of(orderMessages.get(1));
+        });
+
+        // When
+        orderBatchConsumer.processOrderBatch(List.of(valid, invalid));
+
+        // Then
+        verify(deadLetterRecoverer).recover(same(invalid), argThat(cause ->
+                cause instanceof IllegalArgumentException && "Invalid order data".equals(cause.getMessage())));
+        verify(deadLetterRecoverer, never()).recover(same(valid), any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to per-message processing when the batch fails")
+    void shouldFallBackToPerMessageProcessingWhenBatchFails() {
+        // Given
+        Message first = toMessage(1001L, 1L);
+        Message poison = toMessage(1002L, 2L);
+        RuntimeException failure = new RuntimeException("Constraint violation");
+        when(orderMessagingService.processOrderBatch(anyList())).thenThrow(failure);
+        doAnswer(invocation -> {
+            OrderMessage orderMessage = invocation.getArgument(0);
+            if (orderMessage.getCodigoPedido().equals(1002L)) {
+                throw failure;
+            }
+            return null;
+        }).when(orderMessagingService).processOrderMessage(any());
+
+        // When
+        assertDoesNotThrow(() -> orderBatchConsumer.processOrderBatch(List.of(first, poison)));
+
+        // Then
+        verify(orderMessagingService, times(2)).processOrderMessage(any());
+        verify(deadLetterRecoverer).recover(poison, failure);
+        verify(deadLetterRecoverer, never()).recover(same(first), any());
+    }
+
+    @Test
+    @DisplayName("Should not call the messaging service when no message could be decoded")
+    void shouldNotCallMessagingServiceWhenNoMessageCouldBeDecoded() {
+        // Given
+        Message nullPayload = new Message("null".getBytes(), jsonProperties());
+
+        // When
+        orderBatchConsumer.processOrderBatch(List.of(nullPayload));
+
+        // Then
+        verify(deadLetterRecoverer).recover(same(nullPayload), any());
+        verifyNoInteractions(orderMessagingService);
+    }
+
+    private Message toMessage(Long orderId, Long customerId) {
+        OrderMessage orderMessage = new OrderMessage(orderId, customerId,
+                List.of(new OrderItemMessage("Product A", 2, BigDecimal.valueOf(15.50))));
+        return messageConverter.toMessage(orderMessage, jsonProperties());
+    }
+
+    private MessageProperties jsonProperties() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        return properties;
+    }
+}
@@ -1,19 +1,31 @@
 package com.btg.challenge.orders.infra.mqprovider.consumer;
 
 import com.btg.challenge.orders.app.service.OrderMessagingService;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.config.RabbitMQConfig;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.btg.challenge.orders.infra.mqprovider.Jackson2CborMessageConverter;
 import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
 import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 
 import java.math.BigDecimal;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +35,19 @@ class OrderConsumerTest {
     @Mock
     private OrderMessagingService orderMessagingService;
 
+    @Spy
+    private OrderPipelineMetrics pipelineMetrics = new OrderPipelineMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private OrderMessageReader orderMessageReader =
+            new OrderMessageReader(new Jackson2JsonMessageConverter(), new RabbitMQConfig().orderMessageConverter(), pipelineMetrics);
+
+    @Mock
+    private OrderAckBatcher ackBatcher;
+
+    @Mock
+    private Channel channel;
+
     @InjectMocks
     private OrderConsumer orderConsumer;
 
@@ -198,4 +223,81 @@ class OrderConsumerTest {
         verify(orderMessagingService, times(1)).processOrderMessage(orderMessage);
         verifyNoMoreInteractions(orderMessagingService);
     }
+
+    @Test
+    @DisplayName("Should read raw message and process it while tracking in-flight messages")
+    void shouldReadRawMessageAndTrackInFlight() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(7L);
+        Message message = new Jackson2JsonMessageConverter().toMessage(orderMessage, properties);
+        doAnswer(invocation -> {
+            assertEquals(1, pipelineMetrics.inFlight("single").get());
+            return null;
+        }).when(orderMessagingService).processOrder(any(Order.class));
+
+        // When
+        orderConsumer.onMessage(message, channel);
+
+        // Then
+        verify(orderMessagingService).processOrder(argThat(received ->
+                received.getOrderId().equals(123L) && received.getCustomerId().equals(456L)));
+        verify(ackBatcher).ack(channel, 7L);
+        verify(ackBatcher, never()).reject(any(), anyLong());
+        assertEquals(0, pipelineMetrics.inFlight("single").get());
+    }
+
+    @Test
+    @DisplayName("Should process CBOR message selected by content type")
+    void shouldProcessCborMessage() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(10L);
+        Message message = new Jackson2CborMessageConverter().toMessage(orderMessage, properties);
+
+        // When
+        orderConsumer.onMessage(message, channel);
+
+        // Then
+        verify(orderMessagingService).processOrder(argThat(received ->
+                received.getOrderId().equals(123L) && received.getCustomerId().equals(456L)));
+        verify(ackBatcher).ack(channel, 10L);
+    }
+
+    @Test
+    @DisplayName("Should reject unreadable message without calling messaging service")
+    void shouldRejectUnreadableMessage() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN);
+        properties.setDeliveryTag(8L);
+        Message message = new Message("not json".getBytes(), properties);
+
+        // When
+        orderConsumer.onMessage(message, channel);
+
+        // Then
+        verifyNoInteractions(orderMessagingService);
+        verify(ackBatcher).reject(channel, 8L);
+        verify(ackBatcher, never()).ack(any(), anyLong());
+        assertEquals(0, pipelineMetrics.inFlight("single").get());
+    }
+
+    @Test
+    @DisplayName("Should reject message when processing fails instead of acking it")
+    void shouldRejectMessageWhenProcessingFails() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(9L);
+        Message message = new Jackson2JsonMessageConverter().toMessage(orderMessage, properties);
+        doThrow(new IllegalArgumentException("Invalid order data"))
+                .when(orderMessagingService).processOrder(any(Order.class));
+
+        // When
+        assertDoesNotThrow(() -> orderConsumer.onMessage(message, channel));
+
+        // Then
+        verify(ackBatcher).reject(channel, 9L);
+        verify(ackBatcher, never()).ack(any(), anyLong());
+    }
 }
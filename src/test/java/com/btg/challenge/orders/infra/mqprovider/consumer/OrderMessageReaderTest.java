@@ -0,0 +1,133 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.infra.config.RabbitMQConfig;
+import com.btg.challenge.orders.infra.exception.OrderMessageNullException;
+import com.btg.challenge.orders.infra.metrics.OrderPipelineMetrics;
+import com.btg.challenge.orders.infra.mqprovider.Jackson2CborMessageConverter;
+import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderMessageReader Unit Tests")
+class OrderMessageReaderTest {
+
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderMessageReader orderMessageReader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderMessageReader = new OrderMessageReader(messageConverter, new RabbitMQConfig().orderMessageConverter(), new OrderPipelineMetrics(meterRegistry));
+    }
+
+    @Test
+    @DisplayName("Should read order message and time deserialization")
+    void shouldReadOrderMessageAndTimeDeserialization() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1001L, 1L,
+                List.of(new OrderItemMessage("lápis", 100, new BigDecimal("1.10"))));
+        Message message = messageConverter.toMessage(orderMessage, new MessageProperties());
+
+        // When
+        OrderMessage read = orderMessageReader.read(message);
+
+        // Then
+        assertEquals(1001L, read.getCodigoPedido());
+        assertEquals(1L, read.getCodigoCliente());
+        assertEquals(1, deserializeCount("ok"));
+    }
+
+    @Test
+    @DisplayName("Should count malformed payload as invalid message")
+    void shouldCountMalformedPayloadAsInvalidMessage() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        Message message = new Message("{\"codigoPedido\":".getBytes(), properties);
+
+        // When & Then
+        assertThrows(MessageConversionException.class, () -> orderMessageReader.read(message));
+        assertEquals(1, deserializeCount("invalid"));
+        assertEquals(1.0, meterRegistry.get(OrderPipelineMetrics.MESSAGES_COUNTER)
+                .tag("outcome", "invalid").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject payload that is not an order message")
+    void shouldRejectPayloadThatIsNotOrderMessage() {
+        // Given
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_TEXT_PLAIN);
+        Message message = new Message("hello".getBytes(), properties);
+
+        // When & Then
+        assertThrows(OrderMessageNullException.class, () -> orderMessageReader.read(message));
+        assertEquals(1, deserializeCount("invalid"));
+    }
+
+    @Test
+    @DisplayName("Should read domain order directly and time deserialization")
+    void shouldReadDomainOrderDirectly() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1001L, 1L,
+                List.of(new OrderItemMessage("lápis", 100, new BigDecimal("1.10"))));
+        Message message = messageConverter.toMessage(orderMessage, new MessageProperties());
+
+        // When
+        Order order = orderMessageReader.readOrder(message);
+
+        // Then
+        assertEquals(1001L, order.getOrderId());
+        assertEquals(1L, order.getCustomerId());
+        assertEquals(Money.of("110.00"), order.getTotalAmount());
+        assertEquals(1, deserializeCount("ok"));
+    }
+
+    @Test
+    @DisplayName("Should read domain order from a CBOR payload selected by content type")
+    void shouldReadDomainOrderFromCborPayload() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1001L, 1L,
+                List.of(new OrderItemMessage("lápis", 100, new BigDecimal("1.10"))));
+        Message message = new Jackson2CborMessageConverter().toMessage(orderMessage, new MessageProperties());
+
+        // When
+        Order order = orderMessageReader.readOrder(message);
+
+        // Then
+        assertEquals(1001L, order.getOrderId());
+        assertEquals(Money.of("110.00"), order.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("Should reject a null body when reading a domain order")
+    void shouldRejectNullBodyWhenReadingDomainOrder() {
+        // Given
+        Message message = new Message("null".getBytes(), new MessageProperties());
+
+        // When & Then
+        assertThrows(OrderMessageNullException.class, () -> orderMessageReader.readOrder(message));
+        assertEquals(1, deserializeCount("invalid"));
+    }
+
+    private long deserializeCount(String outcome) {
+        return meterRegistry.get(OrderPipelineMetrics.STAGE_TIMER)
+                .tags("stage", "deserialize", "outcome", outcome).timer().count();
+    }
+}
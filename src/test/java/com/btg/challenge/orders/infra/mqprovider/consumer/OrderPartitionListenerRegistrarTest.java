@@ -0,0 +1,76 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPartitionListenerRegistrar Unit Tests")
+class OrderPartitionListenerRegistrarTest {
+
+    @Mock
+    private OrderConsumer orderConsumer;
+
+    @Mock
+    private SimpleRabbitListenerContainerFactory containerFactory;
+
+    @Mock
+    private RabbitListenerEndpointRegistrar registrar;
+
+    @Mock
+    private Channel channel;
+
+    @Test
+    @DisplayName("Should register one single-consumer listener per partition queue")
+    void shouldRegisterOneSingleConsumerListenerPerPartitionQueue() {
+        // Given
+        OrderPartitionListenerRegistrar partitionRegistrar =
+                new OrderPartitionListenerRegistrar(orderConsumer, containerFactory, "orders.queue", 3);
+        ArgumentCaptor<SimpleRabbitListenerEndpoint> endpoints = ArgumentCaptor.forClass(SimpleRabbitListenerEndpoint.class);
+
+        // When
+        partitionRegistrar.configureRabbitListeners(registrar);
+
+        // Then
+        verify(registrar, times(3)).registerEndpoint(endpoints.capture(), eq(containerFactory));
+        assertEquals(List.of("orders-partition-0", "orders-partition-1", "orders-partition-2"),
+                endpoints.getAllValues().stream().map(SimpleRabbitListenerEndpoint::getId).toList());
+        assertEquals(List.of("orders.queue.p0", "orders.queue.p1", "orders.queue.p2"),
+                endpoints.getAllValues().stream().map(endpoint -> endpoint.getQueueNames().iterator().next()).toList());
+        endpoints.getAllValues().forEach(endpoint -> assertEquals("1-1", endpoint.getConcurrency()));
+    }
+
+    @Test
+    @DisplayName("Should hand partition messages to the order consumer with their channel")
+    void shouldHandPartitionMessagesToOrderConsumer() throws Exception {
+        // Given
+        OrderPartitionListenerRegistrar partitionRegistrar =
+                new OrderPartitionListenerRegistrar(orderConsumer, containerFactory, "orders.queue", 1);
+        ArgumentCaptor<SimpleRabbitListenerEndpoint> endpoint = ArgumentCaptor.forClass(SimpleRabbitListenerEndpoint.class);
+        partitionRegistrar.configureRabbitListeners(registrar);
+        verify(registrar).registerEndpoint(endpoint.capture(), eq(containerFactory));
+        Message message = new Message(new byte[0], new MessageProperties());
+
+        // When
+        ((ChannelAwareMessageListener) endpoint.getValue().getMessageListener()).onMessage(message, channel);
+
+        // Then
+        verify(orderConsumer).onMessage(message, channel);
+    }
+}
@@ -0,0 +1,181 @@
+package com.btg.challenge.orders.infra.mqprovider.consumer;
+
+import com.btg.challenge.orders.app.mapper.OrderMessageMapper;
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.btg.challenge.orders.infra.mqprovider.Jackson2CborMessageConverter;
+import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrderStreamingMessageConverter Unit Tests")
+class OrderStreamingMessageConverterTest {
+
+    private final OrderStreamingMessageConverter converter = new OrderStreamingMessageConverter();
+
+    @Test
+    @DisplayName("Should decode the same order as the Jackson converter followed by the mapper")
+    void shouldDecodeSameOrderAsJacksonConverterAndMapper() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1001L, 1L, List.of(
+                new OrderItemMessage("lápis", 100, new BigDecimal("1.10")),
+                new OrderItemMessage("caderno", 10, new BigDecimal("1.00"))));
+        Message message = new Jackson2JsonMessageConverter().toMessage(orderMessage, new MessageProperties());
+        Order expected = new OrderMessageMapper().toDomain(orderMessage);
+
+        // When
+        Order order = converter.fromMessage(message);
+
+        // Then
+        assertEquals(expected.getOrderId(), order.getOrderId());
+        assertEquals(expected.getCustomerId(), order.getCustomerId());
+        assertEquals(expected.getItemsCount(), order.getItemsCount());
+        assertEquals(expected.getTotalAmount(), order.getTotalAmount());
+        for (int i = 0; i < expected.getItems().size(); i++) {
+            OrderItem expectedItem = expected.getItems().get(i);
+            OrderItem item = order.getItems().get(i);
+            assertEquals(expectedItem.getProduct(), item.getProduct());
+            assertEquals(expectedItem.getQuantity(), item.getQuantity());
+            assertEquals(expectedItem.getPrice(), item.getPrice());
+            assertEquals(expectedItem.getTotalPrice(), item.getTotalPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("Should decode CBOR payloads with the same result as JSON")
+    void shouldDecodeCborPayloadsLikeJson() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1001L, 1L, List.of(
+                new OrderItemMessage("lápis", 100, new BigDecimal("1.10")),
+                new OrderItemMessage("caderno", 10, new BigDecimal("1.00"))));
+        OrderStreamingMessageConverter cborConverter =
+                new OrderStreamingMessageConverter(new CBORFactory(), new Jackson2CborMessageConverter());
+        Message cbor = cborConverter.toMessage(orderMessage, new MessageProperties());
+        Message json = converter.toMessage(orderMessage, new MessageProperties());
+
+        // When
+        Order fromCbor = cborConverter.fromMessage(cbor);
+        Order fromJson = converter.fromMessage(json);
+
+        // Then
+        assertEquals(fromJson.getOrderId(), fromCbor.getOrderId());
+        assertEquals(fromJson.getCustomerId(), fromCbor.getCustomerId());
+        assertEquals(fromJson.getItemsCount(), fromCbor.getItemsCount());
+        assertEquals(fromJson.getTotalAmount(), fromCbor.getTotalAmount());
+        assertEquals(fromJson.getItems().getFirst().getPrice(), fromCbor.getItems().getFirst().getPrice());
+        assertEquals("lápis", fromCbor.getItems().getFirst().getProduct());
+    }
+
+    @Test
+    @DisplayName("Should skip unknown fields and accept numbers sent as strings")
+    void shouldSkipUnknownFieldsAndAcceptNumbersAsStrings() {
+        // Given
+        Message message = message("""
+                {"origem":{"canal":"app","tags":["a","b"]},"codigoPedido":"7","codigoCliente":3,
+                 "itens":[{"produto":"borracha","extra":[1,2],"quantidade":"2","preco":"0.50"}]}""");
+
+        // When
+        Order order = converter.fromMessage(message);
+
+        // Then
+        assertEquals(7L, order.getOrderId());
+        assertEquals(3L, order.getCustomerId());
+        assertEquals(1, order.getItemsCount());
+        assertEquals(Money.of("1.00"), order.getTotalAmount());
+        assertTrue(order.isValid());
+    }
+
+    @Test
+    @DisplayName("Should read prices into exact cents and round sub-cent digits half up")
+    void shouldReadPricesIntoExactCentsAndRoundSubCentDigitsHalfUp() {
+        // Given
+        Message message = message("""
+                {"codigoPedido":7,"codigoCliente":3,"itens":[
+                 {"produto":"a","quantidade":1,"preco":12},
+                 {"produto":"b","quantidade":1,"preco":0.1},
+                 {"produto":"c","quantidade":1,"preco":-3.25},
+                 {"produto":"d","quantidade":1,"preco":1.005},
+                 {"produto":"e","quantidade":1,"preco":2.5E1}]}""");
+
+        // When
+        Order order = converter.fromMessage(message);
+
+        // Then
+        assertEquals(List.of(Money.of("12.00"), Money.of("0.10"), Money.of("-3.25"), Money.of("1.01"), Money.of("25.00")),
+                order.getItems().stream().map(OrderItem::getPrice).toList());
+        assertEquals(Money.of("34.86"), order.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("Should fail conversion when a price does not fit in cents")
+    void shouldFailConversionWhenPriceDoesNotFitInCents() {
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(
+                message("{\"itens\":[{\"quantidade\":1,\"preco\":99999999999999999999.99}]}")));
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(
+                message("{\"itens\":[{\"quantidade\":1,\"preco\":99999999999999999}]}")));
+    }
+
+    @Test
+    @DisplayName("Should keep missing fields null so the order fails validation")
+    void shouldKeepMissingFieldsNull() {
+        // Given
+        Message message = message("{\"codigoPedido\":7,\"itens\":[{\"produto\":\"borracha\"}]}");
+
+        // When
+        Order order = converter.fromMessage(message);
+
+        // Then
+        assertNull(order.getCustomerId());
+        assertNull(order.getItems().getFirst().getQuantity());
+        assertEquals(Money.ZERO, order.getTotalAmount());
+        assertFalse(order.isValid());
+    }
+
+    @Test
+    @DisplayName("Should return null for an empty or null body")
+    void shouldReturnNullForEmptyOrNullBody() {
+        assertNull(converter.fromMessage(message("")));
+        assertNull(converter.fromMessage(message("null")));
+    }
+
+    @Test
+    @DisplayName("Should fail conversion for malformed or truncated payloads")
+    void shouldFailConversionForMalformedPayloads() {
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message("not json")));
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message("{\"codigoPedido\":7,\"itens\":[")));
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message("{\"codigoPedido\":{}}")));
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message("{\"codigoPedido\":\"abc\"}")));
+        assertThrows(MessageConversionException.class, () -> converter.fromMessage(message("[1,2]")));
+    }
+
+    @Test
+    @DisplayName("Should write outgoing messages as JSON")
+    void shouldWriteOutgoingMessagesAsJson() {
+        // Given
+        OrderMessage orderMessage = new OrderMessage(1L, 2L, List.of());
+
+        // When
+        Message message = converter.toMessage(orderMessage, new MessageProperties());
+
+        // Then
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, message.getMessageProperties().getContentType());
+        assertEquals(1L, converter.fromMessage(message).getOrderId());
+    }
+
+    private static Message message(String body) {
+        return new Message(body.getBytes(StandardCharsets.UTF_8), new MessageProperties());
+    }
+}
@@ -0,0 +1,242 @@
+package com.btg.challenge.orders.infra.mqprovider.producer;
+
+import com.btg.challenge.orders.infra.exception.OrderPublishException;
+import com.btg.challenge.orders.infra.exception.ServiceOverloadedException;
+import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.math.BigDecimal;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderPublisher Unit Tests")
+class OrderPublisherTest {
+
+    private static final String EXCHANGE = "orders.exchange";
+    private static final String ROUTING_KEY = "orders.process";
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Test
+    @DisplayName("Should publish every chunk on one channel and collect all confirms")
+    void shouldPublishChunksOnOneChannelAndCollectConfirms() {
+        // Given
+        OrderPublisher orderPublisher = publisher(2, 10, 1000);
+        givenChannelInvocations();
+        givenBrokerConfirms(correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null)));
+
+        // When
+        OrderPublishResult result = orderPublisher.publishAll(orders(5));
+
+        // Then
+        assertEquals(new OrderPublishResult(5, 5, List.of()), result);
+        verify(rabbitTemplate, times(3)).invoke(any(RabbitOperations.OperationsCallback.class));
+        verify(rabbitTemplate, times(5)).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(OrderMessage.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+        assertEquals(10, orderPublisher.availableConfirmSlots());
+    }
+
+    @Test
+    @DisplayName("Should report nacked and returned orders as failed")
+    void shouldReportNackedAndReturnedOrdersAsFailed() {
+        // Given
+        OrderPublisher orderPublisher = publisher(10, 10, 1000);
+        givenChannelInvocations();
+        List<CorrelationData> correlations = new CopyOnWriteArrayList<>();
+        givenBrokerConfirms(correlations::add);
+
+        // When
+        CompletableFuture<OrderPublishResult> result = CompletableFuture.supplyAsync(() -> orderPublisher.publishAll(orders(3)));
+        await(() -> correlations.size() == 3);
+        correlations.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+        correlations.get(1).getFuture().complete(new CorrelationData.Confirm(false, "queue full"));
+        correlations.get(2).setReturned(new ReturnedMessage(new Message(new byte[0]), 312, "NO_ROUTE", EXCHANGE, ROUTING_KEY));
+        correlations.get(2).getFuture().complete(new CorrelationData.Confirm(true, null));
+
+        // Then
+        assertEquals(new OrderPublishResult(3, 1, List.of(2L, 3L)), result.join());
+        assertEquals(10, orderPublisher.availableConfirmSlots());
+    }
+
+    @Test
+    @DisplayName("Should fail publish and free its slot when the send itself fails")
+    void shouldFailPublishAndFreeSlotWhenSendFails() {
+        // Given
+        OrderPublisher orderPublisher = publisher(10, 10, 1000);
+        doThrow(new AmqpConnectException(new ConnectException("refused")))
+                .when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        // When
+        CompletableFuture<Void> confirm = orderPublisher.publish(orders(1).getFirst());
+
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, confirm::join);
+        assertInstanceOf(OrderPublishException.class, exception.getCause());
+        assertEquals(10, orderPublisher.availableConfirmSlots());
+    }
+
+    @Test
+    @DisplayName("Should hold a confirm slot until the broker confirms")
+    void shouldHoldConfirmSlotUntilBrokerConfirms() {
+        // Given
+        OrderPublisher orderPublisher = publisher(10, 1, 5000);
+        List<CorrelationData> correlations = new ArrayList<>();
+        givenBrokerConfirms(correlations::add);
+
+        // When
+        CompletableFuture<Void> confirm = orderPublisher.publish(orders(1).getFirst());
+
+        // Then
+        assertEquals(0, orderPublisher.availableConfirmSlots());
+        correlations.getFirst().getFuture().complete(new CorrelationData.Confirm(true, null));
+        assertDoesNotThrow(confirm::join);
+        assertEquals(1, orderPublisher.availableConfirmSlots());
+    }
+
+    @Test
+    @DisplayName("Should time out unconfirmed publishes and free their slot")
+    void shouldTimeOutUnconfirmedPublishes() {
+        // Given
+        OrderPublisher orderPublisher = publisher(10, 1, 50);
+        givenBrokerConfirms(correlation -> { });
+
+        // When
+        CompletableFuture<Void> confirm = orderPublisher.publish(orders(1).getFirst());
+
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, confirm::join);
+        assertInstanceOf(TimeoutException.class, exception.getCause());
+        assertEquals(1, orderPublisher.availableConfirmSlots());
+    }
+
+    @Test
+    @DisplayName("Should stop publishing and report unsent orders when no confirm slot can be taken")
+    void shouldStopPublishingAndReportUnsentOrdersWhenNoConfirmSlotCanBeTaken() {
+        // Given
+        OrderPublisher orderPublisher = publisher(2, 10, 1000);
+        givenChannelInvocations();
+        List<CorrelationData> correlations = new ArrayList<>();
+        givenBrokerConfirms(correlation -> {
+            correlations.add(correlation);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            if (correlations.size() == 2) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // When
+        OrderPublishResult result;
+        try {
+            result = orderPublisher.publishAll(orders(5));
+        } finally {
+            Thread.interrupted();
+        }
+
+        // Then
+        assertEquals(new OrderPublishResult(5, 2, List.of(3L, 4L, 5L)), result);
+        verify(rabbitTemplate, times(2)).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(OrderMessage.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+        assertEquals(10, orderPublisher.availableConfirmSlots());
+    }
+
+    @Test
+    @DisplayName("Should reject a single publish when no confirm slot can be taken")
+    void shouldRejectSinglePublishWhenNoConfirmSlotCanBeTaken() {
+        // Given
+        OrderPublisher orderPublisher = publisher(10, 1, 1000);
+        Thread.currentThread().interrupt();
+
+        // When & Then
+        try {
+            assertThrows(ServiceOverloadedException.class, () -> orderPublisher.publish(orders(1).getFirst()));
+        } finally {
+            Thread.interrupted();
+        }
+        verifyNoInteractions(rabbitTemplate);
+        assertEquals(1, orderPublisher.availableConfirmSlots());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive batch size or confirm window")
+    void shouldRejectNonPositiveSettings() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> publisher(0, 10, 1000));
+        assertThrows(IllegalArgumentException.class, () -> publisher(10, 0, 1000));
+    }
+
+    private OrderPublisher publisher(int batchSize, int maxOutstandingConfirms, long confirmTimeoutMillis) {
+        return new OrderPublisher(rabbitTemplate, EXCHANGE, ROUTING_KEY, batchSize, maxOutstandingConfirms, confirmTimeoutMillis);
+    }
+
+    @Test
+    @DisplayName("Should tag published messages with the customer header used for partitioning")
+    void shouldTagPublishedMessagesWithCustomerHeader() {
+        // Given
+        OrderPublisher orderPublisher = publisher(10, 10, 1000);
+        List<Message> sent = new ArrayList<>();
+        doAnswer(invocation -> {
+            Message message = new Message(new byte[0], new MessageProperties());
+            sent.add(invocation.getArgument(3, MessagePostProcessor.class).postProcessMessage(message));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        // When
+        orderPublisher.publish(orders(1).getFirst());
+
+        // Then
+        assertEquals("1", sent.getFirst().getMessageProperties().getHeader(OrderMessage.CUSTOMER_HEADER));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenChannelInvocations() {
+        when(rabbitTemplate.invoke(any(RabbitOperations.OperationsCallback.class))).thenAnswer(invocation ->
+                invocation.getArgument(0, RabbitOperations.OperationsCallback.class).doInRabbit(rabbitTemplate));
+    }
+
+    private void givenBrokerConfirms(Consumer<CorrelationData> broker) {
+        doAnswer(invocation -> {
+            broker.accept(invocation.getArgument(4, CorrelationData.class));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(eq(EXCHANGE), eq(ROUTING_KEY), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+    }
+
+    private static List<OrderMessage> orders(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(orderId -> new OrderMessage(orderId, 1L,
+                        List.of(new OrderItemMessage("lápis", 1, BigDecimal.ONE))))
+                .toList();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.CustomerOrderStatsData;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:customer-order-stats;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("CustomerOrderStatsDataRepository Integration Tests")
+class CustomerOrderStatsDataRepositoryTest {
+
+    @Autowired
+    private CustomerOrderStatsDataRepository customerOrderStatsRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(CustomerData.builder().customerId(100L).build());
+        entityManager.persist(CustomerData.builder().customerId(200L).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should create stats once and accumulate later orders")
+    void shouldCreateStatsOnceAndAccumulateLaterOrders() {
+        // Given
+        LocalDateTime firstOrderAt = LocalDateTime.of(2024, 3, 15, 10, 30);
+        LocalDateTime lastOrderAt = firstOrderAt.plusDays(1);
+
+        // When
+        int firstUpdate = customerOrderStatsRepository.addOrders(100L, 1, new BigDecimal("10.00"), firstOrderAt);
+        int firstInsert = customerOrderStatsRepository.insertIfAbsent(100L, 1, new BigDecimal("10.00"), firstOrderAt);
+        int secondInsert = customerOrderStatsRepository.insertIfAbsent(100L, 1, new BigDecimal("10.00"), firstOrderAt);
+        int secondUpdate = customerOrderStatsRepository.addOrders(100L, 2, new BigDecimal("5.50"), lastOrderAt);
+        int olderUpdate = customerOrderStatsRepository.addOrders(100L, 1, BigDecimal.ZERO, firstOrderAt);
+        entityManager.clear();
+
+        // Then
+        assertEquals(0, firstUpdate);
+        assertEquals(1, firstInsert);
+        assertEquals(0, secondInsert);
+        assertEquals(1, secondUpdate);
+        assertEquals(1, olderUpdate);
+        CustomerOrderStatsData stats = customerOrderStatsRepository.findById(100L).orElseThrow();
+        assertEquals(4L, stats.getOrderCount());
+        assertEquals(0, new BigDecimal("15.50").compareTo(stats.getTotalAmount()));
+        assertEquals(lastOrderAt, stats.getLastOrderAt());
+        assertEquals(Optional.of(4L), customerOrderStatsRepository.findOrderCountByCustomerId(100L));
+    }
+
+    @Test
+    @DisplayName("Should rebuild stats from the orders table")
+    void shouldRebuildStatsFromOrdersTable() {
+        // Given
+        CustomerData customer = entityManager.find(CustomerData.class, 100L);
+        entityManager.persist(OrderData.builder().orderId(1L).customer(customer).totalAmount(new BigDecimal("20.00")).build());
+        entityManager.persist(OrderData.builder().orderId(2L).customer(customer).totalAmount(new BigDecimal("30.00")).build());
+        entityManager.flush();
+        customerOrderStatsRepository.insertIfAbsent(100L, 99, BigDecimal.ONE, null);
+        customerOrderStatsRepository.insertIfAbsent(200L, 5, BigDecimal.TEN, null);
+
+        // When
+        customerOrderStatsRepository.deleteAllInBatch();
+        int rebuilt = customerOrderStatsRepository.insertFromOrders();
+        entityManager.clear();
+
+        // Then
+        assertEquals(1, rebuilt);
+        CustomerOrderStatsData stats = customerOrderStatsRepository.findById(100L).orElseThrow();
+        assertEquals(2L, stats.getOrderCount());
+        assertEquals(0, new BigDecimal("50.00").compareTo(stats.getTotalAmount()));
+        assertTrue(customerOrderStatsRepository.findOrderCountByCustomerId(200L).isEmpty());
+    }
+}
@@ -0,0 +1,146 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderCursor;
+import com.btg.challenge.orders.infra.dataprovider.OrderDataProviderImpl;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderItemRepositoryMapper;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderRepositoryMapper;
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import com.btg.challenge.orders.infra.repository.model.OrderItemData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({OrderDataProviderImpl.class, OrderRepositoryMapper.class, OrderItemRepositoryMapper.class})
+@DisplayName("Customer orders page query Integration Tests")
+class CustomerOrdersPageQueryTest {
+
+    private static final long CUSTOMER_ID = 100L;
+    private static final int ORDERS_COUNT = 30;
+    private static final int MAX_STATEMENTS_PER_PAGE = 3;
+    private static final int MAX_STATEMENTS_PER_SLICE = 2;
+
+    @Autowired
+    private OrderDataProviderImpl orderDataProvider;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        CustomerData customer = entityManager.persist(CustomerData.builder().customerId(CUSTOMER_ID).build());
+        for (long orderId = 1; orderId <= ORDERS_COUNT; orderId++) {
+            OrderData order = entityManager.persist(OrderData.builder()
+                    .orderId(orderId)
+                    .customer(customer)
+                    .totalAmount(new BigDecimal("30.00"))
+                    .itemsCount(2)
+                    .build());
+            entityManager.persist(OrderItemData.builder().order(order).product("Product A").quantity(1)
+                    .price(BigDecimal.TEN).totalPrice(BigDecimal.TEN).build());
+            entityManager.persist(OrderItemData.builder().order(order).product("Product B").quantity(2)
+                    .price(BigDecimal.TEN).totalPrice(new BigDecimal("20.00")).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 20})
+    @DisplayName("Should load a page of orders with items in a constant number of statements")
+    void shouldLoadPageOfOrdersWithItemsInConstantNumberOfStatements(int pageSize) {
+        // When
+        Page<Order> page = orderDataProvider.findByCustomerId(CUSTOMER_ID,
+                PageRequest.of(0, pageSize, Sort.by("createdAt").descending()));
+        page.forEach(order -> assertEquals(2, order.getItems().size()));
+
+        // Then
+        assertEquals(pageSize, page.getNumberOfElements());
+        assertEquals(ORDERS_COUNT, page.getTotalElements());
+        assertTrue(statistics.getPrepareStatementCount() <= MAX_STATEMENTS_PER_PAGE,
+                "Expected at most " + MAX_STATEMENTS_PER_PAGE + " statements but got "
+                        + statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {7, 30})
+    @DisplayName("Should keep the requested sort order across the two fetch phases")
+    void shouldKeepRequestedSortOrderAcrossTwoFetchPhases(int pageSize) {
+        // When
+        Page<Order> page = orderDataProvider.findByCustomerId(CUSTOMER_ID,
+                PageRequest.of(0, pageSize, Sort.by("orderId").descending()));
+
+        // Then
+        List<Long> orderIds = page.getContent().stream().map(Order::getOrderId).toList();
+        assertEquals((long) ORDERS_COUNT, orderIds.getFirst());
+        assertEquals(orderIds.stream().sorted((a, b) -> Long.compare(b, a)).toList(), orderIds);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 30})
+    @DisplayName("Should walk every order exactly once when seeking with the cursor")
+    void shouldWalkEveryOrderExactlyOnceWhenSeekingWithCursor(int pageSize) {
+        // Given
+        entityManager.getEntityManager()
+                .createNativeQuery("UPDATE orders SET created_at = :createdAt WHERE order_id > 10")
+                .setParameter("createdAt", LocalDateTime.of(2024, 1, 15, 10, 30))
+                .executeUpdate();
+        entityManager.clear();
+        statistics.clear();
+        List<Long> visitedOrderIds = new ArrayList<>();
+        OrderCursor after = null;
+        int pages = 0;
+
+        // When
+        Slice<Order> slice;
+        do {
+            slice = orderDataProvider.findByCustomerIdAfter(CUSTOMER_ID, after, pageSize);
+            slice.forEach(order -> visitedOrderIds.add(order.getOrderId()));
+            after = slice.hasNext() ? OrderCursor.of(slice.getContent().getLast()) : null;
+            pages++;
+        } while (slice.hasNext());
+
+        // Then
+        List<Long> expectedOrderIds = LongStream.concat(
+                        LongStream.iterate(10, orderId -> orderId >= 1, orderId -> orderId - 1),
+                        LongStream.iterate(ORDERS_COUNT, orderId -> orderId > 10, orderId -> orderId - 1))
+                .boxed()
+                .toList();
+        assertEquals(expectedOrderIds, visitedOrderIds);
+        assertTrue(statistics.getPrepareStatementCount() <= (long) pages * MAX_STATEMENTS_PER_SLICE,
+                "Expected at most " + MAX_STATEMENTS_PER_SLICE + " statements per slice but got "
+                        + statistics.getPrepareStatementCount() + " for " + pages + " slices");
+    }
+}
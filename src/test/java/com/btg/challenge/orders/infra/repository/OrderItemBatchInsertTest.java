@@ -0,0 +1,104 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.domain.entity.Customer;
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.Order;
+import com.btg.challenge.orders.domain.entity.OrderItem;
+import com.btg.challenge.orders.infra.config.JpaConfig;
+import com.btg.challenge.orders.infra.dataprovider.OrderDataProviderImpl;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderItemRepositoryMapper;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderRepositoryMapper;
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.OrderItemData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-item-batch-insert;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "orders.persistence.id-allocation-size=50"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, OrderDataProviderImpl.class, OrderRepositoryMapper.class, OrderItemRepositoryMapper.class})
+@DisplayName("Order item batch insert Integration Tests")
+class OrderItemBatchInsertTest {
+
+    private static final int ITEMS_COUNT = 50;
+
+    @Autowired
+    private OrderDataProviderImpl orderDataProvider;
+
+    @Autowired
+    private OrderItemDataRepository orderItemRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persistAndFlush(CustomerData.builder().customerId(100L).build());
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should write an order with 50 items in a handful of statements")
+    void shouldWriteOrderWithFiftyItemsInHandfulOfStatements() {
+        // Given
+        List<OrderItem> items = IntStream.rangeClosed(1, ITEMS_COUNT)
+                .mapToObj(i -> new OrderItem("Product " + i, 1, Money.of("10.00")))
+                .toList();
+        Order order = new Order(1L, 100L, items);
+
+        // When
+        orderDataProvider.save(order, new Customer(100L));
+        entityManager.flush();
+
+        // Then
+        assertEquals(ITEMS_COUNT, orderItemRepository.count());
+        assertTrue(statistics.getPrepareStatementCount() <= 7,
+                "Expected a handful of statements but got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should allocate item identifiers from a single sequence block")
+    void shouldAllocateItemIdentifiersFromSingleSequenceBlock() {
+        // Given
+        List<OrderItem> items = IntStream.rangeClosed(1, ITEMS_COUNT)
+                .mapToObj(i -> new OrderItem("Product " + i, 1, Money.of("10.00")))
+                .toList();
+
+        // When
+        orderDataProvider.save(new Order(2L, 100L, items), new Customer(100L));
+        entityManager.flush();
+
+        // Then
+        List<Long> itemIds = orderItemRepository.findAll().stream()
+                .map(OrderItemData::getItemId)
+                .sorted()
+                .toList();
+        assertEquals(ITEMS_COUNT - 1, itemIds.getLast() - itemIds.getFirst());
+    }
+}
@@ -0,0 +1,165 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import com.btg.challenge.orders.infra.repository.model.OrderOutboxData;
+import com.btg.challenge.orders.infra.repository.model.OrderTotalData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:order-outbox;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("OrderOutboxDataRepository Integration Tests")
+class OrderOutboxDataRepositoryTest {
+
+    @Autowired
+    private OrderOutboxDataRepository outboxRepository;
+
+    @Autowired
+    private OrderTotalDataRepository orderTotalRepository;
+
+    @Autowired
+    private OrderDataRepository orderRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private CustomerData customer;
+
+    @BeforeEach
+    void setUp() {
+        customer = entityManager.persist(CustomerData.builder().customerId(100L).build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("Should append pending orders of the same transaction to the outbox")
+    void shouldAppendPendingOrdersOfSameTransactionToOutbox() {
+        // Given
+        orderRepository.saveAll(List.of(order(1L, "20.00"), order(2L, "30.00")));
+
+        // When
+        int appended = outboxRepository.appendFromOrders(new Long[]{1L, 2L});
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, appended);
+        List<OrderOutboxData> events = outboxRepository.findNextBatch(10);
+        assertEquals(List.of(1L, 2L), events.stream().map(OrderOutboxData::getOrderId).toList());
+        assertEquals(100L, events.get(0).getCustomerId());
+        assertEquals(0, new BigDecimal("30.00").compareTo(events.get(1).getTotalAmount()));
+        assertNotNull(events.get(0).getCreatedAt());
+        assertTrue(events.get(0).getEventId() < events.get(1).getEventId());
+        assertTrue(outboxRepository.findOldestCreatedAt().isPresent());
+    }
+
+    @Test
+    @DisplayName("Should report the oldest event and estimate the backlog from the event ids")
+    void shouldReportOldestEventAndEstimateBacklogFromEventIds() {
+        // Given
+        orderRepository.saveAll(List.of(order(1L, "20.00"), order(2L, "30.00"), order(3L, "40.00")));
+        outboxRepository.appendFromOrders(new Long[]{1L, 2L, 3L});
+        List<OrderOutboxData> events = outboxRepository.findNextBatch(10);
+        outboxRepository.deleteAllByIdInBatch(List.of(events.get(0).getEventId()));
+        entityManager.clear();
+
+        // When
+        Optional<Long> backlog = outboxRepository.estimateBacklog();
+        Optional<LocalDateTime> oldestCreatedAt = outboxRepository.findOldestCreatedAt();
+
+        // Then
+        assertEquals(Optional.of(2L), backlog);
+        assertEquals(events.get(1).getCreatedAt().truncatedTo(ChronoUnit.MILLIS),
+                oldestCreatedAt.orElseThrow().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("Should report no backlog when the outbox is empty")
+    void shouldReportNoBacklogWhenOutboxIsEmpty() {
+        assertTrue(outboxRepository.estimateBacklog().isEmpty());
+        assertTrue(outboxRepository.findOldestCreatedAt().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should read the outbox in event order up to the batch size")
+    void shouldReadOutboxInEventOrderUpToBatchSize() {
+        // Given
+        orderRepository.saveAll(List.of(order(1L, "20.00"), order(2L, "30.00"), order(3L, "40.00")));
+        outboxRepository.appendFromOrders(new Long[]{3L, 1L, 2L});
+
+        // When
+        List<OrderOutboxData> events = outboxRepository.findNextBatch(2);
+
+        // Then
+        assertEquals(List.of(1L, 2L), events.stream().map(OrderOutboxData::getOrderId).toList());
+    }
+
+    @Test
+    @DisplayName("Should project outbox events into order totals once")
+    void shouldProjectOutboxEventsIntoOrderTotalsOnce() {
+        // Given
+        orderRepository.saveAll(List.of(order(1L, "20.00"), order(2L, "30.00")));
+        outboxRepository.appendFromOrders(new Long[]{1L, 2L});
+        outboxRepository.appendFromOrders(new Long[]{1L});
+        Long[] eventIds = outboxRepository.findNextBatch(10).stream()
+                .map(OrderOutboxData::getEventId)
+                .toArray(Long[]::new);
+
+        // When
+        int projected = orderTotalRepository.insertFromOutbox(eventIds);
+        int reprojected = orderTotalRepository.insertFromOutbox(eventIds);
+        entityManager.clear();
+
+        // Then
+        assertEquals(2, projected);
+        assertEquals(0, reprojected);
+        assertEquals(2, orderTotalRepository.count());
+        OrderTotalData total = orderTotalRepository.findById(2L).orElseThrow();
+        assertEquals(100L, total.getCustomerId());
+        assertEquals(0, new BigDecimal("30.00").compareTo(total.getTotalAmount()));
+    }
+
+    @Test
+    @DisplayName("Should rebuild order totals from the orders table")
+    void shouldRebuildOrderTotalsFromOrdersTable() {
+        // Given
+        orderRepository.saveAll(List.of(order(1L, "20.00"), order(2L, "30.00")));
+        entityManager.flush();
+
+        // When
+        int rebuilt = orderTotalRepository.insertFromOrders();
+
+        // Then
+        assertEquals(2, rebuilt);
+        assertEquals(2, orderTotalRepository.count());
+    }
+
+    private OrderData order(Long orderId, String totalAmount) {
+        return OrderData.builder()
+                .orderId(orderId)
+                .customer(customer)
+                .totalAmount(new BigDecimal(totalAmount))
+                .itemsCount(1)
+                .build();
+    }
+}
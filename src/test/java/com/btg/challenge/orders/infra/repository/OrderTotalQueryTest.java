@@ -0,0 +1,180 @@
+package com.btg.challenge.orders.infra.repository;
+
+import com.btg.challenge.orders.domain.entity.Money;
+import com.btg.challenge.orders.domain.entity.OrderTotal;
+import com.btg.challenge.orders.infra.dataprovider.OrderDataProviderImpl;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderItemRepositoryMapper;
+import com.btg.challenge.orders.infra.dataprovider.mapper.OrderRepositoryMapper;
+import com.btg.challenge.orders.infra.repository.model.CustomerData;
+import com.btg.challenge.orders.infra.repository.model.OrderData;
+import com.btg.challenge.orders.infra.repository.model.OrderItemData;
+import com.btg.challenge.orders.infra.repository.model.OrderTotalData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({OrderDataProviderImpl.class, OrderRepositoryMapper.class, OrderItemRepositoryMapper.class})
+@DisplayName("Order total query Integration Tests")
+class OrderTotalQueryTest {
+
+    @Autowired
+    private OrderDataProviderImpl orderDataProvider;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        CustomerData customer = entityManager.persist(CustomerData.builder().customerId(100L).build());
+        OrderData order = entityManager.persist(OrderData.builder()
+                .orderId(1L)
+                .customer(customer)
+                .totalAmount(new BigDecimal("25.00"))
+                .itemsCount(2)
+                .build());
+        entityManager.persist(OrderItemData.builder().order(order).product("Product A").quantity(1)
+                .price(new BigDecimal("10.50")).totalPrice(new BigDecimal("10.50")).build());
+        entityManager.persist(OrderItemData.builder().order(order).product("Product B").quantity(3)
+                .price(new BigDecimal("6.50")).totalPrice(new BigDecimal("19.50")).build());
+        entityManager.persist(OrderData.builder()
+                .orderId(2L)
+                .customer(customer)
+                .itemsCount(0)
+                .build());
+        entityManager.persist(OrderTotalData.builder()
+                .orderId(1L)
+                .customerId(100L)
+                .totalAmount(new BigDecimal("25.00"))
+                .itemsCount(2)
+                .projectedAt(LocalDateTime.now())
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should read the projected total in one statement without loading items")
+    void shouldReadProjectedTotalInOneStatementWithoutLoadingItems() {
+        // When
+        Optional<OrderTotal> result = orderDataProvider.findTotalById(1L);
+
+        // Then
+        assertEquals(Optional.of(new OrderTotal(1L, Money.of("25.00"))), result);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should read the order total in the same statement when the order is not projected yet")
+    void shouldReadOrderTotalInSameStatementWhenOrderIsNotProjectedYet() {
+        // Given
+        entityManager.persist(OrderData.builder()
+                .orderId(3L)
+                .customer(entityManager.find(CustomerData.class, 100L))
+                .totalAmount(new BigDecimal("12.00"))
+                .itemsCount(1)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // When
+        Optional<OrderTotal> result = orderDataProvider.findTotalById(3L);
+
+        // Then
+        assertEquals(Optional.of(new OrderTotal(3L, Money.of("12.00"))), result);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should sum quantity times unit price of the items in SQL")
+    void shouldSumQuantityTimesUnitPriceOfItemsInSql() {
+        // When
+        Optional<OrderTotal> result = orderDataProvider.findItemsTotalById(1L);
+
+        // Then
+        assertEquals(Optional.of(new OrderTotal(1L, Money.of("30.00"))), result);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should report a zero total for orders without items or persisted total")
+    void shouldReportZeroTotalForOrdersWithoutItemsOrPersistedTotal() {
+        assertEquals(Optional.of(new OrderTotal(2L, Money.ZERO)), orderDataProvider.findTotalById(2L));
+        assertEquals(Optional.of(new OrderTotal(2L, Money.ZERO)), orderDataProvider.findItemsTotalById(2L));
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown orders")
+    void shouldReturnEmptyForUnknownOrders() {
+        assertTrue(orderDataProvider.findTotalById(999L).isEmpty());
+        assertTrue(orderDataProvider.findItemsTotalById(999L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should read the projected totals of many orders in one statement")
+    void shouldReadProjectedTotalsOfManyOrdersInOneStatement() {
+        // When
+        List<OrderTotal> result = orderDataProvider.findTotalsByIds(List.of(1L));
+
+        // Then
+        assertEquals(List.of(new OrderTotal(1L, Money.of("25.00"))), result);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should read projected and not yet projected totals in one statement")
+    void shouldReadProjectedAndNotYetProjectedTotalsInOneStatement() {
+        // When
+        List<OrderTotal> result = orderDataProvider.findTotalsByIds(List.of(1L, 2L, 999L));
+
+        // Then
+        assertEquals(2, result.size());
+        assertTrue(result.contains(new OrderTotal(1L, Money.of("25.00"))));
+        assertTrue(result.contains(new OrderTotal(2L, Money.ZERO)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Should sum the items of many orders in one grouped statement")
+    void shouldSumItemsOfManyOrdersInOneGroupedStatement() {
+        // When
+        List<OrderTotal> result = orderDataProvider.findItemsTotalsByIds(List.of(1L, 2L, 999L));
+
+        // Then
+        assertEquals(2, result.size());
+        assertTrue(result.contains(new OrderTotal(1L, Money.of("30.00"))));
+        assertTrue(result.contains(new OrderTotal(2L, Money.ZERO)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,288 @@
+package com.btg.challenge.orders.infra.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs each repository method against a seeded PostgreSQL and checks the plan of every statement it sends.
+ * The statements are not copied here: the data source explains the SQL Hibernate actually prepares, with the
+ * same bound parameters, right before executing it.
+ */
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Repository query plan Integration Tests")
+class RepositoryQueryPlanTest {
+
+    private static final int CUSTOMERS_COUNT = 2_000;
+    private static final int ORDERS_COUNT = 100_000;
+    private static final int ITEMS_PER_ORDER = 2;
+    private static final Long[] ORDER_IDS = {42L, 2042L, 4042L};
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final List<String> explainedPlans = new ArrayList<>();
+    private static volatile boolean explaining;
+    private static boolean seeded;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OrderDataRepository orderRepository;
+
+    @Autowired
+    private CustomerDataRepository customerRepository;
+
+    @Autowired
+    private OrderItemDataRepository orderItemRepository;
+
+    @Autowired
+    private OrderTotalDataRepository orderTotalRepository;
+
+    @Autowired
+    private OrderOutboxDataRepository outboxRepository;
+
+    @Autowired
+    private CustomerOrderStatsDataRepository customerOrderStatsRepository;
+
+    @TestConfiguration
+    static class ExplainingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor explainingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target ? new ExplainingDataSource(target) : bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (seeded) {
+            return;
+        }
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO customers (customer_id, created_at, updated_at) "
+                + "SELECT c, now(), now() FROM generate_series(1, ?) c", CUSTOMERS_COUNT);
+        jdbcTemplate.update("INSERT INTO orders (order_id, customer_id, total_amount, items_count, created_at, updated_at) "
+                + "SELECT o, 1 + o % ?, 30.00, ?, now() - o * interval '1 second', now() "
+                + "FROM generate_series(1, ?) o", CUSTOMERS_COUNT, ITEMS_PER_ORDER, ORDERS_COUNT);
+        jdbcTemplate.update("INSERT INTO order_items (item_id, order_id, product_name, quantity, unit_price, total_price, created_at) "
+                + "SELECT i, (i + ? - 1) / ?, 'Product', 1, 15.00, 15.00, now() "
+                + "FROM generate_series(1, ?) i", ITEMS_PER_ORDER, ITEMS_PER_ORDER, ORDERS_COUNT * ITEMS_PER_ORDER);
+        jdbcTemplate.update("INSERT INTO order_totals (order_id, customer_id, total_amount, items_count, projected_at) "
+                + "SELECT o.order_id, o.customer_id, o.total_amount, o.items_count, now() FROM orders o");
+        jdbcTemplate.update("INSERT INTO order_outbox (order_id, customer_id, total_amount, items_count, created_at) "
+                + "SELECT o.order_id, o.customer_id, o.total_amount, o.items_count, o.created_at "
+                + "FROM orders o ORDER BY o.order_id");
+        jdbcTemplate.update("INSERT INTO customer_order_stats (customer_id, order_count, total_amount, last_order_at, updated_at) "
+                + "SELECT o.customer_id, COUNT(*), SUM(o.total_amount), MAX(o.created_at), now() "
+                + "FROM orders o GROUP BY o.customer_id");
+        jdbcTemplate.execute("VACUUM ANALYZE customers, orders, order_items, order_totals, order_outbox, customer_order_stats");
+        seeded = true;
+    }
+
+    Stream<Arguments> repositoryQueries() {
+        LocalDateTime anHourAgo = LocalDateTime.now().minusHours(1);
+        BigDecimal amount = new BigDecimal("30.00");
+        return Stream.of(
+                query("OrderDataRepository.findIdsByCustomerId", () -> orderRepository.findIdsByCustomerId(42L,
+                        PageRequest.of(2, 20, Sort.by("createdAt").descending()))),
+                query("OrderDataRepository.findFirstIdsByCustomerId",
+                        () -> orderRepository.findFirstIdsByCustomerId(42L, Limit.of(21))),
+                query("OrderDataRepository.findIdsByCustomerIdAfter",
+                        () -> orderRepository.findIdsByCustomerIdAfter(42L, anHourAgo, 50_000L, Limit.of(21))),
+                query("OrderDataRepository.findAllWithItemsByIdIn",
+                        () -> orderRepository.findAllWithItemsByIdIn(List.of(42L, 2042L, 4042L, 6042L, 8042L))),
+                query("OrderDataRepository.findItemsTotalById", () -> orderRepository.findItemsTotalById(42L)),
+                query("OrderDataRepository.findItemsTotalsByIdIn", () -> orderRepository.findItemsTotalsByIdIn(ORDER_IDS)),
+                query("OrderDataRepository.countByCustomerId", () -> orderRepository.countByCustomerId(42L)),
+                query("OrderDataRepository.findExistingIds", () -> orderRepository.findExistingIds(ORDER_IDS)),
+                query("OrderDataRepository.findById", () -> orderRepository.findById(42L)),
+                query("OrderTotalDataRepository.findTotalById", () -> orderTotalRepository.findTotalById(42L)),
+                query("OrderTotalDataRepository.findTotalsByIdIn", () -> orderTotalRepository.findTotalsByIdIn(ORDER_IDS)),
+                query("OrderTotalDataRepository.insertFromOutbox",
+                        () -> orderTotalRepository.insertFromOutbox(new Long[]{42L, 2042L, 4042L})),
+                query("OrderOutboxDataRepository.appendFromOrders", () -> outboxRepository.appendFromOrders(ORDER_IDS)),
+                query("OrderOutboxDataRepository.findNextBatch", () -> outboxRepository.findNextBatch(500)),
+                query("OrderOutboxDataRepository.findOldestCreatedAt", () -> outboxRepository.findOldestCreatedAt()),
+                query("OrderOutboxDataRepository.estimateBacklog", () -> outboxRepository.estimateBacklog()),
+                query("CustomerOrderStatsDataRepository.findOrderCountByCustomerId",
+                        () -> customerOrderStatsRepository.findOrderCountByCustomerId(42L)),
+                query("CustomerOrderStatsDataRepository.addOrders",
+                        () -> customerOrderStatsRepository.addOrders(42L, 1, amount, anHourAgo)),
+                query("CustomerOrderStatsDataRepository.insertIfAbsent",
+                        () -> customerOrderStatsRepository.insertIfAbsent(42L, 1, amount, anHourAgo)),
+                query("CustomerDataRepository.findByIdWithOrders", () -> customerRepository.findByIdWithOrders(42L)),
+                query("CustomerDataRepository.insertMissing",
+                        () -> customerRepository.insertMissing(new Long[]{42L, 999_999L})),
+                query("OrderItemDataRepository.findByOrderId", () -> orderItemRepository.findByOrderId(42L)),
+                query("OrderItemDataRepository.findByCustomerId", () -> orderItemRepository.findByCustomerId(42L))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    @DisplayName("Should plan every repository query without sequential scans")
+    void shouldPlanEveryRepositoryQueryWithoutSequentialScans(String repositoryMethod, Runnable query) {
+        // When
+        List<String> plans = explain(query);
+
+        // Then
+        assertFalse(plans.isEmpty(), repositoryMethod + " sent no statement");
+        plans.forEach(plan -> assertFalse(plan.contains("Seq Scan"),
+                repositoryMethod + " plans a sequential scan:\n" + plan));
+    }
+
+    private static Arguments query(String repositoryMethod, Runnable query) {
+        return Arguments.of(repositoryMethod, query);
+    }
+
+    private List<String> explain(Runnable query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        synchronized (explainedPlans) {
+            explainedPlans.clear();
+            explaining = true;
+            try {
+                // Rolled back so writes such as insertFromOutbox leave the seeded data untouched for the next case
+                transaction.executeWithoutResult(status -> {
+                    query.run();
+                    status.setRollbackOnly();
+                });
+            } finally {
+                explaining = false;
+            }
+            return List.copyOf(explainedPlans);
+        }
+    }
+
+    private static final class ExplainingDataSource extends DelegatingDataSource {
+
+        private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+                "executeLargeUpdate");
+
+        private ExplainingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return explaining(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return explaining(super.getConnection(username, password));
+        }
+
+        private static Connection explaining(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+                            return explaining(connection, (String) args[0], statement);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement explaining(Connection connection, String sql, PreparedStatement statement) {
+            List<Invocation> parameters = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    (proxy, method, args) -> {
+                        if (isParameterSetter(method)) {
+                            parameters.add(new Invocation(method, args));
+                        } else if (explaining && EXECUTE_METHODS.contains(method.getName()) && args == null) {
+                            explainedPlans.add(explain(connection, sql, parameters));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static String explain(Connection connection, String sql, List<Invocation> parameters) throws Throwable {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (Invocation parameter : parameters) {
+                    invoke(explain, parameter.method(), parameter.args());
+                }
+                StringBuilder plan = new StringBuilder(sql).append('\n');
+                try (ResultSet rows = explain.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        }
+
+        // setXxx(int parameterIndex, ...) binds a parameter; setMaxRows(int) and friends configure the statement
+        private static boolean isParameterSetter(Method method) {
+            return method.getName().startsWith("set")
+                    && method.getParameterCount() >= 2
+                    && method.getParameterTypes()[0] == int.class;
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private record Invocation(Method method, Object[] args) {
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.btg.challenge.orders.infra.repository;
+
+import org.flywaydb.core.Flyway;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Schema migration Integration Tests")
+class SchemaMigrationTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:schema-migration-" + System.nanoTime()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should align the item sequence and backfill the read models on a database built by ddl-auto")
+    void shouldAlignItemSequenceAndBackfillReadModelsOnDatabaseBuiltByDdlAuto() {
+        // Given
+        jdbcTemplate.execute("CREATE TABLE customers (customer_id BIGINT PRIMARY KEY, created_at TIMESTAMP(6) NOT NULL, "
+                + "updated_at TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE TABLE orders (order_id BIGINT PRIMARY KEY, customer_id BIGINT NOT NULL, "
+                + "total_amount NUMERIC(19, 2), items_count INTEGER, created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6))");
+        jdbcTemplate.execute("CREATE SEQUENCE order_item_sequence START WITH 1 INCREMENT BY 1");
+        jdbcTemplate.update("INSERT INTO customers VALUES (1, CURRENT_TIMESTAMP, NULL), (2, CURRENT_TIMESTAMP, NULL)");
+        jdbcTemplate.update("INSERT INTO orders VALUES "
+                + "(10, 1, 20.00, 1, TIMESTAMP '2024-03-15 10:00:00', NULL), "
+                + "(11, 1, 30.00, 2, TIMESTAMP '2024-03-16 10:00:00', NULL), "
+                + "(12, 2, 5.00, 1, TIMESTAMP '2024-03-17 10:00:00', NULL)");
+
+        // When
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .placeholders(Map.of("idAllocationSize", "25"))
+                .load()
+                .migrate();
+
+        // Then
+        assertEquals(25L, jdbcTemplate.queryForObject(
+                "SELECT increment FROM information_schema.sequences WHERE sequence_name = 'order_item_sequence'", Long.class));
+        Map<String, Object> stats = jdbcTemplate.queryForMap(
+                "SELECT order_count, total_amount, last_order_at FROM customer_order_stats WHERE customer_id = 1");
+        assertEquals(2L, ((Number) stats.get("order_count")).longValue());
+        assertEquals(0, new BigDecimal("50.00").compareTo((BigDecimal) stats.get("total_amount")));
+        assertEquals("2024-03-16T10:00", stats.get("last_order_at").toString().replace(' ', 'T').substring(0, 16));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT order_count FROM customer_order_stats WHERE customer_id = 2", Long.class));
+        assertEquals(3L, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_totals", Long.class));
+        assertEquals(0, new BigDecimal("30.00").compareTo(jdbcTemplate.queryForObject(
+                "SELECT total_amount FROM order_totals WHERE order_id = 11", BigDecimal.class)));
+    }
+}
@@ -254,4 +254,21 @@ class CustomerDataTest {
         assertEquals(1, customerData.getOrders().size());
         assertEquals(newOrder, customerData.getOrders().getFirst());
     }
+
+    @Test
+    @DisplayName("Should be new until creation timestamp is set")
+    void shouldBeNewUntilCreationTimestampIsSet() {
+        // Given
+        CustomerData customer = CustomerData.builder().customerId(1L).build();
+
+        // Then
+        assertEquals(1L, customer.getId());
+        assertTrue(customer.isNew());
+
+        // When
+        customer.setCreatedAt(LocalDateTime.now());
+
+        // Then
+        assertFalse(customer.isNew());
+    }
 }
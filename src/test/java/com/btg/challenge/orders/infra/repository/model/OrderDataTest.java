@@ -401,4 +401,21 @@ class OrderDataTest {
         assertEquals(negativeAmount, orderData.getTotalAmount());
         assertTrue(orderData.getTotalAmount().compareTo(BigDecimal.ZERO) < 0);
     }
+
+    @Test
+    @DisplayName("Should be new until creation timestamp is set")
+    void shouldBeNewUntilCreationTimestampIsSet() {
+        // Given
+        OrderData order = OrderData.builder().orderId(1L).build();
+
+        // Then
+        assertEquals(1L, order.getId());
+        assertTrue(order.isNew());
+
+        // When
+        order.setCreatedAt(LocalDateTime.now());
+
+        // Then
+        assertFalse(order.isNew());
+    }
 }
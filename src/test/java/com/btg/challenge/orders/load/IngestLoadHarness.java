@@ -0,0 +1,114 @@
+package com.btg.challenge.orders.load;
+
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.rabbitmq.client.Channel;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareBatchMessageListener;
+import org.springframework.amqp.rabbit.listener.api.ChannelAwareMessageListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * Drives a listener container's {@link MessageListener} directly, bypassing the broker, so the whole
+ * conversion, service, use case and JPA path runs exactly as it does for deliveries. Batch listeners receive
+ * consecutive chunks of {@code batchSize} messages and every message in a chunk is charged the chunk latency.
+ */
+public class IngestLoadHarness {
+
+    private final MessageListener listener;
+    private final MessageConverter messageConverter;
+    private final LongSupplier statementCounter;
+    private final int concurrency;
+    private final int batchSize;
+
+    public IngestLoadHarness(MessageListener listener, MessageConverter messageConverter,
+                             LongSupplier statementCounter, int concurrency, int batchSize) {
+        this.listener = listener;
+        this.messageConverter = messageConverter;
+        this.statementCounter = statementCounter;
+        this.concurrency = concurrency;
+        this.batchSize = listener instanceof ChannelAwareBatchMessageListener ? Math.max(1, batchSize) : 1;
+    }
+
+    public IngestLoadReport run(List<OrderMessage> orderMessages) throws Exception {
+        List<List<Message>> units = new ArrayList<>();
+        for (int start = 0; start < orderMessages.size(); start += batchSize) {
+            units.add(orderMessages.subList(start, Math.min(start + batchSize, orderMessages.size())).stream()
+                    .map(orderMessage -> messageConverter.toMessage(orderMessage, new MessageProperties()))
+                    .toList());
+        }
+
+        long[] latencies = new long[orderMessages.size()];
+        AtomicInteger nextUnit = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        Channel channel = mock(Channel.class);
+
+        long statementsBefore = statementCounter.getAsLong();
+        long startedAt = System.nanoTime();
+        try (ExecutorService workers = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> running = new ArrayList<>(concurrency);
+            for (int worker = 0; worker < concurrency; worker++) {
+                running.add(workers.submit(() -> {
+                    int unit;
+                    while ((unit = nextUnit.getAndIncrement()) < units.size()) {
+                        List<Message> messages = units.get(unit);
+                        long unitStartedAt = System.nanoTime();
+                        failures.addAndGet(deliver(messages, channel));
+                        Arrays.fill(latencies, unit * batchSize, unit * batchSize + messages.size(),
+                                System.nanoTime() - unitStartedAt);
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        // Manual-ack listeners reject failed deliveries on the channel instead of throwing
+        failures.addAndGet((int) mockingDetails(channel).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("basicReject"))
+                .count());
+        long statements = statementCounter.getAsLong() - statementsBefore;
+
+        Arrays.sort(latencies);
+        return new IngestLoadReport(orderMessages.size(), failures.get(), elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1], statements);
+    }
+
+    private int deliver(List<Message> messages, Channel channel) {
+        try {
+            if (listener instanceof ChannelAwareBatchMessageListener batchListener) {
+                batchListener.onMessageBatch(messages, channel);
+            } else if (listener instanceof ChannelAwareMessageListener channelAwareListener) {
+                channelAwareListener.onMessage(messages.getFirst(), channel);
+            } else {
+                listener.onMessage(messages.getFirst());
+            }
+            return 0;
+        } catch (Exception e) {
+            return messages.size();
+        }
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+}
@@ -0,0 +1,104 @@
+package com.btg.challenge.orders.load;
+
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import com.btg.challenge.orders.infra.repository.OrderDataRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.amqp.rabbit.listener.AbstractMessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ingest throughput harness over the real listener pipeline and an in-memory PostgreSQL-compatible store.
+ * Runs a small smoke load by default; scale it with system properties, for example
+ * {@code mvn test -Dtest=IngestLoadHarnessTest -Dload.messages=50000 -Dload.customers=5000 -Dload.skew=1.2
+ * -Dload.items=1:60,10:30,100:9,1000:1 -Dload.concurrency=8 -Dload.batch-enabled=true}.
+ */
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingest-load;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=${load.pool-size:10}",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "orders.queue.listener.auto-startup=false",
+        "orders.processing.batch-enabled=${load.batch-enabled:false}",
+        "orders.processing.batch-size=${load.batch-size:100}",
+        "logging.level.com.btg.challenge.orders=${load.log-level:WARN}",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@DisplayName("Ingest load harness Integration Tests")
+class IngestLoadHarnessTest {
+
+    @Value("${orders.queue.name}")
+    private String ordersQueueName;
+
+    @Value("${orders.processing.batch-size}")
+    private int batchSize;
+
+    @Autowired
+    private RabbitListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private MessageConverter messageConverter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderDataRepository orderRepository;
+
+    @Test
+    @DisplayName("Should ingest a synthetic order stream through the listener pipeline and report throughput")
+    void shouldIngestSyntheticOrderStreamThroughListenerPipelineAndReportThroughput() throws Exception {
+        // Given
+        int messages = Integer.getInteger("load.messages", 200);
+        SyntheticOrderStream stream = new SyntheticOrderStream(
+                Long.getLong("load.seed", 42L),
+                Long.getLong("load.first-order-id", 1L),
+                Integer.getInteger("load.customers", 50),
+                Double.parseDouble(System.getProperty("load.skew", "1.1")),
+                System.getProperty("load.items", "1:70,10:25,100:5"));
+        List<OrderMessage> orderMessages = stream.next(messages);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        IngestLoadHarness harness = new IngestLoadHarness(ordersListener(), messageConverter,
+                statistics::getPrepareStatementCount, Integer.getInteger("load.concurrency", 3), batchSize);
+
+        // When
+        IngestLoadReport report = harness.run(orderMessages);
+        log.warn("Ingest load report: {}", report.format());
+
+        // Then
+        assertEquals(0, report.failures());
+        assertEquals(messages, orderRepository.count());
+        assertTrue(report.throughputPerSecond() > 0);
+        assertTrue(report.p50LatencyNanos() <= report.p99LatencyNanos());
+        assertTrue(report.statements() > 0);
+    }
+
+    private MessageListener ordersListener() {
+        return listenerRegistry.getListenerContainers().stream()
+                .map(AbstractMessageListenerContainer.class::cast)
+                .filter(container -> Arrays.asList(container.getQueueNames()).contains(ordersQueueName))
+                .findFirst()
+                .map(container -> (MessageListener) container.getMessageListener())
+                .orElseThrow(() -> new IllegalStateException("No listener container for " + ordersQueueName));
+    }
+}
@@ -0,0 +1,30 @@
+package com.btg.challenge.orders.load;
+
+import java.time.Duration;
+import java.util.Locale;
+
+public record IngestLoadReport(int messages,
+                               int failures,
+                               Duration elapsed,
+                               long p50LatencyNanos,
+                               long p99LatencyNanos,
+                               long maxLatencyNanos,
+                               long statements) {
+
+    public double throughputPerSecond() {
+        return elapsed.isZero() ? 0 : messages / (elapsed.toNanos() / 1_000_000_000d);
+    }
+
+    public double statementsPerMessage() {
+        return messages == 0 ? 0 : (double) statements / messages;
+    }
+
+    public String format() {
+        return String.format(Locale.ROOT,
+                "messages=%d failures=%d elapsed=%dms throughput=%.1f msg/s latency p50=%.2fms p99=%.2fms max=%.2fms "
+                        + "statements=%d (%.2f per message)",
+                messages, failures, elapsed.toMillis(), throughputPerSecond(),
+                p50LatencyNanos / 1e6, p99LatencyNanos / 1e6, maxLatencyNanos / 1e6,
+                statements, statementsPerMessage());
+    }
+}
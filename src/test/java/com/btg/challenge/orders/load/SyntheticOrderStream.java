@@ -0,0 +1,87 @@
+package com.btg.challenge.orders.load;
+
+import com.btg.challenge.orders.infra.mqprovider.OrderItemMessage;
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of {@link OrderMessage}s. Customers are drawn from a Zipf distribution (skew 0 is uniform)
+ * and item counts from a weighted table such as {@code "1:70,10:20,100:9,1000:1"}.
+ */
+public class SyntheticOrderStream {
+
+    private final SplittableRandom random;
+    private final double[] customerCumulative;
+    private final int[] itemCounts;
+    private final double[] itemCumulative;
+    private long nextOrderId;
+
+    public SyntheticOrderStream(long seed, long firstOrderId, int customers, double skew, String itemDistribution) {
+        if (customers <= 0) {
+            throw new IllegalArgumentException("customers must be positive: " + customers);
+        }
+        this.random = new SplittableRandom(seed);
+        this.nextOrderId = firstOrderId;
+        this.customerCumulative = zipfCumulative(customers, skew);
+
+        String[] entries = itemDistribution.split(",");
+        this.itemCounts = new int[entries.length];
+        double[] weights = new double[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] entry = entries[i].trim().split(":");
+            itemCounts[i] = Integer.parseInt(entry[0].trim());
+            weights[i] = entry.length > 1 ? Double.parseDouble(entry[1].trim()) : 1;
+        }
+        this.itemCumulative = cumulative(weights);
+    }
+
+    public OrderMessage next() {
+        long customerId = 1L + sample(customerCumulative);
+        int itemCount = itemCounts[sample(itemCumulative)];
+
+        List<OrderItemMessage> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItemMessage("product-" + random.nextInt(1_000),
+                    1 + random.nextInt(10),
+                    BigDecimal.valueOf(100 + random.nextInt(99_900), 2)));
+        }
+        return new OrderMessage(nextOrderId++, customerId, items);
+    }
+
+    public List<OrderMessage> next(int count) {
+        List<OrderMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(next());
+        }
+        return messages;
+    }
+
+    private int sample(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    private static double[] zipfCumulative(int customers, double skew) {
+        double[] weights = new double[customers];
+        for (int rank = 0; rank < customers; rank++) {
+            weights[rank] = 1 / Math.pow(rank + 1, skew);
+        }
+        return cumulative(weights);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double total = Arrays.stream(weights).sum();
+        double[] cumulative = new double[weights.length];
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            cumulative[i] = running / total;
+        }
+        return cumulative;
+    }
+}
@@ -0,0 +1,85 @@
+package com.btg.challenge.orders.load;
+
+import com.btg.challenge.orders.infra.mqprovider.OrderMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SyntheticOrderStream Unit Tests")
+class SyntheticOrderStreamTest {
+
+    @Test
+    @DisplayName("Should generate the same stream for the same seed")
+    void shouldGenerateSameStreamForSameSeed() {
+        // Given
+        SyntheticOrderStream first = new SyntheticOrderStream(7L, 1L, 100, 1.0, "1:1,10:1");
+        SyntheticOrderStream second = new SyntheticOrderStream(7L, 1L, 100, 1.0, "1:1,10:1");
+
+        // When
+        List<OrderMessage> firstMessages = first.next(50);
+        List<OrderMessage> secondMessages = second.next(50);
+
+        // Then
+        for (int i = 0; i < 50; i++) {
+            assertEquals(firstMessages.get(i).getCodigoCliente(), secondMessages.get(i).getCodigoCliente());
+            assertEquals(firstMessages.get(i).getItens().size(), secondMessages.get(i).getItens().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Should assign consecutive order ids starting from the configured id")
+    void shouldAssignConsecutiveOrderIdsStartingFromConfiguredId() {
+        // Given
+        SyntheticOrderStream stream = new SyntheticOrderStream(1L, 500L, 10, 0, "1");
+
+        // When
+        List<OrderMessage> messages = stream.next(3);
+
+        // Then
+        assertEquals(List.of(500L, 501L, 502L), messages.stream().map(OrderMessage::getCodigoPedido).toList());
+    }
+
+    @Test
+    @DisplayName("Should concentrate orders on the first customers when skewed")
+    void shouldConcentrateOrdersOnFirstCustomersWhenSkewed() {
+        // Given
+        SyntheticOrderStream uniform = new SyntheticOrderStream(3L, 1L, 1_000, 0, "1");
+        SyntheticOrderStream skewed = new SyntheticOrderStream(3L, 1L, 1_000, 1.5, "1");
+
+        // When
+        long uniformTopCustomer = uniform.next(10_000).stream().filter(message -> message.getCodigoCliente() == 1L).count();
+        long skewedTopCustomer = skewed.next(10_000).stream().filter(message -> message.getCodigoCliente() == 1L).count();
+
+        // Then
+        assertTrue(uniformTopCustomer < 100, "uniform top customer got " + uniformTopCustomer);
+        assertTrue(skewedTopCustomer > 3_000, "skewed top customer got " + skewedTopCustomer);
+    }
+
+    @Test
+    @DisplayName("Should only draw item counts from the weighted distribution")
+    void shouldOnlyDrawItemCountsFromWeightedDistribution() {
+        // Given
+        SyntheticOrderStream stream = new SyntheticOrderStream(5L, 1L, 10, 0, "1:90, 10:10");
+
+        // When
+        Map<Integer, Long> itemCounts = stream.next(2_000).stream()
+                .collect(Collectors.groupingBy(message -> message.getItens().size(), Collectors.counting()));
+
+        // Then
+        assertEquals(Set.of(1, 10), itemCounts.keySet());
+        assertTrue(itemCounts.get(1) > itemCounts.get(10) * 5);
+    }
+
+    @Test
+    @DisplayName("Should reject a non positive customer count")
+    void shouldRejectNonPositiveCustomerCount() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticOrderStream(1L, 1L, 0, 1.0, "1"));
+    }
+}